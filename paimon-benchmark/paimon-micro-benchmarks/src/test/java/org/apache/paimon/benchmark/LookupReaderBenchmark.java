@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.benchmark;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.hash.HashLookupStoreReader;
+import org.apache.paimon.lookup.hash.HashLookupStoreWriter;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** Benchmark for reading lookup files through the cache manager and through memory mapping. */
+public class LookupReaderBenchmark {
+
+    private static final int ROW_COUNT = 1_000_000;
+
+    @TempDir Path tempDir;
+    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+    @Test
+    public void testHitHeavy() throws Exception {
+        innerTest("lookup-hit-heavy", generateRandomInputs(0, ROW_COUNT));
+    }
+
+    @Test
+    public void testMissHeavy() throws Exception {
+        innerTest("lookup-miss-heavy", generateRandomInputs(ROW_COUNT / 10, ROW_COUNT * 10));
+    }
+
+    private byte[][] generateRandomInputs(int start, int end) {
+        byte[][] result = new byte[ROW_COUNT][];
+        for (int i = 0; i < ROW_COUNT; i++) {
+            result[i] = intToByteArray(rnd.nextInt(start, end));
+        }
+        return result;
+    }
+
+    private byte[] intToByteArray(int value) {
+        return new byte[] {
+            (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value
+        };
+    }
+
+    private void innerTest(String name, byte[][] probe) throws Exception {
+        Benchmark benchmark =
+                new Benchmark(name, probe.length).setNumWarmupIters(1).setOutputPerIteration(true);
+
+        int[] valueLengths = {8, 100, 1000};
+        for (int valueLength : valueLengths) {
+            for (boolean mmap : new boolean[] {false, true}) {
+                HashLookupStoreReader reader = writeData(valueLength, mmap);
+                benchmark.addCase(
+                        String.format("%s-%dB-value", mmap ? "mmap" : "cache", valueLength),
+                        5,
+                        () -> {
+                            try {
+                                for (byte[] key : probe) {
+                                    reader.lookup(key);
+                                }
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+            }
+        }
+
+        benchmark.run();
+    }
+
+    private HashLookupStoreReader writeData(int valueLength, boolean mmap) throws IOException {
+        byte[] value = new byte[valueLength];
+        Arrays.fill(value, (byte) 1);
+        HashLookupStoreFactory factory =
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(64)),
+                        16 * 1024,
+                        0.75,
+                        "none",
+                        mmap);
+
+        File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        HashLookupStoreWriter writer =
+                factory.createWriter(file, BloomFilter.builder(ROW_COUNT, 0.05));
+        for (int i = 0; i < ROW_COUNT; i++) {
+            writer.put(intToByteArray(i), value);
+        }
+        return factory.createReader(file, writer.close());
+    }
+}
@@ -363,6 +363,27 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the primary key table writer flushes a full write buffer in the background. "
+                                    + "The write buffer memory is split into two halves, one accepting new records "
+                                    + "while the other is sorted and written to a level 0 file. The write buffer "
+                                    + "is not spillable in this mode.");
+
+    public static final ConfigOption<Integer> WRITE_BUFFER_FLUSH_KEY_RANGE_SHARDS =
+            key("write-buffer-flush.key-range-shards")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of level 0 files a flush of the primary key table write "
+                                    + "buffer is split into. The files are cut at the key boundaries of the "
+                                    + "files in the highest non-empty level, so lookups only touch the level 0 "
+                                    + "files overlapping their key. Adjacent level 0 files with disjoint key "
+                                    + "ranges, such as the files of one flush, count as one sorted run.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -384,6 +405,13 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Cache size for reading manifest files for write initialization.");
 
+    public static final ConfigOption<String> WRITE_MANIFEST_CACHE_COMPRESSION =
+            key("write-manifest-cache.compression")
+                    .stringType()
+                    .defaultValue("lz4")
+                    .withDescription(
+                            "Compression for pages in write manifest cache, currently none, lz4, lzo and zstd are supported.");
+
     public static final ConfigOption<Integer> LOCAL_SORT_MAX_NUM_FILE_HANDLES =
             key("local-sort.max-num-file-handles")
                     .intType()
@@ -485,6 +513,52 @@ public class CoreOptions implements Serializable {
                                     + "for append-only table, even if sum(size(f_i)) < targetFileSize. This value "
                                     + "avoids pending too much small files, which slows down the performance.");
 
+    public static final ConfigOption<CompactionStyle> COMPACTION_STYLE =
+            key("compaction.style")
+                    .enumType(CompactionStyle.class)
+                    .defaultValue(CompactionStyle.UNIVERSAL)
+                    .withDescription("The compaction style for table with primary key.");
+
+    public static final ConfigOption<MemorySize> COMPACTION_LEVELED_BASE_LEVEL_SIZE =
+            key("compaction.leveled.base-level-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("256 mb"))
+                    .withDescription(
+                            "The target size of level 1 for leveled compaction style. The target size "
+                                    + "of each following level is multiplied by "
+                                    + "'compaction.leveled.size-multiplier', the max level is unlimited.");
+
+    public static final ConfigOption<Integer> COMPACTION_LEVELED_SIZE_MULTIPLIER =
+            key("compaction.leveled.size-multiplier")
+                    .intType()
+                    .defaultValue(10)
+                    .withDescription(
+                            "The ratio between the target sizes of two adjacent levels for leveled "
+                                    + "compaction style.");
+
+    public static final ConfigOption<Integer> COMPACTION_REWRITE_PARALLELISM =
+            key("compaction.rewrite-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads to rewrite a compaction of primary key table. The "
+                                    + "files to compact are split into non-overlapping key ranges which "
+                                    + "are merged in parallel, splitting the memory of '"
+                                    + SORT_SPILL_BUFFER_SIZE.key()
+                                    + "' between them. It does not work for tables which need lookup or "
+                                    + "full-compaction changelog producer.");
+
+    public static final ConfigOption<Integer> COMPACTION_SHARED_THREAD_NUM =
+            key("compaction.shared-thread-num")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The number of threads of a compaction thread pool shared by all writers "
+                                    + "in the process. Waiting compactions of primary key tables which are "
+                                    + "close to '"
+                                    + NUM_SORTED_RUNS_STOP_TRIGGER.key()
+                                    + "' run first. By default, each writer has its own compaction thread.");
+
     public static final ConfigOption<ChangelogProducer> CHANGELOG_PRODUCER =
             key("changelog-producer")
                     .enumType(ChangelogProducer.class)
@@ -731,12 +805,29 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Define partition by table options, cannot define partition on DDL and table options at the same time.");
 
+    public static final ConfigOption<LookupLocalFileType> LOOKUP_LOCAL_FILE_TYPE =
+            key("lookup.local-file-type")
+                    .enumType(LookupLocalFileType.class)
+                    .defaultValue(LookupLocalFileType.HASH)
+                    .withDescription("The local file type for lookup.");
+
     public static final ConfigOption<Float> LOOKUP_HASH_LOAD_FACTOR =
             key("lookup.hash-load-factor")
                     .floatType()
                     .defaultValue(0.75F)
                     .withDescription("The index load factor for lookup.");
 
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_MMAP_ENABLED =
+            key("lookup.cache-mmap-enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read local hash lookup files by memory mapping. Lookups"
+                                    + " probe the files in place in the OS page cache instead of"
+                                    + " copying pages to the heap cache limited by"
+                                    + " 'lookup.cache-max-memory-size'. Only works when"
+                                    + " 'lookup.cache-spill-compression' is 'none'.");
+
     public static final ConfigOption<Duration> LOOKUP_CACHE_FILE_RETENTION =
             key("lookup.cache-file-retention")
                     .durationType()
@@ -746,6 +837,34 @@ public class CoreOptions implements Serializable {
                                     + " if there is a need for access, it will be re-read from the DFS to build"
                                     + " an index on the local disk.");
 
+    public static final ConfigOption<Integer> LOOKUP_CACHE_FILE_PREBUILD_THREADS =
+            key("lookup.cache-file-prebuild.threads")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of threads to build lookup files in background when new"
+                                    + " data files are added by refreshing, so that lookups do not"
+                                    + " build them on first access. 0 means disabled.");
+
+    public static final ConfigOption<Duration> LOOKUP_CACHE_FILE_PREBUILD_TIMEOUT =
+            key("lookup.cache-file-prebuild.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(100))
+                    .withDescription(
+                            "The maximum time a lookup waits for a lookup file being built in"
+                                    + " background. After the timeout, the lookup scans the data"
+                                    + " file directly instead.");
+
+    public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
+            key("lookup.remote-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a lookup file for each data file produced by"
+                                    + " compaction. Lookups can download it directly instead of"
+                                    + " reading the data file and building the lookup file"
+                                    + " locally.");
+
     @Documentation.OverrideDefault("infinite")
     public static final ConfigOption<MemorySize> LOOKUP_CACHE_MAX_DISK_SIZE =
             key("lookup.cache-max-disk-size")
@@ -767,6 +886,29 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.parse("256 mb"))
                     .withDescription("Max memory size for lookup cache.");
 
+    public static final ConfigOption<MemorySize> LOOKUP_CACHE_SHARED_MEMORY_SIZE =
+            key("lookup.cache-shared-memory-size")
+                    .memoryType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Memory size of the lookup cache shared by all tables in the process."
+                                    + " If set, 'lookup.cache-max-memory-size' is the quota of the"
+                                    + " table in the shared cache: the table may borrow memory"
+                                    + " beyond its quota while the shared cache has free memory,"
+                                    + " and when the shared cache is full, a table exceeding its"
+                                    + " quota evicts its own pages. The first table creating the"
+                                    + " shared cache decides its size.");
+
+    public static final ConfigOption<Boolean> LOOKUP_CACHE_OFF_HEAP_ENABLED =
+            key("lookup.cache-off-heap.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to cache pages of lookup files in off-heap memory instead of"
+                                    + " on the heap. The off-heap memory is allocated up to the"
+                                    + " size of the lookup cache and pages are reused after"
+                                    + " eviction.");
+
     public static final ConfigOption<Boolean> LOOKUP_CACHE_BLOOM_FILTER_ENABLED =
             key("lookup.cache.bloom.filter.enabled")
                     .booleanType()
@@ -876,6 +1018,30 @@ public class CoreOptions implements Serializable {
                                     + " related to the number of initialized bucket, too small will lead to"
                                     + " insufficient processing speed of assigner.");
 
+    public static final ConfigOption<Boolean> DYNAMIC_BUCKET_INDEX_OFF_HEAP =
+            key("dynamic-bucket.index-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether the assigner operator for dynamic bucket mode keeps the key hash "
+                                    + "to bucket index in off-heap memory, which avoids long garbage "
+                                    + "collection pauses for huge indexes. The index is allocated "
+                                    + "in direct memory, which counts against the task off-heap "
+                                    + "memory of Flink, 0 by default, so increase "
+                                    + "'taskmanager.memory.task.off-heap.size' accordingly.");
+
+    public static final ConfigOption<Long> DYNAMIC_BUCKET_INDEX_MAX_ENTRIES =
+            key("dynamic-bucket.index-max-entries")
+                    .longType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The max number of key hashes cached by an assigner operator for dynamic "
+                                    + "bucket mode. When exceeded, indexes of the least recently used "
+                                    + "partitions whose assignments have been committed are evicted, "
+                                    + "and reloaded from the index files when they are written again. "
+                                    + "By default the indexes are only evicted once a partition is no "
+                                    + "longer written.");
+
     public static final ConfigOption<String> INCREMENTAL_BETWEEN =
             key("incremental-between")
                     .stringType()
@@ -1210,6 +1376,10 @@ public class CoreOptions implements Serializable {
         return options.get(WRITE_MANIFEST_CACHE);
     }
 
+    public String writeManifestCacheCompression() {
+        return options.get(WRITE_MANIFEST_CACHE_COMPRESSION);
+    }
+
     public String partitionDefaultName() {
         return options.get(PARTITION_DEFAULT_NAME);
     }
@@ -1383,6 +1553,14 @@ public class CoreOptions implements Serializable {
         return options.getOptional(WRITE_BUFFER_SPILLABLE).orElse(usingObjectStore || !isStreaming);
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public int writeBufferFlushKeyRangeShards() {
+        return options.get(WRITE_BUFFER_FLUSH_KEY_RANGE_SHARDS);
+    }
+
     public MemorySize writeBufferSpillDiskSize() {
         return options.get(WRITE_BUFFER_MAX_DISK_SIZE);
     }
@@ -1427,6 +1605,23 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_CACHE_MAX_MEMORY_SIZE);
     }
 
+    @Nullable
+    public MemorySize lookupCacheSharedMemory() {
+        return options.get(LOOKUP_CACHE_SHARED_MEMORY_SIZE);
+    }
+
+    public boolean lookupCacheOffHeap() {
+        return options.get(LOOKUP_CACHE_OFF_HEAP_ENABLED);
+    }
+
+    public LookupLocalFileType lookupLocalFileType() {
+        return options.get(LOOKUP_LOCAL_FILE_TYPE);
+    }
+
+    public boolean lookupRemoteFileEnabled() {
+        return options.get(LOOKUP_REMOTE_FILE_ENABLED);
+    }
+
     public long targetFileSize() {
         return options.get(TARGET_FILE_SIZE).getBytes();
     }
@@ -1485,6 +1680,27 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_MAX_FILE_NUM);
     }
 
+    @Nullable
+    public Integer compactionSharedThreadNum() {
+        return options.get(COMPACTION_SHARED_THREAD_NUM);
+    }
+
+    public CompactionStyle compactionStyle() {
+        return options.get(COMPACTION_STYLE);
+    }
+
+    public long compactionLeveledBaseLevelSize() {
+        return options.get(COMPACTION_LEVELED_BASE_LEVEL_SIZE).getBytes();
+    }
+
+    public int compactionLeveledSizeMultiplier() {
+        return options.get(COMPACTION_LEVELED_SIZE_MULTIPLIER);
+    }
+
+    public int compactionRewriteParallelism() {
+        return options.get(COMPACTION_REWRITE_PARALLELISM);
+    }
+
     public long dynamicBucketTargetRowNum() {
         return options.get(DYNAMIC_BUCKET_TARGET_ROW_NUM);
     }
@@ -1599,6 +1815,15 @@ public class CoreOptions implements Serializable {
         return options.get(DYNAMIC_BUCKET_INITIAL_BUCKETS);
     }
 
+    public boolean dynamicBucketIndexOffHeap() {
+        return options.get(DYNAMIC_BUCKET_INDEX_OFF_HEAP);
+    }
+
+    @Nullable
+    public Long dynamicBucketIndexMaxEntries() {
+        return options.get(DYNAMIC_BUCKET_INDEX_MAX_ENTRIES);
+    }
+
     public Integer dynamicBucketAssignerParallelism() {
         return options.get(DYNAMIC_BUCKET_ASSIGNER_PARALLELISM);
     }
@@ -2204,6 +2429,64 @@ public class CoreOptions implements Serializable {
         }
     }
 
+    /** Specifies the compaction style of table with primary key. */
+    public enum CompactionStyle implements DescribedEnum {
+        UNIVERSAL(
+                "universal",
+                "Compact whole sorted runs, trading read and space amplification for lower write"
+                        + " amplification."),
+        LEVELED(
+                "leveled",
+                "Keep each level under a target size by compacting single files into the"
+                        + " overlapping files of the next level, with steady compaction I/O and"
+                        + " lower read and space amplification.");
+
+        private final String value;
+        private final String description;
+
+        CompactionStyle(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
+    /** Specifies the local file type for lookup. */
+    public enum LookupLocalFileType implements DescribedEnum {
+        HASH("hash", "Construct a hash file for lookup."),
+        SORT(
+                "sort",
+                "Construct a sorted file of prefix-compressed blocks for lookup, which is built"
+                        + " by streaming the sorted data file without hashing.");
+
+        private final String value;
+        private final String description;
+
+        LookupLocalFileType(String value, String description) {
+            this.value = value;
+            this.description = description;
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        @Override
+        public InlineElement getDescription() {
+            return text(description);
+        }
+    }
+
     /** The mode for tag creation. */
     public enum TagCreationMode implements DescribedEnum {
         NONE("none", "No automatically created tags."),
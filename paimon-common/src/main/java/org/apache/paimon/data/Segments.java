@@ -41,4 +41,13 @@ public class Segments {
     public int limitInLastSegment() {
         return limitInLastSegment;
     }
+
+    /** Returns the memory size occupied by these segments. */
+    public long totalMemorySize() {
+        long size = 0;
+        for (MemorySegment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
 }
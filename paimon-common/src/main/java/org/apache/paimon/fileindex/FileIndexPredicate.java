@@ -18,6 +18,7 @@
 
 package org.apache.paimon.fileindex;
 
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
 import org.apache.paimon.fs.ByteArraySeekableStream;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
@@ -42,6 +43,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+
 /** Utils to check secondary index (e.g. bloom filter) predicate. */
 public class FileIndexPredicate implements Closeable {
 
@@ -61,8 +65,16 @@ public class FileIndexPredicate implements Closeable {
     }
 
     public boolean testPredicate(@Nullable Predicate filePredicate) {
+        return evaluate(filePredicate).remain();
+    }
+
+    /**
+     * Evaluate the predicate by the file indexes. Besides whether the file should be skipped, the
+     * result may be a {@link BitmapIndexResult} with the positions of the rows to read.
+     */
+    public FileIndexResult evaluate(@Nullable Predicate filePredicate) {
         if (filePredicate == null) {
-            return true;
+            return REMAIN;
         }
 
         Set<String> requredFieldNames = getRequiredNames(filePredicate);
@@ -79,12 +91,14 @@ public class FileIndexPredicate implements Closeable {
                                                                 reader.readColumnIndex(cname))))
                         .collect(Collectors.toList());
 
+        FileIndexResult result = REMAIN;
         for (FileIndexFieldPredicate testWorker : testWorkers) {
-            if (!testWorker.test(filePredicate)) {
-                return false;
+            result = result.and(testWorker.test(filePredicate));
+            if (!result.remain()) {
+                return SKIP;
             }
         }
-        return true;
+        return result;
     }
 
     private Set<String> getRequiredNames(Predicate filePredicate) {
@@ -114,7 +128,7 @@ public class FileIndexPredicate implements Closeable {
     }
 
     /** Predicate test worker. */
-    private static class FileIndexFieldPredicate implements PredicateVisitor<Boolean> {
+    private static class FileIndexFieldPredicate implements PredicateVisitor<FileIndexResult> {
 
         private final String columnName;
         private final Collection<FileIndexReader> fileIndexReaders;
@@ -125,44 +139,49 @@ public class FileIndexPredicate implements Closeable {
             this.fileIndexReaders = fileIndexReaders;
         }
 
-        public Boolean test(Predicate predicate) {
+        public FileIndexResult test(Predicate predicate) {
             return predicate.visit(this);
         }
 
         @Override
-        public Boolean visit(LeafPredicate predicate) {
+        public FileIndexResult visit(LeafPredicate predicate) {
+            FileIndexResult result = REMAIN;
             if (columnName.equals(predicate.fieldName())) {
                 FieldRef fieldRef =
                         new FieldRef(predicate.index(), predicate.fieldName(), predicate.type());
                 for (FileIndexReader fileIndexReader : fileIndexReaders) {
-                    if (!predicate
-                            .function()
-                            .visit(fileIndexReader, fieldRef, predicate.literals())) {
-                        return false;
+                    FileIndexResult readerResult =
+                            predicate
+                                    .function()
+                                    .visit(fileIndexReader, fieldRef, predicate.literals());
+                    result = result.and(readerResult);
+                    if (!result.remain()) {
+                        return SKIP;
                     }
                 }
             }
-            return true;
+            return result;
         }
 
         @Override
-        public Boolean visit(CompoundPredicate predicate) {
+        public FileIndexResult visit(CompoundPredicate predicate) {
 
             if (predicate.function() instanceof Or) {
+                FileIndexResult result = SKIP;
                 for (Predicate predicate1 : predicate.children()) {
-                    if (predicate1.visit(this)) {
-                        return true;
-                    }
+                    result = result.or(predicate1.visit(this));
                 }
-                return false;
+                return result;
 
             } else {
+                FileIndexResult result = REMAIN;
                 for (Predicate predicate1 : predicate.children()) {
-                    if (!predicate1.visit(this)) {
-                        return false;
+                    result = result.and(predicate1.visit(this));
+                    if (!result.remain()) {
+                        return SKIP;
                     }
                 }
-                return true;
+                return result;
             }
         }
     }
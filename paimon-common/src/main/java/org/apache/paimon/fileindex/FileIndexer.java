@@ -18,11 +18,15 @@
 
 package org.apache.paimon.fileindex;
 
+import org.apache.paimon.fileindex.bitmap.BitmapFileIndex;
 import org.apache.paimon.fileindex.bloomfilter.BloomFilterFileIndex;
+import org.apache.paimon.fileindex.zonemap.ZoneMapFileIndex;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.types.DataType;
 
+import static org.apache.paimon.fileindex.bitmap.BitmapFileIndex.BITMAP;
 import static org.apache.paimon.fileindex.bloomfilter.BloomFilterFileIndex.BLOOM_FILTER;
+import static org.apache.paimon.fileindex.zonemap.ZoneMapFileIndex.ZONE_MAP;
 
 /** File index interface. To build a file index. */
 public interface FileIndexer {
@@ -35,6 +39,10 @@ public interface FileIndexer {
         switch (type) {
             case BLOOM_FILTER:
                 return new BloomFilterFileIndex(dataType, options);
+            case BITMAP:
+                return new BitmapFileIndex(dataType, options);
+            case ZONE_MAP:
+                return new ZoneMapFileIndex(dataType, options);
             default:
                 throw new RuntimeException("Doesn't support filter type: " + type);
         }
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.bitmap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.CompareUtils;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+
+/**
+ * Bitmap for file index, stores a {@link RoaringBitmap32} of row positions per distinct value. It
+ * fits low cardinality columns, and besides skipping files, the {@link BitmapIndexResult} tells
+ * the positions of rows to read.
+ *
+ * <p>Serialized layout:
+ *
+ * <pre>
+ * ｜ version (1 byte) ｜ row count (int) ｜ null bitmap offset (int) ｜ value count (int) ｜
+ * ｜ value 1 ｜ bitmap offset (int) ｜ ... ｜ value n ｜ bitmap offset (int) ｜
+ * ｜ bitmaps ｜
+ * </pre>
+ *
+ * <p>Bitmap offsets are relative to the start of the bitmaps, -1 means no null values.
+ */
+public class BitmapFileIndex implements FileIndexer {
+
+    public static final String BITMAP = "bitmap";
+
+    private static final byte VERSION = 1;
+
+    private final DataType dataType;
+
+    public BitmapFileIndex(DataType dataType, Options options) {
+        switch (dataType.getTypeRoot()) {
+            case BINARY:
+            case VARBINARY:
+            case ARRAY:
+            case MAP:
+            case MULTISET:
+            case ROW:
+                throw new UnsupportedOperationException(
+                        "Bitmap file index does not support type " + dataType);
+            default:
+                this.dataType = dataType;
+        }
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(dataType);
+    }
+
+    @Override
+    public FileIndexReader createReader(byte[] serializedBytes) {
+        return new Reader(dataType, serializedBytes);
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final Serializer<Object> serializer;
+        private final Map<Object, RoaringBitmap32> valueBitmaps = new LinkedHashMap<>();
+        private final RoaringBitmap32 nullBitmap = new RoaringBitmap32();
+        private int rowNumber;
+
+        public Writer(DataType type) {
+            this.serializer = InternalSerializers.create(type);
+        }
+
+        @Override
+        public void writeRecord(Object key) {
+            if (key == null) {
+                nullBitmap.add(rowNumber);
+            }
+            super.writeRecord(key);
+            rowNumber++;
+        }
+
+        @Override
+        public void write(Object key) {
+            RoaringBitmap32 bitmap = valueBitmaps.get(key);
+            if (bitmap == null) {
+                // the key may be reused by the caller
+                bitmap = new RoaringBitmap32();
+                valueBitmaps.put(serializer.copy(key), bitmap);
+            }
+            bitmap.add(rowNumber);
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            try {
+                DataOutputSerializer body = new DataOutputSerializer(256);
+                int nullOffset = -1;
+                if (!nullBitmap.isEmpty()) {
+                    nullOffset = body.length();
+                    nullBitmap.serialize(body);
+                }
+
+                DataOutputSerializer out = new DataOutputSerializer(256);
+                out.writeByte(VERSION);
+                out.writeInt(rowNumber);
+                out.writeInt(nullOffset);
+                out.writeInt(valueBitmaps.size());
+                for (Map.Entry<Object, RoaringBitmap32> entry : valueBitmaps.entrySet()) {
+                    serializer.serialize(entry.getKey(), out);
+                    out.writeInt(body.length());
+                    entry.getValue().serialize(body);
+                }
+                out.write(body.getSharedBuffer(), 0, body.length());
+                return out.getCopyOfBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final DataType type;
+        private final byte[] bytes;
+        private final int rowCount;
+        private final int nullOffset;
+        private final Map<Object, Integer> valueOffsets;
+        private final int bitmapsStart;
+        private final Map<Integer, RoaringBitmap32> bitmaps = new HashMap<>();
+
+        public Reader(DataType type, byte[] serializedBytes) {
+            this.type = type;
+            this.bytes = serializedBytes;
+            Serializer<Object> serializer = InternalSerializers.create(type);
+            DataInputDeserializer in = new DataInputDeserializer(serializedBytes);
+            try {
+                byte version = in.readByte();
+                if (version != VERSION) {
+                    throw new IllegalArgumentException(
+                            "Unsupported bitmap file index version " + version);
+                }
+                this.rowCount = in.readInt();
+                this.nullOffset = in.readInt();
+                int valueCount = in.readInt();
+                this.valueOffsets = new LinkedHashMap<>();
+                for (int i = 0; i < valueCount; i++) {
+                    Object value = serializer.deserialize(in);
+                    valueOffsets.put(value, in.readInt());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            this.bitmapsStart = in.getPosition();
+        }
+
+        @Override
+        public FileIndexResult visitIsNull(FieldRef fieldRef) {
+            return new BitmapIndexResult(() -> bitmap(nullOffset));
+        }
+
+        @Override
+        public FileIndexResult visitIsNotNull(FieldRef fieldRef) {
+            return new BitmapIndexResult(this::nonNullRows);
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return new BitmapIndexResult(() -> valueBitmap(literal));
+        }
+
+        @Override
+        public FileIndexResult visitNotEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return new BitmapIndexResult(
+                    () -> RoaringBitmap32.andNot(nonNullRows(), valueBitmap(literal)));
+        }
+
+        @Override
+        public FileIndexResult visitLessThan(FieldRef fieldRef, Object literal) {
+            return rangeResult(literal, c -> c < 0);
+        }
+
+        @Override
+        public FileIndexResult visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            return rangeResult(literal, c -> c <= 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterThan(FieldRef fieldRef, Object literal) {
+            return rangeResult(literal, c -> c > 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            return rangeResult(literal, c -> c >= 0);
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            if (!(literal instanceof BinaryString)) {
+                return REMAIN;
+            }
+            BinaryString prefix = (BinaryString) literal;
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 result = new RoaringBitmap32();
+                        valueOffsets.forEach(
+                                (value, offset) -> {
+                                    if (((BinaryString) value).startsWith(prefix)) {
+                                        result.or(bitmap(offset));
+                                    }
+                                });
+                        return result;
+                    });
+        }
+
+        /** Rows whose value compared to the literal matches the predicate. */
+        private FileIndexResult rangeResult(Object literal, IntPredicate predicate) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 result = new RoaringBitmap32();
+                        valueOffsets.forEach(
+                                (value, offset) -> {
+                                    int c = CompareUtils.compareLiteral(type, value, literal);
+                                    if (predicate.test(c)) {
+                                        result.or(bitmap(offset));
+                                    }
+                                });
+                        return result;
+                    });
+        }
+
+        private RoaringBitmap32 nonNullRows() {
+            return RoaringBitmap32.andNot(
+                    RoaringBitmap32.bitmapOfRange(0, rowCount), bitmap(nullOffset));
+        }
+
+        private RoaringBitmap32 valueBitmap(Object value) {
+            Integer offset = valueOffsets.get(value);
+            return offset == null ? new RoaringBitmap32() : bitmap(offset);
+        }
+
+        /** Returns the bitmap at the offset, do not modify it, it is cached. */
+        private RoaringBitmap32 bitmap(int offset) {
+            if (offset < 0) {
+                return new RoaringBitmap32();
+            }
+            return bitmaps.computeIfAbsent(
+                    offset,
+                    k -> {
+                        RoaringBitmap32 bitmap = new RoaringBitmap32();
+                        int start = bitmapsStart + k;
+                        try {
+                            bitmap.deserialize(
+                                    new DataInputDeserializer(bytes, start, bytes.length - start));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        return bitmap;
+                    });
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.paimon.fileindex.bloomfilter;
 
 import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
 import org.apache.paimon.fileindex.FileIndexWriter;
 import org.apache.paimon.fileindex.FileIndexer;
 import org.apache.paimon.options.Options;
@@ -118,8 +119,8 @@ public class BloomFilterFileIndex implements FileIndexer {
         }
 
         @Override
-        public Boolean visitEqual(FieldRef fieldRef, Object key) {
-            return key == null || filter.testHash(hashFunction.hash(key));
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object key) {
+            return FileIndexResult.of(key == null || filter.testHash(hashFunction.hash(key)));
         }
     }
 }
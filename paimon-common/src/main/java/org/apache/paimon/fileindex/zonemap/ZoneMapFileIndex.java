@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.zonemap;
+
+import org.apache.paimon.data.serializer.InternalSerializers;
+import org.apache.paimon.data.serializer.Serializer;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.CompareUtils;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+
+/**
+ * Zone map for file index, records the min, max and null count of every block of rows. Compared
+ * to the statistics of the whole file, it selects the blocks of rows which may match range
+ * predicates in unsorted files, the {@link BitmapIndexResult} tells the positions of their rows.
+ *
+ * <p>Serialized layout:
+ *
+ * <pre>
+ * ｜ version (1 byte) ｜ block rows (int) ｜ row count (int) ｜ block count (int) ｜
+ * ｜ null count 1 (int) ｜ has min max 1 (boolean) ｜ min 1 ｜ max 1 ｜ ... ｜
+ * </pre>
+ */
+public class ZoneMapFileIndex implements FileIndexer {
+
+    public static final String ZONE_MAP = "zone-map";
+
+    private static final byte VERSION = 1;
+
+    private static final int DEFAULT_BLOCK_ROWS = 8192;
+
+    private static final String BLOCK_ROWS = "block-rows";
+
+    private final DataType dataType;
+    private final int blockRows;
+
+    public ZoneMapFileIndex(DataType dataType, Options options) {
+        switch (dataType.getTypeRoot()) {
+            case ARRAY:
+            case MAP:
+            case MULTISET:
+            case ROW:
+                throw new UnsupportedOperationException(
+                        "Zone map file index does not support type " + dataType);
+            default:
+                this.dataType = dataType;
+        }
+        this.blockRows = options.getInteger(BLOCK_ROWS, DEFAULT_BLOCK_ROWS);
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(dataType, blockRows);
+    }
+
+    @Override
+    public FileIndexReader createReader(byte[] serializedBytes) {
+        return new Reader(dataType, serializedBytes);
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final DataType type;
+        private final Serializer<Object> serializer;
+        private final int blockRows;
+        private final List<Zone> zones = new ArrayList<>();
+
+        private Zone current;
+        private int rowNumber;
+
+        public Writer(DataType type, int blockRows) {
+            this.type = type;
+            this.serializer = InternalSerializers.create(type);
+            this.blockRows = blockRows;
+        }
+
+        @Override
+        public void writeRecord(Object key) {
+            if (rowNumber % blockRows == 0) {
+                current = new Zone();
+                zones.add(current);
+            }
+            if (key == null) {
+                current.nullCount++;
+            }
+            super.writeRecord(key);
+            rowNumber++;
+        }
+
+        @Override
+        public void write(Object key) {
+            // the key may be reused by the caller
+            if (current.min == null || CompareUtils.compareLiteral(type, key, current.min) < 0) {
+                current.min = serializer.copy(key);
+            }
+            if (current.max == null || CompareUtils.compareLiteral(type, key, current.max) > 0) {
+                current.max = serializer.copy(key);
+            }
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            DataOutputSerializer out = new DataOutputSerializer(256);
+            try {
+                out.writeByte(VERSION);
+                out.writeInt(blockRows);
+                out.writeInt(rowNumber);
+                out.writeInt(zones.size());
+                for (Zone zone : zones) {
+                    out.writeInt(zone.nullCount);
+                    out.writeBoolean(zone.min != null);
+                    if (zone.min != null) {
+                        serializer.serialize(zone.min, out);
+                        serializer.serialize(zone.max, out);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.getCopyOfBuffer();
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final DataType type;
+        private final int blockRows;
+        private final int rowCount;
+        private final Zone[] zones;
+
+        public Reader(DataType type, byte[] serializedBytes) {
+            this.type = type;
+            Serializer<Object> serializer = InternalSerializers.create(type);
+            DataInputDeserializer in = new DataInputDeserializer(serializedBytes);
+            try {
+                byte version = in.readByte();
+                if (version != VERSION) {
+                    throw new IllegalArgumentException(
+                            "Unsupported zone map file index version " + version);
+                }
+                this.blockRows = in.readInt();
+                this.rowCount = in.readInt();
+                this.zones = new Zone[in.readInt()];
+                for (int i = 0; i < zones.length; i++) {
+                    Zone zone = new Zone();
+                    zone.nullCount = in.readInt();
+                    if (in.readBoolean()) {
+                        zone.min = serializer.deserialize(in);
+                        zone.max = serializer.deserialize(in);
+                    }
+                    zones[i] = zone;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public FileIndexResult visitIsNull(FieldRef fieldRef) {
+            return select(i -> zones[i].nullCount > 0);
+        }
+
+        @Override
+        public FileIndexResult visitIsNotNull(FieldRef fieldRef) {
+            return select(i -> zones[i].min != null);
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> compareMin(i, literal) <= 0 && compareMax(i, literal) >= 0);
+        }
+
+        @Override
+        public FileIndexResult visitNotEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(
+                    i ->
+                            zones[i].min != null
+                                    && (compareMin(i, literal) != 0
+                                            || compareMax(i, literal) != 0));
+        }
+
+        @Override
+        public FileIndexResult visitLessThan(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> compareMin(i, literal) < 0);
+        }
+
+        @Override
+        public FileIndexResult visitLessOrEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> compareMin(i, literal) <= 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterThan(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> compareMax(i, literal) > 0);
+        }
+
+        @Override
+        public FileIndexResult visitGreaterOrEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return select(i -> compareMax(i, literal) >= 0);
+        }
+
+        /** Compares the min of the block to the literal, blocks of only nulls never match. */
+        private int compareMin(int block, Object literal) {
+            Object min = zones[block].min;
+            return min == null
+                    ? Integer.MAX_VALUE
+                    : CompareUtils.compareLiteral(type, min, literal);
+        }
+
+        /** Compares the max of the block to the literal, blocks of only nulls never match. */
+        private int compareMax(int block, Object literal) {
+            Object max = zones[block].max;
+            return max == null
+                    ? Integer.MIN_VALUE
+                    : CompareUtils.compareLiteral(type, max, literal);
+        }
+
+        /** Selects the rows of the blocks which may match. */
+        private FileIndexResult select(IntPredicate blockPredicate) {
+            return new BitmapIndexResult(
+                    () -> {
+                        RoaringBitmap32 rows = new RoaringBitmap32();
+                        for (int i = 0; i < zones.length; i++) {
+                            if (blockPredicate.test(i)) {
+                                long start = (long) i * blockRows;
+                                rows.add(start, Math.min(start + blockRows, rowCount));
+                            }
+                        }
+                        return rows;
+                    });
+        }
+    }
+
+    /** Statistics of a block of rows. */
+    private static class Zone {
+
+        private int nullCount;
+        private Object min;
+        private Object max;
+    }
+}
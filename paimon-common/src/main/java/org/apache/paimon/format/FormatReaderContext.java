@@ -21,6 +21,9 @@ package org.apache.paimon.format;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import javax.annotation.Nullable;
 
 /** the context for creating RecordReader {@link RecordReader}. */
 public class FormatReaderContext implements FormatReaderFactory.Context {
@@ -28,11 +31,18 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     private final FileIO fileIO;
     private final Path file;
     private final long fileSize;
+    @Nullable private final RoaringBitmap32 selection;
 
     public FormatReaderContext(FileIO fileIO, Path file, long fileSize) {
+        this(fileIO, file, fileSize, null);
+    }
+
+    public FormatReaderContext(
+            FileIO fileIO, Path file, long fileSize, @Nullable RoaringBitmap32 selection) {
         this.fileIO = fileIO;
         this.file = file;
         this.fileSize = fileSize;
+        this.selection = selection;
     }
 
     @Override
@@ -49,4 +59,10 @@ public class FormatReaderContext implements FormatReaderFactory.Context {
     public long fileSize() {
         return fileSize;
     }
+
+    @Nullable
+    @Override
+    public RoaringBitmap32 selection() {
+        return selection;
+    }
 }
@@ -22,6 +22,9 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.io.Serializable;
@@ -39,5 +42,14 @@ public interface FormatReaderFactory extends Serializable {
         Path filePath();
 
         long fileSize();
+
+        /**
+         * Positions of the rows to read, or null to read all rows. Readers may skip row groups
+         * without selected rows, but may also return rows which are not selected.
+         */
+        @Nullable
+        default RoaringBitmap32 selection() {
+            return null;
+        }
     }
 }
@@ -76,7 +76,7 @@ public class CompressedPageFileInput implements PageFileInput {
     }
 
     @Override
-    public byte[] readPage(int pageIndex) throws IOException {
+    public synchronized byte[] readPage(int pageIndex) throws IOException {
         long position = pagePositions[pageIndex];
         file.seek(position);
         int compressLength = file.readInt();
@@ -91,7 +91,7 @@ public class CompressedPageFileInput implements PageFileInput {
     }
 
     @Override
-    public byte[] readPosition(long position, int length) throws IOException {
+    public synchronized byte[] readPosition(long position, int length) throws IOException {
         int offset = (int) (position & this.pageSizeMask);
         int pageIndex = (int) (position >>> this.pageSizeBits);
 
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.AbstractPagedInputView;
+import org.apache.paimon.memory.MemorySegment;
+
+import javax.annotation.Nullable;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link RandomAccessInputView} which reads a local file through memory mapped off-heap {@link
+ * MemorySegment}s. Bytes are read in place from the OS page cache, no page is copied to heap.
+ *
+ * <p>The mappings are released when this view is closed and no reader is running. Accessing an
+ * unmapped segment crashes the JVM, so readers which may run concurrently with closing must be
+ * wrapped by {@link #retain()} and {@link #release()}.
+ */
+public class MappedFileInputView extends AbstractPagedInputView implements RandomAccessInputView {
+
+    // a single mapping can not exceed 2 GB, map the file in segments of 1 GB
+    private static final int DEFAULT_SEGMENT_SIZE_BITS = 30;
+
+    private static final MemorySegment EMPTY_SEGMENT = MemorySegment.wrap(new byte[0]);
+
+    private final Mapping mapping;
+    private final MemorySegment[] segments;
+    private final int segmentSizeBits;
+    private final int segmentSizeMask;
+    private final boolean isDuplicate;
+
+    private int currentSegmentIndex;
+
+    private MappedFileInputView(Mapping mapping, int segmentSizeBits, boolean isDuplicate) {
+        this.mapping = mapping;
+        this.segments = mapping.segments;
+        this.segmentSizeBits = segmentSizeBits;
+        this.segmentSizeMask = (1 << segmentSizeBits) - 1;
+        this.isDuplicate = isDuplicate;
+        this.currentSegmentIndex = -1;
+    }
+
+    public static MappedFileInputView map(File file) throws IOException {
+        return map(file, DEFAULT_SEGMENT_SIZE_BITS);
+    }
+
+    @VisibleForTesting
+    static MappedFileInputView map(File file, int segmentSizeBits) throws IOException {
+        try (RandomAccessFile accessFile = new RandomAccessFile(file, "r");
+                FileChannel channel = accessFile.getChannel()) {
+            long fileSize = channel.size();
+            long segmentSize = 1L << segmentSizeBits;
+            MemorySegment[] segments =
+                    new MemorySegment[(int) ((fileSize + segmentSize - 1) >>> segmentSizeBits)];
+            try {
+                for (int i = 0; i < segments.length; i++) {
+                    long position = (long) i << segmentSizeBits;
+                    long size = Math.min(segmentSize, fileSize - position);
+                    segments[i] =
+                            MemorySegment.wrapOffHeapMemory(
+                                    channel.map(FileChannel.MapMode.READ_ONLY, position, size));
+                }
+            } catch (IOException | RuntimeException e) {
+                unmap(segments);
+                throw e;
+            }
+            // mappings stay valid after the channel is closed
+            return new MappedFileInputView(new Mapping(segments), segmentSizeBits, false);
+        }
+    }
+
+    /** Returns the mapped segment at the given index, or null if the file is shorter. */
+    @Nullable
+    public MemorySegment segment(int index) {
+        return index < segments.length ? segments[index] : null;
+    }
+
+    /**
+     * Marks the start of reading through this view or its duplicates, the mappings are not
+     * released until {@link #release()}.
+     *
+     * @return false if the view has been closed, then it must not be read
+     */
+    public boolean retain() {
+        return mapping.retain();
+    }
+
+    /** Marks the end of reading, see {@link #retain()}. */
+    public void release() {
+        mapping.release();
+    }
+
+    @Override
+    public MappedFileInputView duplicate() {
+        return new MappedFileInputView(mapping, segmentSizeBits, true);
+    }
+
+    @Override
+    public void setReadPosition(long position) {
+        int offset = (int) (position & segmentSizeMask);
+        currentSegmentIndex = (int) (position >>> segmentSizeBits);
+        if (currentSegmentIndex >= segments.length) {
+            // the end of the file, for example of an empty file
+            seekInput(EMPTY_SEGMENT, 0, 0);
+            return;
+        }
+        MemorySegment segment = segments[currentSegmentIndex];
+        seekInput(segment, offset, segment.size());
+    }
+
+    @Override
+    protected MemorySegment nextSegment(MemorySegment current) throws EOFException {
+        currentSegmentIndex++;
+        if (currentSegmentIndex >= segments.length) {
+            throw new EOFException();
+        }
+        return segments[currentSegmentIndex];
+    }
+
+    @Override
+    protected int getLimitForSegment(MemorySegment segment) {
+        return segment.size();
+    }
+
+    /** Closing a duplicated view does nothing, see {@link RandomAccessInputView#duplicate()}. */
+    @Override
+    public void close() {
+        if (!isDuplicate) {
+            mapping.close();
+        }
+    }
+
+    private static void unmap(MemorySegment[] segments) {
+        for (MemorySegment segment : segments) {
+            if (segment != null) {
+                segment.free();
+            }
+        }
+    }
+
+    /** Mapped segments shared by a view and its duplicates, with the count of references. */
+    private static class Mapping {
+
+        private final MemorySegment[] segments;
+        // one reference of the view until closed, and one of each running reader
+        private final AtomicInteger references;
+        private final AtomicBoolean closed;
+
+        private Mapping(MemorySegment[] segments) {
+            this.segments = segments;
+            this.references = new AtomicInteger(1);
+            this.closed = new AtomicBoolean(false);
+        }
+
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current == 0 || closed.get()) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                unmap(segments);
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                release();
+            }
+        }
+    }
+}
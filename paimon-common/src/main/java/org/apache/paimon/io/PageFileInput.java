@@ -27,7 +27,10 @@ import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 
-/** An interface to read pages from file. */
+/**
+ * An interface to read pages from file. Reads are thread-safe, so that a single input can serve
+ * concurrent lookups.
+ */
 public interface PageFileInput extends Closeable {
 
     RandomAccessFile file();
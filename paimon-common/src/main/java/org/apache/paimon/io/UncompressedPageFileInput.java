@@ -54,7 +54,7 @@ public class UncompressedPageFileInput implements PageFileInput {
     }
 
     @Override
-    public byte[] readPage(int pageIndex) throws IOException {
+    public synchronized byte[] readPage(int pageIndex) throws IOException {
         long position = (long) pageIndex << pageSizeBits;
         file.seek(position);
 
@@ -65,7 +65,7 @@ public class UncompressedPageFileInput implements PageFileInput {
     }
 
     @Override
-    public byte[] readPosition(long position, int length) throws IOException {
+    public synchronized byte[] readPosition(long position, int length) throws IOException {
         file.seek(position);
         byte[] result = new byte[length];
         file.readFully(result);
@@ -18,18 +18,26 @@
 
 package org.apache.paimon.io.cache;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.options.MemorySize;
 
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
-import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
-import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
 
-/** Cache manager to cache bytes to paged {@link MemorySegment}s. */
+/**
+ * Cache manager to cache bytes to paged {@link MemorySegment}s. Pages are stored in a {@link
+ * SharedCache}, which is either owned by this manager or shared with other managers.
+ */
 public class CacheManager {
 
     /**
@@ -38,67 +46,219 @@ public class CacheManager {
      */
     public static final int REFRESH_COUNT = 10;
 
-    private final Cache<CacheKey, CacheValue> cache;
+    private final SharedCache sharedCache;
+    private final long quota;
+
+    private final AtomicInteger fileReadCount;
+
+    // statistics of this manager, pages are read concurrently
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder evictionCount;
+    private final AtomicLong usedBytes;
+
+    // pages of this manager in load order, to evict its own pages when exceeding its quota
+    private final LinkedHashSet<CacheKey> pages;
 
-    private int fileReadCount;
+    private volatile LongConsumer loadDurationReporter;
 
     public CacheManager(MemorySize maxMemorySize) {
-        this.cache =
-                Caffeine.newBuilder()
-                        .weigher(this::weigh)
-                        .maximumWeight(maxMemorySize.getBytes())
-                        .removalListener(this::onRemoval)
-                        .executor(MoreExecutors.directExecutor())
-                        .build();
-        this.fileReadCount = 0;
+        this(new SharedCache(maxMemorySize), maxMemorySize.getBytes());
+    }
+
+    CacheManager(SharedCache sharedCache, long quota) {
+        this.sharedCache = sharedCache;
+        this.quota = quota;
+        this.fileReadCount = new AtomicInteger(0);
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.evictionCount = new LongAdder();
+        this.usedBytes = new AtomicLong();
+        this.pages = new LinkedHashSet<>();
+        this.loadDurationReporter = duration -> {};
+    }
+
+    /**
+     * Create a {@link CacheManager} for lookup of a table. If {@link
+     * CoreOptions#LOOKUP_CACHE_SHARED_MEMORY_SIZE} is set, the manager uses the cache shared by the
+     * process with {@link CoreOptions#LOOKUP_CACHE_MAX_MEMORY_SIZE} as its quota. If {@link
+     * CoreOptions#LOOKUP_CACHE_OFF_HEAP_ENABLED} is true, pages are cached in off-heap memory.
+     */
+    public static CacheManager create(CoreOptions options) {
+        MemorySize maxMemory = options.lookupCacheMaxMemory();
+        MemorySize sharedMemory = options.lookupCacheSharedMemory();
+        boolean offHeap = options.lookupCacheOffHeap();
+        SharedCache sharedCache =
+                sharedMemory == null
+                        ? SharedCache.create(maxMemory, offHeap, options.cachePageSize())
+                        : SharedCache.processCache(sharedMemory, offHeap, options.cachePageSize());
+        return sharedCache.createManager(maxMemory);
     }
 
     @VisibleForTesting
     public Cache<CacheKey, CacheValue> cache() {
-        return cache;
+        return sharedCache.cache();
+    }
+
+    /** Report the time in microseconds to load each page from file. */
+    public void withLoadDurationReporter(LongConsumer loadDurationReporter) {
+        this.loadDurationReporter = loadDurationReporter;
     }
 
     public MemorySegment getPage(CacheKey key, CacheReader reader, CacheCallback callback) {
-        CacheValue value = cache.getIfPresent(key);
+        return getValue(key, reader, callback).segment;
+    }
+
+    /**
+     * Returns the cached page of the key, loading it if absent. Callers keeping the value across
+     * reads must check {@link CacheValue#isClosed()} after {@link #enterRead()} before accessing
+     * its segment again, an evicted page may be recycled to a memory pool.
+     */
+    public CacheValue getValue(CacheKey key, CacheReader reader, CacheCallback callback) {
+        CacheValue value = sharedCache.cache().getIfPresent(key);
+        if (value != null && !value.isClosed) {
+            hitCount.increment();
+            return value;
+        }
+
+        missCount.increment();
         while (value == null || value.isClosed) {
+            long started = System.nanoTime();
+            byte[] bytes;
             try {
-                this.fileReadCount++;
-                value = new CacheValue(MemorySegment.wrap(reader.read(key)), callback);
+                this.fileReadCount.incrementAndGet();
+                bytes = reader.read(key);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
-            cache.put(key, value);
+            loadDurationReporter.accept((System.nanoTime() - started) / 1000);
+
+            MemorySegment page = sharedCache.allocatePage(bytes.length);
+            if (page == null) {
+                value = new CacheValue(MemorySegment.wrap(bytes), callback, this, false);
+            } else {
+                page.put(0, bytes);
+                value = new CacheValue(page, callback, this, true);
+            }
+            reserve(key, value.segment.size());
+            sharedCache.put(key, value);
         }
-        return value.segment;
+        return value;
     }
 
-    public void invalidPage(CacheKey key) {
-        cache.invalidate(key);
+    /**
+     * Marks the start of reading pages got from this manager. Pages may be recycled to a memory
+     * pool when evicted, pages got after entering are not recycled until {@link #exitRead}.
+     *
+     * @return the epoch to pass to {@link #exitRead}
+     */
+    public int enterRead() {
+        return sharedCache.enterRead();
     }
 
-    private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
-        return cacheValue.segment.size();
+    /** Marks the end of reading pages, see {@link #enterRead()}. */
+    public void exitRead(int epoch) {
+        sharedCache.exitRead(epoch);
     }
 
-    private void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
-        value.isClosed = true;
+    private void reserve(CacheKey key, int bytes) {
+        // borrow memory beyond the quota while the shared cache has free memory, otherwise evict
+        // own pages instead of letting the shared cache evict pages of other managers
+        if (quota < sharedCache.maxMemoryBytes()
+                && usedBytes.get() + bytes > quota
+                && sharedCache.isFull(bytes)) {
+            evictOwnPages(quota - bytes);
+        }
+        usedBytes.addAndGet(bytes);
+        synchronized (pages) {
+            pages.add(key);
+        }
+    }
+
+    private void evictOwnPages(long targetBytes) {
+        while (usedBytes.get() > targetBytes) {
+            CacheKey oldest;
+            synchronized (pages) {
+                Iterator<CacheKey> iterator = pages.iterator();
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                oldest = iterator.next();
+                iterator.remove();
+            }
+            sharedCache.cache().invalidate(oldest);
+            evictionCount.increment();
+        }
+    }
+
+    public void invalidPage(CacheKey key) {
+        sharedCache.cache().invalidate(key);
+    }
+
+    void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
+        usedBytes.addAndGet(-value.segment.size());
+        // a replaced page is still cached with the new value
+        if (cause != RemovalCause.REPLACED) {
+            synchronized (pages) {
+                pages.remove(key);
+            }
+        }
+        if (cause.wasEvicted()) {
+            evictionCount.increment();
+        }
         value.callback.onRemoval(key);
     }
 
     public int fileReadCount() {
-        return fileReadCount;
+        return fileReadCount.get();
     }
 
-    private static class CacheValue {
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
+    /** Memory of the pages loaded by this manager. */
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /** Cached page, removed from the cache once closed. */
+    public static class CacheValue {
 
-        private final MemorySegment segment;
-        private final CacheCallback callback;
+        final MemorySegment segment;
+        final CacheCallback callback;
+        final CacheManager owner;
+        // whether the segment is from the memory pool of the shared cache
+        final boolean pooled;
 
-        private boolean isClosed = false;
+        volatile boolean isClosed = false;
 
-        private CacheValue(MemorySegment segment, CacheCallback callback) {
+        private CacheValue(
+                MemorySegment segment,
+                CacheCallback callback,
+                CacheManager owner,
+                boolean pooled) {
             this.segment = segment;
             this.callback = callback;
+            this.owner = owner;
+            this.pooled = pooled;
+        }
+
+        public MemorySegment segment() {
+            return segment;
+        }
+
+        /** Whether the page has been removed from the cache. */
+        public boolean isClosed() {
+            return isClosed;
         }
     }
 }
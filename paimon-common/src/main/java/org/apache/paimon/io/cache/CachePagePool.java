@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pages of a {@link SharedCache} allocated from a {@link MemorySegmentPool}, pages evicted from
+ * the cache are returned to the pool for reuse.
+ *
+ * <p>Readers do not pin the pages they read, so an evicted page is only returned to the pool once
+ * no reader can still access it. Readers register in the current epoch by {@link #enter()} and
+ * leave by {@link #exit(int)}. Pages evicted in an epoch are retired, and returned to the pool
+ * when the epoch has been advanced twice, which requires all readers of the older epochs to have
+ * left. Readers entering after the eviction of a page can not get it from the cache anymore, and
+ * readers keeping a page across reads check whether it has been closed after entering.
+ */
+class CachePagePool {
+
+    private final MemorySegmentPool pool;
+
+    private final AtomicInteger[] readers;
+    // pages evicted in the epoch with the same parity
+    private final List<List<MemorySegment>> retired;
+
+    private volatile int epoch;
+
+    CachePagePool(MemorySegmentPool pool) {
+        this.pool = pool;
+        this.readers = new AtomicInteger[] {new AtomicInteger(), new AtomicInteger()};
+        this.retired = new ArrayList<>();
+        this.retired.add(new ArrayList<>());
+        this.retired.add(new ArrayList<>());
+    }
+
+    int pageSize() {
+        return pool.pageSize();
+    }
+
+    int enter() {
+        while (true) {
+            int current = epoch;
+            AtomicInteger counter = readers[current & 1];
+            counter.incrementAndGet();
+            // the epoch may have been advanced without waiting for this reader
+            if (epoch == current) {
+                return current;
+            }
+            counter.decrementAndGet();
+        }
+    }
+
+    void exit(int readerEpoch) {
+        readers[readerEpoch & 1].decrementAndGet();
+    }
+
+    /** Returns a page of {@link #pageSize()} from the pool, or null if the pool is exhausted. */
+    synchronized MemorySegment allocate() {
+        MemorySegment page = pool.nextSegment();
+        // pages retired in the last two epochs are freed once their readers have left
+        for (int i = 0; page == null && i < 2 && advance(); i++) {
+            page = pool.nextSegment();
+        }
+        return page;
+    }
+
+    /** Retire a page evicted from the cache. */
+    synchronized void retire(MemorySegment page) {
+        retired.get(epoch & 1).add(page);
+        advance();
+    }
+
+    private boolean advance() {
+        int current = epoch;
+        // the previous epoch has the same parity as the next one
+        if (readers[(current + 1) & 1].get() != 0) {
+            return false;
+        }
+
+        epoch = current + 1;
+        List<MemorySegment> pages = retired.get((current + 1) & 1);
+        if (!pages.isEmpty()) {
+            pool.returnAll(new ArrayList<>(pages));
+            pages.clear();
+        }
+        return true;
+    }
+
+    synchronized int freePages() {
+        return pool.freePages();
+    }
+}
@@ -20,41 +20,59 @@ package org.apache.paimon.io.cache;
 
 import org.apache.paimon.data.AbstractPagedInputView;
 import org.apache.paimon.io.PageFileInput;
+import org.apache.paimon.io.RandomAccessInputView;
 import org.apache.paimon.io.SeekableDataInputView;
 import org.apache.paimon.io.cache.CacheKey.PageIndexCacheKey;
+import org.apache.paimon.io.cache.CacheManager.CacheValue;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.utils.MathUtils;
 
-import java.io.Closeable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.paimon.io.cache.CacheManager.REFRESH_COUNT;
 
 /**
  * A {@link SeekableDataInputView} to read bytes from {@link RandomAccessFile}, the bytes can be
  * cached to {@link MemorySegment}s in {@link CacheManager}.
+ *
+ * <p>A view is not thread-safe since it holds the read position, use {@link #duplicate()} to create
+ * a view for another thread, all duplicated views share the same cached pages.
+ *
+ * <p>Reads must be wrapped by {@link CacheManager#enterRead()} and {@link
+ * CacheManager#exitRead(int)}, and start with {@link #setReadPosition(long)}. Pages kept from
+ * previous reads are checked to be still cached, evicted pages may have been recycled.
  */
 public class FileBasedRandomInputView extends AbstractPagedInputView
-        implements SeekableDataInputView, Closeable {
+        implements RandomAccessInputView {
 
     private final PageFileInput input;
     private final CacheManager cacheManager;
-    private final Map<Integer, SegmentContainer> segments;
+    private final ConcurrentHashMap<Integer, SegmentContainer> segments;
     private final int segmentSizeBits;
     private final int segmentSizeMask;
+    private final boolean isDuplicate;
 
     private int currentSegmentIndex;
 
     public FileBasedRandomInputView(PageFileInput input, CacheManager cacheManager) {
+        this(input, cacheManager, new ConcurrentHashMap<>(), false);
+    }
+
+    private FileBasedRandomInputView(
+            PageFileInput input,
+            CacheManager cacheManager,
+            ConcurrentHashMap<Integer, SegmentContainer> segments,
+            boolean isDuplicate) {
         this.input = input;
         this.cacheManager = cacheManager;
-        this.segments = new HashMap<>();
+        this.segments = segments;
+        this.isDuplicate = isDuplicate;
         int segmentSize = input.pageSize();
         this.segmentSizeBits = MathUtils.log2strict(segmentSize);
         this.segmentSizeMask = segmentSize - 1;
@@ -62,6 +80,12 @@ public class FileBasedRandomInputView extends AbstractPagedInputView
         this.currentSegmentIndex = -1;
     }
 
+    /** Create a new view with its own read position, sharing cached pages with this view. */
+    @Override
+    public FileBasedRandomInputView duplicate() {
+        return new FileBasedRandomInputView(input, cacheManager, segments, true);
+    }
+
     @Override
     public void setReadPosition(long position) {
         int offset = (int) (position & this.segmentSizeMask);
@@ -72,17 +96,20 @@ public class FileBasedRandomInputView extends AbstractPagedInputView
 
     private MemorySegment getCurrentPage() {
         SegmentContainer container = segments.get(currentSegmentIndex);
-        if (container == null || container.accessCount == REFRESH_COUNT) {
+        // a closed page may have been recycled, it must not be accessed in this read
+        if (container == null || container.value.isClosed() || container.access()) {
             int pageIndex = currentSegmentIndex;
-            MemorySegment segment =
-                    cacheManager.getPage(
+            CacheValue value =
+                    cacheManager.getValue(
                             CacheKey.forPageIndex(input.file(), input.pageSize(), pageIndex),
                             key -> input.readPage(pageIndex),
                             this::invalidPage);
-            container = new SegmentContainer(segment);
-            segments.put(currentSegmentIndex, container);
+            SegmentContainer newContainer = new SegmentContainer(value);
+            // the page may be evicted before it is put, do not keep a closed page
+            segments.compute(pageIndex, (k, old) -> value.isClosed() ? null : newContainer);
+            return value.segment();
         }
-        return container.access();
+        return container.value.segment();
     }
 
     @Override
@@ -101,11 +128,18 @@ public class FileBasedRandomInputView extends AbstractPagedInputView
     }
 
     private void invalidPage(CacheKey key) {
-        segments.remove(((PageIndexCacheKey) key).pageIndex());
+        // only remove closed pages, the page may have been loaded again
+        segments.computeIfPresent(
+                ((PageIndexCacheKey) key).pageIndex(),
+                (k, container) -> container.value.isClosed() ? null : container);
     }
 
     @Override
     public void close() throws IOException {
+        if (isDuplicate) {
+            return;
+        }
+
         // copy out to avoid ConcurrentModificationException
         List<Integer> pages = new ArrayList<>(segments.keySet());
         pages.forEach(
@@ -118,18 +152,19 @@ public class FileBasedRandomInputView extends AbstractPagedInputView
 
     private static class SegmentContainer {
 
-        private final MemorySegment segment;
+        private final CacheValue value;
 
-        private int accessCount;
+        // updated by concurrent readers of duplicated views
+        private final AtomicInteger accessCount;
 
-        private SegmentContainer(MemorySegment segment) {
-            this.segment = segment;
-            this.accessCount = 0;
+        private SegmentContainer(CacheValue value) {
+            this.value = value;
+            this.accessCount = new AtomicInteger();
         }
 
-        private MemorySegment access() {
-            this.accessCount++;
-            return segment;
+        /** Returns whether the page should be refreshed in the LRU of the cache. */
+        private boolean access() {
+            return accessCount.incrementAndGet() >= REFRESH_COUNT;
         }
     }
 }
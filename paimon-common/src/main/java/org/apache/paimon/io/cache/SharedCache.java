@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.io.cache.CacheManager.CacheValue;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
+import org.apache.paimon.options.MemorySize;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
+import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A page cache shared by {@link CacheManager}s. Pages are evicted in LRU order over all managers
+ * once the cache is full, each manager accounts the memory of its own pages against its quota.
+ *
+ * <p>{@link #processCache} is the cache shared by all tables in the process.
+ *
+ * <p>Pages are heap {@link MemorySegment}s, unless a {@link MemorySegmentPool} is given, for
+ * example an off-heap pool or a pool of Flink managed memory. Then pages of the pool page size are
+ * copied into segments of the pool, and returned to the pool when evicted.
+ */
+public class SharedCache {
+
+    private static SharedCache processCache;
+
+    private final Cache<CacheKey, CacheValue> cache;
+    private final long maxMemoryBytes;
+    private final AtomicLong usedBytes;
+    @Nullable private final CachePagePool pagePool;
+
+    public SharedCache(MemorySize maxMemorySize) {
+        this(maxMemorySize, null);
+    }
+
+    public SharedCache(MemorySize maxMemorySize, @Nullable MemorySegmentPool pool) {
+        this.maxMemoryBytes = maxMemorySize.getBytes();
+        this.pagePool = pool == null ? null : new CachePagePool(pool);
+        this.usedBytes = new AtomicLong();
+        this.cache =
+                Caffeine.newBuilder()
+                        .weigher(this::weigh)
+                        .maximumWeight(maxMemoryBytes)
+                        .removalListener(this::onRemoval)
+                        .executor(MoreExecutors.directExecutor())
+                        .build();
+    }
+
+    /**
+     * Returns the cache shared by all tables in the process, the first caller decides its memory
+     * size and whether pages are off-heap.
+     */
+    public static synchronized SharedCache processCache(
+            MemorySize maxMemorySize, boolean offHeap, int pageSize) {
+        if (processCache == null) {
+            processCache = create(maxMemorySize, offHeap, pageSize);
+        }
+        return processCache;
+    }
+
+    static SharedCache create(MemorySize maxMemorySize, boolean offHeap, int pageSize) {
+        return new SharedCache(
+                maxMemorySize,
+                offHeap ? new OffHeapMemorySegmentPool(maxMemorySize.getBytes(), pageSize) : null);
+    }
+
+    /**
+     * Create a {@link CacheManager} with a quota in this cache. The manager may borrow memory
+     * beyond its quota while this cache has free memory. Once this cache is full, a manager
+     * exceeding its quota evicts its own pages instead of pages of other managers.
+     */
+    public CacheManager createManager(MemorySize quota) {
+        return new CacheManager(this, quota.getBytes());
+    }
+
+    Cache<CacheKey, CacheValue> cache() {
+        return cache;
+    }
+
+    long maxMemoryBytes() {
+        return maxMemoryBytes;
+    }
+
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /**
+     * Returns a page from the pool to copy bytes of the given length into, or null if the bytes
+     * should be cached on heap.
+     */
+    @Nullable
+    MemorySegment allocatePage(int length) {
+        return pagePool != null && length == pagePool.pageSize() ? pagePool.allocate() : null;
+    }
+
+    int enterRead() {
+        return pagePool == null ? 0 : pagePool.enter();
+    }
+
+    void exitRead(int epoch) {
+        if (pagePool != null) {
+            pagePool.exit(epoch);
+        }
+    }
+
+    boolean isFull(int additionalBytes) {
+        return usedBytes.get() + additionalBytes > maxMemoryBytes;
+    }
+
+    void put(CacheKey key, CacheValue value) {
+        usedBytes.addAndGet(value.segment.size());
+        cache.put(key, value);
+    }
+
+    private int weigh(CacheKey cacheKey, CacheValue cacheValue) {
+        return cacheValue.segment.size();
+    }
+
+    private void onRemoval(CacheKey key, CacheValue value, RemovalCause cause) {
+        usedBytes.addAndGet(-value.segment.size());
+        value.isClosed = true;
+        value.owner.onRemoval(key, value, cause);
+        if (value.pooled) {
+            // the page is closed, only readers running now may still access it
+            pagePool.retire(value.segment);
+        }
+    }
+}
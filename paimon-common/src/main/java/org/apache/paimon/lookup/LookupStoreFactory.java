@@ -19,6 +19,9 @@
 package org.apache.paimon.lookup;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.utils.BloomFilter;
 
@@ -26,7 +29,9 @@ import javax.annotation.Nullable;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * A key-value store for lookup, key-value store should be single binary file written once and ready
@@ -44,6 +49,48 @@ public interface LookupStoreFactory {
 
     LookupStoreReader createReader(File file, Context context) throws IOException;
 
+    /** Serialize the context, so that the store file can be read by other processes. */
+    byte[] serializeContext(Context context) throws IOException;
+
+    /**
+     * Deserialize the context from {@link #serializeContext}. Returns null if the store file was
+     * written with options this factory can not read.
+     */
+    @Nullable
+    Context deserializeContext(byte[] bytes) throws IOException;
+
+    /**
+     * Create the {@link LookupStoreFactory} of {@link CoreOptions#LOOKUP_LOCAL_FILE_TYPE}.
+     *
+     * @param keyComparatorSupplier creates comparators of serialized keys, only used by sorted
+     *     lookup stores.
+     */
+    static LookupStoreFactory create(
+            CoreOptions options,
+            CacheManager cacheManager,
+            Supplier<Comparator<byte[]>> keyComparatorSupplier) {
+        String compression =
+                options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_SPILL_COMPRESSION);
+        switch (options.lookupLocalFileType()) {
+            case SORT:
+                return new SortLookupStoreFactory(
+                        keyComparatorSupplier,
+                        cacheManager,
+                        options.cachePageSize(),
+                        compression);
+            case HASH:
+                return new HashLookupStoreFactory(
+                        cacheManager,
+                        options.cachePageSize(),
+                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
+                        compression,
+                        options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_MMAP_ENABLED));
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported lookup local file type: " + options.lookupLocalFileType());
+        }
+    }
+
     static Function<Long, BloomFilter.Builder> bfGenerator(Options options) {
         Function<Long, BloomFilter.Builder> bfGenerator = rowCount -> null;
         if (options.get(CoreOptions.LOOKUP_CACHE_BLOOM_FILTER_ENABLED)) {
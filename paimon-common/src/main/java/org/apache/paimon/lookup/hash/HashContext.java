@@ -18,8 +18,12 @@
 
 package org.apache.paimon.lookup.hash;
 
+import org.apache.paimon.io.DataInputView;
+import org.apache.paimon.io.DataOutputView;
 import org.apache.paimon.lookup.LookupStoreFactory.Context;
 
+import java.io.IOException;
+
 /** Context for {@link HashLookupStoreFactory}. */
 public class HashContext implements Context {
 
@@ -80,4 +84,74 @@ public class HashContext implements Context {
                 uncompressBytes,
                 compressPages);
     }
+
+    public void serialize(DataOutputView out) throws IOException {
+        out.writeBoolean(bloomFilterEnabled);
+        out.writeLong(bloomFilterExpectedEntries);
+        out.writeInt(bloomFilterBytes);
+        writeInts(out, keyCounts);
+        writeInts(out, slotSizes);
+        writeInts(out, slots);
+        writeInts(out, indexOffsets);
+        writeLongs(out, dataOffsets);
+        out.writeLong(uncompressBytes);
+        out.writeBoolean(compressPages != null);
+        if (compressPages != null) {
+            writeLongs(out, compressPages);
+        }
+    }
+
+    public static HashContext deserialize(DataInputView in) throws IOException {
+        boolean bloomFilterEnabled = in.readBoolean();
+        long bloomFilterExpectedEntries = in.readLong();
+        int bloomFilterBytes = in.readInt();
+        int[] keyCounts = readInts(in);
+        int[] slotSizes = readInts(in);
+        int[] slots = readInts(in);
+        int[] indexOffsets = readInts(in);
+        long[] dataOffsets = readLongs(in);
+        long uncompressBytes = in.readLong();
+        long[] compressPages = in.readBoolean() ? readLongs(in) : null;
+        return new HashContext(
+                bloomFilterEnabled,
+                bloomFilterExpectedEntries,
+                bloomFilterBytes,
+                keyCounts,
+                slotSizes,
+                slots,
+                indexOffsets,
+                dataOffsets,
+                uncompressBytes,
+                compressPages);
+    }
+
+    private static void writeInts(DataOutputView out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    private static void writeLongs(DataOutputView out, long[] values) throws IOException {
+        out.writeInt(values.length);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static int[] readInts(DataInputView in) throws IOException {
+        int[] values = new int[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readInt();
+        }
+        return values;
+    }
+
+    private static long[] readLongs(DataInputView in) throws IOException {
+        long[] values = new long[in.readInt()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = in.readLong();
+        }
+        return values;
+    }
 }
@@ -19,6 +19,8 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.utils.BloomFilter;
@@ -34,20 +36,42 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
     private final CacheManager cacheManager;
     private final int cachePageSize;
     private final double loadFactor;
+    private final String compression;
     @Nullable private final BlockCompressionFactory compressionFactory;
+    private final boolean mmapEnabled;
 
     public HashLookupStoreFactory(
             CacheManager cacheManager, int cachePageSize, double loadFactor, String compression) {
+        this(cacheManager, cachePageSize, loadFactor, compression, false);
+    }
+
+    /**
+     * @param mmapEnabled whether to read uncompressed files by memory mapping instead of caching
+     *     pages in the {@link CacheManager}.
+     */
+    public HashLookupStoreFactory(
+            CacheManager cacheManager,
+            int cachePageSize,
+            double loadFactor,
+            String compression,
+            boolean mmapEnabled) {
         this.cacheManager = cacheManager;
         this.cachePageSize = cachePageSize;
         this.loadFactor = loadFactor;
+        this.compression = compression;
         this.compressionFactory = BlockCompressionFactory.create(compression);
+        this.mmapEnabled = mmapEnabled;
     }
 
     @Override
     public HashLookupStoreReader createReader(File file, Context context) throws IOException {
         return new HashLookupStoreReader(
-                file, (HashContext) context, cacheManager, cachePageSize, compressionFactory);
+                file,
+                (HashContext) context,
+                cacheManager,
+                cachePageSize,
+                compressionFactory,
+                mmapEnabled);
     }
 
     @Override
@@ -56,4 +80,24 @@ public class HashLookupStoreFactory implements LookupStoreFactory {
         return new HashLookupStoreWriter(
                 loadFactor, file, bloomFilter, compressionFactory, cachePageSize);
     }
+
+    @Override
+    public byte[] serializeContext(Context context) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(128);
+        // pages of store file can only be read with the same compression and page size
+        out.writeUTF(compression);
+        out.writeInt(cachePageSize);
+        ((HashContext) context).serialize(out);
+        return out.getCopyOfBuffer();
+    }
+
+    @Nullable
+    @Override
+    public Context deserializeContext(byte[] bytes) throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer(bytes);
+        if (!compression.equals(in.readUTF()) || cachePageSize != in.readInt()) {
+            return null;
+        }
+        return HashContext.deserialize(in);
+    }
 }
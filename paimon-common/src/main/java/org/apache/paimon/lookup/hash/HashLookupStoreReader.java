@@ -19,10 +19,13 @@
 package org.apache.paimon.lookup.hash;
 
 import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.MappedFileInputView;
 import org.apache.paimon.io.PageFileInput;
+import org.apache.paimon.io.RandomAccessInputView;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.io.cache.FileBasedRandomInputView;
 import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileBasedBloomFilter;
 import org.apache.paimon.utils.MurmurHashUtils;
 import org.apache.paimon.utils.VarLengthIntUtils;
@@ -38,12 +41,20 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.function.IntPredicate;
 
 /* This file is based on source code of StorageReader from the PalDB Project (https://github.com/linkedin/PalDB), licensed by the Apache
  * Software Foundation (ASF) under the Apache License, Version 2.0. See the NOTICE file distributed with this work for
  * additional information regarding copyright ownership. */
 
-/** Internal read implementation for hash kv store. */
+/**
+ * Internal read implementation for hash kv store. {@link #lookup} is thread-safe, every lookup reads
+ * through its own duplicated {@link RandomAccessInputView}.
+ *
+ * <p>Pages are read through {@link FileBasedRandomInputView} and cached in {@link CacheManager}. For
+ * uncompressed files, the file can be read by {@link MappedFileInputView} instead, which probes
+ * slots in place in the OS page cache without copying pages to heap.
+ */
 public class HashLookupStoreReader
         implements LookupStoreReader, Iterable<Map.Entry<byte[], byte[]>> {
 
@@ -60,19 +71,21 @@ public class HashLookupStoreReader
     private final int[] indexOffsets;
     // Offset of the data for different key length
     private final long[] dataOffsets;
+    private final CacheManager cacheManager;
     // File input view
-    private FileBasedRandomInputView inputView;
-    // Buffers
-    private final byte[] slotBuffer;
+    private RandomAccessInputView inputView;
+    // the input view if the file is memory mapped
+    @Nullable private final MappedFileInputView mappedView;
 
-    @Nullable private FileBasedBloomFilter bloomFilter;
+    @Nullable private IntPredicate bloomFilter;
 
     HashLookupStoreReader(
             File file,
             HashContext context,
             CacheManager cacheManager,
             int cachePageSize,
-            @Nullable BlockCompressionFactory compressionFactory)
+            @Nullable BlockCompressionFactory compressionFactory,
+            boolean mmapEnabled)
             throws IOException {
         // File path
         if (!file.exists()) {
@@ -82,45 +95,71 @@ public class HashLookupStoreReader
         keyCounts = context.keyCounts;
         slots = context.slots;
         slotSizes = context.slotSizes;
-        int maxSlotSize = 0;
-        for (int slotSize : slotSizes) {
-            maxSlotSize = Math.max(maxSlotSize, slotSize);
-        }
-        slotBuffer = new byte[maxSlotSize];
         indexOffsets = context.indexOffsets;
         dataOffsets = context.dataOffsets;
+        this.cacheManager = cacheManager;
 
         LOG.info("Opening file {}", file.getName());
 
-        PageFileInput fileInput =
-                PageFileInput.create(
-                        file,
-                        cachePageSize,
-                        compressionFactory,
-                        context.uncompressBytes,
-                        context.compressPages);
-        inputView = new FileBasedRandomInputView(fileInput, cacheManager);
-
-        if (context.bloomFilterEnabled) {
-            bloomFilter =
-                    new FileBasedBloomFilter(
-                            fileInput,
-                            cacheManager,
-                            context.bloomFilterExpectedEntries,
-                            0,
-                            context.bloomFilterBytes);
+        if (mmapEnabled && compressionFactory == null) {
+            mappedView = MappedFileInputView.map(file);
+            inputView = mappedView;
+            if (context.bloomFilterEnabled) {
+                // the bloom filter is at the beginning of the file, in the first mapped segment
+                BloomFilter filter =
+                        new BloomFilter(
+                                context.bloomFilterExpectedEntries, context.bloomFilterBytes);
+                filter.setMemorySegment(mappedView.segment(0), 0);
+                bloomFilter = filter::testHash;
+            }
+        } else {
+            mappedView = null;
+            PageFileInput fileInput =
+                    PageFileInput.create(
+                            file,
+                            cachePageSize,
+                            compressionFactory,
+                            context.uncompressBytes,
+                            context.compressPages);
+            inputView = new FileBasedRandomInputView(fileInput, cacheManager);
+            if (context.bloomFilterEnabled) {
+                FileBasedBloomFilter filter =
+                        new FileBasedBloomFilter(
+                                fileInput,
+                                cacheManager,
+                                context.bloomFilterExpectedEntries,
+                                0,
+                                context.bloomFilterBytes);
+                bloomFilter = filter::testHash;
+            }
         }
     }
 
     @Override
     public byte[] lookup(byte[] key) throws IOException {
+        // the mapped file may be closed by another thread, it is unmapped after this lookup
+        if (mappedView != null && !mappedView.retain()) {
+            throw new IOException("The reader has been closed.");
+        }
+        int epoch = cacheManager.enterRead();
+        try {
+            return lookupInternal(key);
+        } finally {
+            cacheManager.exitRead(epoch);
+            if (mappedView != null) {
+                mappedView.release();
+            }
+        }
+    }
+
+    private byte[] lookupInternal(byte[] key) throws IOException {
         int keyLength = key.length;
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
         }
 
         int hashcode = MurmurHashUtils.hashBytes(key);
-        if (bloomFilter != null && !bloomFilter.testHash(hashcode)) {
+        if (bloomFilter != null && !bloomFilter.test(hashcode)) {
             return null;
         }
 
@@ -130,6 +169,8 @@ public class HashLookupStoreReader
         int indexOffset = indexOffsets[keyLength];
         long dataOffset = dataOffsets[keyLength];
 
+        RandomAccessInputView inputView = this.inputView.duplicate();
+        byte[] slotBuffer = new byte[slotSize];
         for (int probe = 0; probe < numSlots; probe++) {
             long slot = (hashPositive + probe) % numSlots;
             inputView.setReadPosition(indexOffset + slot * slotSize);
@@ -140,7 +181,7 @@ public class HashLookupStoreReader
                 return null;
             }
             if (isKey(slotBuffer, key)) {
-                return getValue(dataOffset + offset);
+                return getValue(inputView, dataOffset + offset);
             }
         }
         return null;
@@ -155,7 +196,7 @@ public class HashLookupStoreReader
         return true;
     }
 
-    private byte[] getValue(long offset) throws IOException {
+    private byte[] getValue(RandomAccessInputView inputView, long offset) throws IOException {
         inputView.setReadPosition(offset);
 
         // Get size of data
@@ -219,6 +260,7 @@ public class HashLookupStoreReader
 
         @Override
         public FastEntry next() {
+            int epoch = cacheManager.enterRead();
             try {
                 inputView.setReadPosition(currentIndexOffset);
 
@@ -234,7 +276,7 @@ public class HashLookupStoreReader
 
                 if (withValue) {
                     long valueOffset = currentDataOffset + offset;
-                    value = getValue(valueOffset);
+                    value = getValue(inputView, valueOffset);
                 }
 
                 entry.set(key, value);
@@ -245,6 +287,8 @@ public class HashLookupStoreReader
                 return entry;
             } catch (IOException ex) {
                 throw new RuntimeException(ex);
+            } finally {
+                cacheManager.exitRead(epoch);
             }
         }
 
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.utils.BloomFilter;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.function.Supplier;
+
+/**
+ * A {@link LookupStoreFactory} which stores records in sorted blocks and uses binary search to
+ * lookup records on disk. Records must be written in the order of the key comparator, which is
+ * the order of data files, so no hashing or re-sorting is needed to build the file.
+ */
+public class SortLookupStoreFactory implements LookupStoreFactory {
+
+    private static final String IDENTIFIER = "sort";
+
+    private final Supplier<Comparator<byte[]>> comparatorSupplier;
+    private final CacheManager cacheManager;
+    private final int blockSize;
+    private final String compression;
+    @Nullable private final BlockCompressionFactory compressionFactory;
+
+    /**
+     * @param comparatorSupplier creates comparators of serialized keys, a comparator is created
+     *     for each lookup, so it does not need to be thread-safe.
+     */
+    public SortLookupStoreFactory(
+            Supplier<Comparator<byte[]>> comparatorSupplier,
+            CacheManager cacheManager,
+            int blockSize,
+            String compression) {
+        this.comparatorSupplier = comparatorSupplier;
+        this.cacheManager = cacheManager;
+        this.blockSize = blockSize;
+        this.compression = compression;
+        this.compressionFactory = BlockCompressionFactory.create(compression);
+    }
+
+    @Override
+    public SortLookupStoreReader createReader(File file, Context context) throws IOException {
+        return new SortLookupStoreReader(
+                file,
+                (SortContext) context,
+                comparatorSupplier,
+                cacheManager,
+                blockSize,
+                compressionFactory);
+    }
+
+    @Override
+    public SortLookupStoreWriter createWriter(File file, @Nullable BloomFilter.Builder bloomFilter)
+            throws IOException {
+        return new SortLookupStoreWriter(file, blockSize, bloomFilter, compressionFactory);
+    }
+
+    @Override
+    public byte[] serializeContext(Context context) throws IOException {
+        DataOutputSerializer out = new DataOutputSerializer(32);
+        // distinguish from contexts of hash store, whose first field is the compression
+        out.writeUTF(IDENTIFIER);
+        // blocks of store file can only be read with the same compression
+        out.writeUTF(compression);
+        out.writeLong(((SortContext) context).fileSize);
+        return out.getCopyOfBuffer();
+    }
+
+    @Nullable
+    @Override
+    public Context deserializeContext(byte[] bytes) throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer(bytes);
+        if (!IDENTIFIER.equals(in.readUTF()) || !compression.equals(in.readUTF())) {
+            return null;
+        }
+        return new SortContext(in.readLong());
+    }
+}
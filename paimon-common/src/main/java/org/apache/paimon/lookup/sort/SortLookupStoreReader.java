@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.io.DataInputDeserializer;
+import org.apache.paimon.io.PageFileInput;
+import org.apache.paimon.io.cache.CacheKey;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreReader;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.utils.FileBasedBloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.FOOTER_LENGTH;
+import static org.apache.paimon.lookup.sort.SortLookupStoreWriter.MAGIC_NUMBER;
+
+/**
+ * Reader for {@link SortLookupStoreFactory}. The index block is kept in memory, data blocks are
+ * read through the {@link CacheManager}.
+ */
+public class SortLookupStoreReader implements LookupStoreReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SortLookupStoreReader.class);
+
+    private final Supplier<Comparator<byte[]>> comparatorSupplier;
+    private final CacheManager cacheManager;
+    private final PageFileInput fileInput;
+    @Nullable private final BlockDecompressor decompressor;
+
+    // last key, position and length of each data block
+    private final byte[][] blockLastKeys;
+    private final long[] blockOffsets;
+    private final int[] blockLengths;
+    private final int[] blockUncompressedLengths;
+
+    private final Set<Integer> cachedBlocks;
+
+    @Nullable private final FileBasedBloomFilter bloomFilter;
+
+    SortLookupStoreReader(
+            File file,
+            SortContext context,
+            Supplier<Comparator<byte[]>> comparatorSupplier,
+            CacheManager cacheManager,
+            int cachePageSize,
+            @Nullable BlockCompressionFactory compressionFactory)
+            throws IOException {
+        if (!file.exists()) {
+            throw new FileNotFoundException("File " + file.getAbsolutePath() + " not found");
+        }
+
+        LOG.info("Opening file {}", file.getName());
+
+        this.comparatorSupplier = comparatorSupplier;
+        this.cacheManager = cacheManager;
+        this.decompressor =
+                compressionFactory == null ? null : compressionFactory.getDecompressor();
+        this.cachedBlocks = ConcurrentHashMap.newKeySet();
+        this.fileInput = PageFileInput.create(file, cachePageSize, null, context.fileSize, null);
+
+        DataInputDeserializer footer =
+                new DataInputDeserializer(
+                        fileInput.readPosition(context.fileSize - FOOTER_LENGTH, FOOTER_LENGTH));
+        long bloomFilterOffset = footer.readLong();
+        int bloomFilterBytes = footer.readInt();
+        long bloomFilterExpectedEntries = footer.readLong();
+        long indexOffset = footer.readLong();
+        int indexBytes = footer.readInt();
+        if (footer.readInt() != MAGIC_NUMBER) {
+            fileInput.close();
+            throw new IOException("File " + file.getAbsolutePath() + " is not a sort lookup file");
+        }
+
+        List<byte[]> lastKeys = new ArrayList<>();
+        List<long[]> blocks = new ArrayList<>();
+        DataInputDeserializer index =
+                new DataInputDeserializer(fileInput.readPosition(indexOffset, indexBytes));
+        while (index.available() > 0) {
+            byte[] lastKey = new byte[VarLengthIntUtils.decodeInt(index)];
+            index.readFully(lastKey);
+            lastKeys.add(lastKey);
+            blocks.add(new long[] {index.readLong(), index.readInt(), index.readInt()});
+        }
+        this.blockLastKeys = lastKeys.toArray(new byte[0][]);
+        this.blockOffsets = new long[blocks.size()];
+        this.blockLengths = new int[blocks.size()];
+        this.blockUncompressedLengths = new int[blocks.size()];
+        for (int i = 0; i < blocks.size(); i++) {
+            long[] block = blocks.get(i);
+            blockOffsets[i] = block[0];
+            blockLengths[i] = (int) block[1];
+            blockUncompressedLengths[i] = (int) block[2];
+        }
+
+        this.bloomFilter =
+                bloomFilterBytes == 0
+                        ? null
+                        : new FileBasedBloomFilter(
+                                fileInput,
+                                cacheManager,
+                                bloomFilterExpectedEntries,
+                                bloomFilterOffset,
+                                bloomFilterBytes);
+    }
+
+    @Nullable
+    @Override
+    public byte[] lookup(byte[] key) throws IOException {
+        int epoch = cacheManager.enterRead();
+        try {
+            return lookupInternal(key);
+        } finally {
+            cacheManager.exitRead(epoch);
+        }
+    }
+
+    @Nullable
+    private byte[] lookupInternal(byte[] key) throws IOException {
+        if (bloomFilter != null && !bloomFilter.testHash(MurmurHashUtils.hashBytes(key))) {
+            return null;
+        }
+
+        Comparator<byte[]> comparator = comparatorSupplier.get();
+
+        // find the first block whose last key is not less than the key
+        int low = 0;
+        int high = blockLastKeys.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(blockLastKeys[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (low == blockLastKeys.length) {
+            return null;
+        }
+
+        return lookupInBlock(readBlock(low), key, comparator);
+    }
+
+    @Nullable
+    private byte[] lookupInBlock(byte[] block, byte[] key, Comparator<byte[]> comparator)
+            throws IOException {
+        DataInputDeserializer in = new DataInputDeserializer();
+        seek(in, block, block.length - 4);
+        int restartCount = in.readInt();
+        int restartsOffset = block.length - 4 - restartCount * 4;
+
+        // find the last restart point whose key is not greater than the key
+        int low = 0;
+        int high = restartCount - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            seek(in, block, restartOffset(in, block, restartsOffset, mid));
+            VarLengthIntUtils.decodeInt(in);
+            byte[] restartKey = new byte[VarLengthIntUtils.decodeInt(in)];
+            VarLengthIntUtils.decodeInt(in);
+            in.readFully(restartKey);
+            if (comparator.compare(restartKey, key) <= 0) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // scan entries from the restart point, reconstructing keys from shared prefixes
+        seek(in, block, restartOffset(in, block, restartsOffset, low));
+        byte[] current = new byte[0];
+        while (in.getPosition() < restartsOffset) {
+            int shared = VarLengthIntUtils.decodeInt(in);
+            int unshared = VarLengthIntUtils.decodeInt(in);
+            int valueLength = VarLengthIntUtils.decodeInt(in);
+            byte[] entryKey = new byte[shared + unshared];
+            System.arraycopy(current, 0, entryKey, 0, shared);
+            in.readFully(entryKey, shared, unshared);
+            current = entryKey;
+
+            int compare = comparator.compare(entryKey, key);
+            if (compare == 0) {
+                byte[] value = new byte[valueLength];
+                in.readFully(value);
+                return value;
+            } else if (compare > 0) {
+                return null;
+            }
+            in.skipBytesToRead(valueLength);
+        }
+        return null;
+    }
+
+    private static int restartOffset(
+            DataInputDeserializer in, byte[] block, int restartsOffset, int restart)
+            throws IOException {
+        seek(in, block, restartsOffset + restart * 4);
+        return in.readInt();
+    }
+
+    private static void seek(DataInputDeserializer in, byte[] block, int position) {
+        in.setBuffer(block, position, block.length - position);
+    }
+
+    private byte[] readBlock(int blockIndex) {
+        MemorySegment segment =
+                cacheManager.getPage(
+                        blockCacheKey(blockIndex),
+                        key -> {
+                            cachedBlocks.add(blockIndex);
+                            return readBlockFromFile(blockIndex);
+                        },
+                        key -> cachedBlocks.remove(blockIndex));
+        if (segment.isOffHeap()) {
+            byte[] block = new byte[segment.size()];
+            segment.get(0, block, 0, block.length);
+            return block;
+        }
+        return segment.getArray();
+    }
+
+    private byte[] readBlockFromFile(int blockIndex) throws IOException {
+        byte[] bytes = fileInput.readPosition(blockOffsets[blockIndex], blockLengths[blockIndex]);
+        if (decompressor == null) {
+            return bytes;
+        }
+
+        byte[] uncompressed = new byte[blockUncompressedLengths[blockIndex]];
+        synchronized (decompressor) {
+            decompressor.decompress(bytes, 0, bytes.length, uncompressed, 0);
+        }
+        return uncompressed;
+    }
+
+    private CacheKey blockCacheKey(int blockIndex) {
+        return CacheKey.forPosition(
+                fileInput.file(), blockOffsets[blockIndex], blockLengths[blockIndex]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // copy out to avoid ConcurrentModificationException
+        List<Integer> blocks = new ArrayList<>(cachedBlocks);
+        blocks.forEach(block -> cacheManager.invalidPage(blockCacheKey(block)));
+        fileInput.close();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.io.DataOutputSerializer;
+import org.apache.paimon.lookup.LookupStoreFactory.Context;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.MurmurHashUtils;
+import org.apache.paimon.utils.VarLengthIntUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writer for {@link SortLookupStoreFactory}. Keys must be put in the order of the key comparator,
+ * so the file is written in a single pass:
+ *
+ * <pre>
+ * +------------+-----+------------+--------------+-------------+--------+
+ * | data block | ... | data block | bloom filter | index block | footer |
+ * +------------+-----+------------+--------------+-------------+--------+
+ * </pre>
+ *
+ * <p>Entries in a data block share key prefixes with their previous entries, except for restart
+ * points every {@link #RESTART_INTERVAL} entries, which are listed at the end of the block. The
+ * index block holds the last key, position and length of each data block.
+ */
+public class SortLookupStoreWriter implements LookupStoreWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SortLookupStoreWriter.class);
+
+    static final int MAGIC_NUMBER = 0x534F5254;
+    static final int RESTART_INTERVAL = 16;
+    // bloom offset, bloom bytes, bloom expected entries, index offset, index bytes, magic
+    static final int FOOTER_LENGTH = 8 + 4 + 8 + 8 + 4 + 4;
+
+    private final File file;
+    private final DataOutputStream out;
+    private final int blockSize;
+    @Nullable private final BloomFilter.Builder bloomFilter;
+    @Nullable private final BlockCompressor compressor;
+
+    private final DataOutputSerializer block;
+    private final List<Integer> restarts;
+    private final DataOutputSerializer index;
+
+    private byte[] lastKey;
+    private int blockEntries;
+    private long position;
+    private long keyCount;
+    private int blockCount;
+
+    SortLookupStoreWriter(
+            File file,
+            int blockSize,
+            @Nullable BloomFilter.Builder bloomFilter,
+            @Nullable BlockCompressionFactory compressionFactory)
+            throws IOException {
+        this.file = file;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        this.blockSize = blockSize;
+        this.bloomFilter = bloomFilter;
+        this.compressor = compressionFactory == null ? null : compressionFactory.getCompressor();
+        this.block = new DataOutputSerializer(blockSize);
+        this.restarts = new ArrayList<>();
+        this.index = new DataOutputSerializer(1024);
+    }
+
+    @Override
+    public void put(byte[] key, byte[] value) throws IOException {
+        if (bloomFilter != null) {
+            bloomFilter.addHash(MurmurHashUtils.hashBytes(key));
+        }
+
+        int shared = 0;
+        if (blockEntries % RESTART_INTERVAL == 0) {
+            restarts.add(block.length());
+        } else {
+            int limit = Math.min(lastKey.length, key.length);
+            while (shared < limit && lastKey[shared] == key[shared]) {
+                shared++;
+            }
+        }
+
+        VarLengthIntUtils.encodeInt(block, shared);
+        VarLengthIntUtils.encodeInt(block, key.length - shared);
+        VarLengthIntUtils.encodeInt(block, value.length);
+        block.write(key, shared, key.length - shared);
+        block.write(value);
+
+        lastKey = key;
+        blockEntries++;
+        keyCount++;
+
+        if (block.length() >= blockSize) {
+            flushBlock();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        for (int restart : restarts) {
+            block.writeInt(restart);
+        }
+        block.writeInt(restarts.size());
+
+        byte[] bytes = block.getSharedBuffer();
+        int uncompressedLength = block.length();
+        int length = uncompressedLength;
+        if (compressor != null) {
+            byte[] compressed = new byte[compressor.getMaxCompressedSize(uncompressedLength)];
+            length = compressor.compress(bytes, 0, uncompressedLength, compressed, 0);
+            bytes = compressed;
+        }
+        out.write(bytes, 0, length);
+
+        VarLengthIntUtils.encodeInt(index, lastKey.length);
+        index.write(lastKey);
+        index.writeLong(position);
+        index.writeInt(length);
+        index.writeInt(uncompressedLength);
+
+        position += length;
+        blockCount++;
+        block.clear();
+        restarts.clear();
+        blockEntries = 0;
+    }
+
+    @Override
+    public Context close() throws IOException {
+        try {
+            if (blockEntries > 0) {
+                flushBlock();
+            }
+
+            long bloomFilterOffset = position;
+            int bloomFilterBytes = 0;
+            long bloomFilterExpectedEntries = 0;
+            if (bloomFilter != null) {
+                bloomFilterBytes = bloomFilter.getBuffer().size();
+                bloomFilterExpectedEntries = bloomFilter.expectedEntries();
+                out.write(bloomFilter.getBuffer().getArray(), 0, bloomFilterBytes);
+                position += bloomFilterBytes;
+            }
+
+            long indexOffset = position;
+            out.write(index.getSharedBuffer(), 0, index.length());
+            position += index.length();
+
+            out.writeLong(bloomFilterOffset);
+            out.writeInt(bloomFilterBytes);
+            out.writeLong(bloomFilterExpectedEntries);
+            out.writeLong(indexOffset);
+            out.writeInt(index.length());
+            out.writeInt(MAGIC_NUMBER);
+            position += FOOTER_LENGTH;
+        } finally {
+            out.close();
+        }
+
+        LOG.info(
+                "Write {} keys in {} blocks to file {}, size: {} bytes",
+                keyCount,
+                blockCount,
+                file.getName(),
+                position);
+        return new SortContext(position);
+    }
+}
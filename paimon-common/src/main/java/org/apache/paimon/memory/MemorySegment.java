@@ -92,6 +92,16 @@ public final class MemorySegment {
         return size;
     }
 
+    /**
+     * Releases the memory of a segment allocated by {@link #allocateOffHeapMemory} immediately,
+     * instead of waiting for garbage collection. The segment must not be accessed anymore.
+     */
+    public void free() {
+        if (offHeapBuffer != null) {
+            MemoryUtils.releaseDirectBuffer(offHeapBuffer);
+        }
+    }
+
     public boolean isOffHeap() {
         return heapMemory == null;
     }
@@ -20,7 +20,10 @@ package org.apache.paimon.memory;
 
 import org.apache.paimon.utils.Preconditions;
 
+import javax.annotation.Nullable;
+
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -38,6 +41,8 @@ public class MemoryUtils {
     private static final long BUFFER_ADDRESS_FIELD_OFFSET =
             getClassFieldOffset(Buffer.class, "address");
 
+    @Nullable private static final Method INVOKE_CLEANER = getInvokeCleaner();
+
     @SuppressWarnings("restriction")
     private static sun.misc.Unsafe getUnsafe() {
         try {
@@ -123,6 +128,40 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the memory of a direct or memory mapped {@link ByteBuffer} immediately, instead of
+     * waiting for garbage collection. The buffer must not be a slice or duplicate, and it must not
+     * be accessed anymore.
+     */
+    public static void releaseDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.isDirect(), "Can't release a non-direct ByteBuffer.");
+        try {
+            if (INVOKE_CLEANER != null) {
+                // java 9+
+                INVOKE_CLEANER.invoke(UNSAFE, buffer);
+            } else {
+                // java 8
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    cleaner.getClass().getMethod("clean").invoke(cleaner);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Could not release direct byte buffer.", e);
+        }
+    }
+
+    @Nullable
+    private static Method getInvokeCleaner() {
+        try {
+            return UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
@@ -62,6 +62,10 @@ public class BitSet {
         return this.memorySegment;
     }
 
+    public int getOffset() {
+        return this.offset;
+    }
+
     /**
      * Sets the bit at specified index.
      *
@@ -83,6 +87,14 @@ public class BitSet {
      * @return - value at the bit position
      */
     public boolean get(int index) {
+        return get(memorySegment, offset, index);
+    }
+
+    /**
+     * Returns true if the bit is set in the specified index of the given segment, this does not
+     * touch the bound {@link MemorySegment} so it can be used by concurrent readers.
+     */
+    public boolean get(MemorySegment memorySegment, int offset, int index) {
         checkArgument(index < bitLength && index >= 0);
 
         int byteIndex = index >>> 3;
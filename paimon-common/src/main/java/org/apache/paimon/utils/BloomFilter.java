@@ -86,6 +86,14 @@ public class BloomFilter {
     }
 
     public boolean testHash(int hash1) {
+        return testHash(hash1, bitSet.getMemorySegment(), bitSet.getOffset());
+    }
+
+    /**
+     * Test the hash against the given segment instead of the bound one, so that concurrent readers
+     * are not affected by {@link #setMemorySegment} and {@link #unsetMemorySegment}.
+     */
+    public boolean testHash(int hash1, MemorySegment memorySegment, int offset) {
         int hash2 = hash1 >>> 16;
 
         for (int i = 1; i <= numHashFunctions; i++) {
@@ -95,7 +103,7 @@ public class BloomFilter {
                 combinedHash = ~combinedHash;
             }
             int pos = combinedHash % bitSet.bitSize();
-            if (!bitSet.get(pos)) {
+            if (!bitSet.get(memorySegment, offset, pos)) {
                 return false;
             }
         }
@@ -22,7 +22,11 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.io.PageFileInput;
 import org.apache.paimon.io.cache.CacheKey;
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.io.cache.CacheManager.CacheValue;
+
+import javax.annotation.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.paimon.io.cache.CacheManager.REFRESH_COUNT;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -36,7 +40,10 @@ public class FileBasedBloomFilter {
     private final long readOffset;
     private final int readLength;
 
-    private int accessCount;
+    private final AtomicInteger accessCount;
+
+    // page of the filter, evicted pages may have been recycled and must not be accessed
+    @Nullable private volatile CacheValue page;
 
     public FileBasedBloomFilter(
             PageFileInput input,
@@ -50,27 +57,32 @@ public class FileBasedBloomFilter {
         this.filter = new BloomFilter(expectedEntries, readLength);
         this.readOffset = readOffset;
         this.readLength = readLength;
-        this.accessCount = 0;
+        this.accessCount = new AtomicInteger();
     }
 
+    /**
+     * Test the hash, must be called between {@link CacheManager#enterRead()} and {@link
+     * CacheManager#exitRead(int)}.
+     */
     public boolean testHash(int hash) {
-        accessCount++;
+        CacheValue value = this.page;
         // we should refresh cache in LRU, but we cannot refresh everytime, it is costly.
         // so we introduce a refresh count to reduce refresh
-        if (accessCount == REFRESH_COUNT || filter.getMemorySegment() == null) {
-            MemorySegment segment =
-                    cacheManager.getPage(
+        if (value == null || value.isClosed() || accessCount.incrementAndGet() >= REFRESH_COUNT) {
+            value =
+                    cacheManager.getValue(
                             CacheKey.forPosition(input.file(), readOffset, readLength),
                             key -> input.readPosition(readOffset, readLength),
-                            key -> filter.unsetMemorySegment());
-            filter.setMemorySegment(segment, 0);
-            accessCount = 0;
+                            key -> this.page = null);
+            this.page = value;
+            accessCount.set(0);
         }
-        return filter.testHash(hash);
+        return filter.testHash(hash, value.segment(), 0);
     }
 
     @VisibleForTesting
-    BloomFilter bloomFilter() {
-        return filter;
+    @Nullable
+    CacheValue page() {
+        return page;
     }
 }
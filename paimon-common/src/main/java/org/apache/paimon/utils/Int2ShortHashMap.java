@@ -23,7 +23,7 @@ import it.unimi.dsi.fastutil.ints.IntArrayList;
 import it.unimi.dsi.fastutil.shorts.ShortArrayList;
 
 /** Int to short hash map. */
-public class Int2ShortHashMap {
+public class Int2ShortHashMap implements Int2ShortMap {
 
     private final Int2ShortOpenHashMap map;
 
@@ -35,18 +35,22 @@ public class Int2ShortHashMap {
         this.map = new Int2ShortOpenHashMap(capacity);
     }
 
+    @Override
     public void put(int key, short value) {
         map.put(key, value);
     }
 
+    @Override
     public boolean containsKey(int key) {
         return map.containsKey(key);
     }
 
+    @Override
     public short get(int key) {
         return map.get(key);
     }
 
+    @Override
     public int size() {
         return map.size();
     }
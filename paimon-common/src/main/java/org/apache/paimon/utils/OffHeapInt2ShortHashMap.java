@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * Int to short hash map whose entries are stored in off-heap {@link MemorySegment}s with open
+ * addressing and linear probing, so that huge maps neither occupy the JVM heap nor add to garbage
+ * collection pauses.
+ *
+ * <p>Only values in {@code [0, Short.MAX_VALUE)} are supported, a value is stored plus one so that
+ * zeroed memory marks empty slots.
+ *
+ * <p>The memory is direct memory of the JVM, it must be released by {@link #close()}.
+ */
+public class OffHeapInt2ShortHashMap implements Int2ShortMap {
+
+    private static final int ENTRY_SIZE = 6;
+    private static final int MAX_SEGMENT_ENTRIES_BITS = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private MemorySegment[] segments;
+    private int segmentEntriesBits;
+    private int segmentEntriesMask;
+    private int mask;
+    private int growThreshold;
+    private int size;
+
+    public OffHeapInt2ShortHashMap() {
+        this(16);
+    }
+
+    public OffHeapInt2ShortHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    private static int capacityFor(int expectedSize) {
+        long capacity = Math.max(2, (long) Math.ceil(expectedSize / LOAD_FACTOR));
+        if (capacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) capacity - 1) << 1;
+    }
+
+    private void allocate(int capacity) {
+        this.segmentEntriesBits =
+                Math.min(MathUtils.log2strict(capacity), MAX_SEGMENT_ENTRIES_BITS);
+        this.segmentEntriesMask = (1 << segmentEntriesBits) - 1;
+        this.segments = new MemorySegment[capacity >>> segmentEntriesBits];
+        for (int i = 0; i < segments.length; i++) {
+            // direct memory is zeroed, which means all slots are empty
+            segments[i] = MemorySegment.allocateOffHeapMemory(ENTRY_SIZE << segmentEntriesBits);
+        }
+        this.mask = capacity - 1;
+        this.growThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    @Override
+    public void put(int key, short value) {
+        checkArgument(
+                value >= 0 && value < Short.MAX_VALUE,
+                "Value %s is out of range [0, %s).",
+                value,
+                Short.MAX_VALUE);
+        int slot = findSlot(key);
+        short stored = storedValue(slot);
+        if (stored == 0) {
+            if (size >= growThreshold) {
+                if (mask + 1 == MAX_CAPACITY) {
+                    throw new IllegalStateException(
+                            "Too many entries in the map, the max capacity is "
+                                    + MAX_CAPACITY
+                                    + ".");
+                }
+                grow();
+                slot = findSlot(key);
+            }
+            size++;
+            segment(slot).putInt(offset(slot), key);
+        }
+        segment(slot).putShort(offset(slot) + 4, (short) (value + 1));
+    }
+
+    @Override
+    public boolean containsKey(int key) {
+        return storedValue(findSlot(key)) != 0;
+    }
+
+    /** Returns the value of the key, or 0 if the key does not exist. */
+    @Override
+    public short get(int key) {
+        short stored = storedValue(findSlot(key));
+        return stored == 0 ? 0 : (short) (stored - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /** Returns the slot of the key, or the empty slot where it should be inserted. */
+    private int findSlot(int key) {
+        int slot = mix(key) & mask;
+        while (true) {
+            MemorySegment segment = segment(slot);
+            int offset = offset(slot);
+            if (segment.getShort(offset + 4) == 0 || segment.getInt(offset) == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        MemorySegment[] oldSegments = segments;
+        int oldSegmentEntries = segmentEntriesMask + 1;
+        allocate((mask + 1) << 1);
+        for (MemorySegment segment : oldSegments) {
+            for (int i = 0; i < oldSegmentEntries; i++) {
+                int offset = i * ENTRY_SIZE;
+                short stored = segment.getShort(offset + 4);
+                if (stored != 0) {
+                    int key = segment.getInt(offset);
+                    int slot = findSlot(key);
+                    segment(slot).putInt(offset(slot), key);
+                    segment(slot).putShort(offset(slot) + 4, stored);
+                }
+            }
+            segment.free();
+        }
+    }
+
+    /** Releases the off-heap memory, the map must not be accessed anymore. */
+    @Override
+    public void close() {
+        if (segments != null) {
+            for (MemorySegment segment : segments) {
+                segment.free();
+            }
+            segments = null;
+        }
+    }
+
+    private short storedValue(int slot) {
+        return segment(slot).getShort(offset(slot) + 4);
+    }
+
+    private MemorySegment segment(int slot) {
+        return segments[slot >>> segmentEntriesBits];
+    }
+
+    private int offset(int slot) {
+        return (slot & segmentEntriesMask) * ENTRY_SIZE;
+    }
+
+    /** Spreads the bits of key hashes, which may be filtered by their low bits before. */
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
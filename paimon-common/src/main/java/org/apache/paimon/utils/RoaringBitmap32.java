@@ -35,6 +35,10 @@ public class RoaringBitmap32 {
         this.roaringBitmap = new RoaringBitmap();
     }
 
+    private RoaringBitmap32(RoaringBitmap roaringBitmap) {
+        this.roaringBitmap = roaringBitmap;
+    }
+
     public void add(int x) {
         roaringBitmap.add(x);
     }
@@ -43,6 +47,19 @@ public class RoaringBitmap32 {
         roaringBitmap.or(other.roaringBitmap);
     }
 
+    /** Adds the values in the range [rangeStart, rangeEnd). */
+    public void add(long rangeStart, long rangeEnd) {
+        roaringBitmap.add(rangeStart, rangeEnd);
+    }
+
+    public void and(RoaringBitmap32 other) {
+        roaringBitmap.and(other.roaringBitmap);
+    }
+
+    public void andNot(RoaringBitmap32 other) {
+        roaringBitmap.andNot(other.roaringBitmap);
+    }
+
     public boolean checkedAdd(int x) {
         return roaringBitmap.checkedAdd(x);
     }
@@ -59,6 +76,16 @@ public class RoaringBitmap32 {
         return roaringBitmap.getLongCardinality();
     }
 
+    /** Checks whether the bitmap contains a value in the range [minimum, supremum). */
+    public boolean intersects(long minimum, long supremum) {
+        return roaringBitmap.intersects(minimum, supremum);
+    }
+
+    /** Returns the first value not less than fromValue, or -1 if there is no such value. */
+    public long nextValue(int fromValue) {
+        return roaringBitmap.nextValue(fromValue);
+    }
+
     public void serialize(DataOutput out) throws IOException {
         roaringBitmap.runOptimize();
         roaringBitmap.serialize(out);
@@ -67,4 +94,46 @@ public class RoaringBitmap32 {
     public void deserialize(DataInput in) throws IOException {
         roaringBitmap.deserialize(in);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return roaringBitmap.equals(((RoaringBitmap32) o).roaringBitmap);
+    }
+
+    @Override
+    public int hashCode() {
+        return roaringBitmap.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return roaringBitmap.toString();
+    }
+
+    public static RoaringBitmap32 bitmapOf(int... values) {
+        return new RoaringBitmap32(RoaringBitmap.bitmapOf(values));
+    }
+
+    /** Returns a bitmap of the values in the range [start, end). */
+    public static RoaringBitmap32 bitmapOfRange(long start, long end) {
+        return new RoaringBitmap32(RoaringBitmap.bitmapOfRange(start, end));
+    }
+
+    public static RoaringBitmap32 and(RoaringBitmap32 x1, RoaringBitmap32 x2) {
+        return new RoaringBitmap32(RoaringBitmap.and(x1.roaringBitmap, x2.roaringBitmap));
+    }
+
+    public static RoaringBitmap32 or(RoaringBitmap32 x1, RoaringBitmap32 x2) {
+        return new RoaringBitmap32(RoaringBitmap.or(x1.roaringBitmap, x2.roaringBitmap));
+    }
+
+    public static RoaringBitmap32 andNot(RoaringBitmap32 x1, RoaringBitmap32 x2) {
+        return new RoaringBitmap32(RoaringBitmap.andNot(x1.roaringBitmap, x2.roaringBitmap));
+    }
 }
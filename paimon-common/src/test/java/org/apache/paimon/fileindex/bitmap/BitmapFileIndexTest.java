@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.bitmap;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexFormat;
+import org.apache.paimon.fileindex.FileIndexPredicate;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.bloomfilter.BloomFilterFileIndex;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.PredicateBuilder;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link BitmapFileIndex}. */
+public class BitmapFileIndexTest {
+
+    @Test
+    public void testStringColumn() {
+        BitmapFileIndex index = new BitmapFileIndex(DataTypes.STRING(), new Options());
+        FileIndexWriter writer = index.createWriter();
+        String[] values = {"a", "b", null, "a", "c", "b", null, "ab"};
+        for (String value : values) {
+            writer.writeRecord(value == null ? null : BinaryString.fromString(value));
+        }
+        FileIndexReader reader = index.createReader(writer.serializedBytes());
+
+        assertThat(rows(reader.visitEqual(null, BinaryString.fromString("a"))))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 3));
+        assertThat(reader.visitEqual(null, BinaryString.fromString("d")).remain()).isFalse();
+        assertThat(rows(reader.visitNotEqual(null, BinaryString.fromString("a"))))
+                .isEqualTo(RoaringBitmap32.bitmapOf(1, 4, 5, 7));
+        assertThat(
+                        rows(
+                                reader.visitIn(
+                                        null,
+                                        Arrays.asList(
+                                                BinaryString.fromString("b"),
+                                                BinaryString.fromString("c")))))
+                .isEqualTo(RoaringBitmap32.bitmapOf(1, 4, 5));
+        assertThat(
+                        rows(
+                                reader.visitNotIn(
+                                        null,
+                                        Arrays.asList(
+                                                BinaryString.fromString("b"),
+                                                BinaryString.fromString("c")))))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 3, 7));
+        assertThat(rows(reader.visitIsNull(null))).isEqualTo(RoaringBitmap32.bitmapOf(2, 6));
+        assertThat(rows(reader.visitIsNotNull(null)))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 1, 3, 4, 5, 7));
+        assertThat(rows(reader.visitStartsWith(null, BinaryString.fromString("a"))))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 3, 7));
+    }
+
+    @Test
+    public void testRangeOnIntColumn() {
+        BitmapFileIndex index = new BitmapFileIndex(DataTypes.INT(), new Options());
+        FileIndexWriter writer = index.createWriter();
+        Integer[] values = {3, 1, 2, null, 1, 3};
+        for (Integer value : values) {
+            writer.writeRecord(value);
+        }
+        FileIndexReader reader = index.createReader(writer.serializedBytes());
+
+        assertThat(rows(reader.visitLessThan(null, 2))).isEqualTo(RoaringBitmap32.bitmapOf(1, 4));
+        assertThat(rows(reader.visitLessOrEqual(null, 2)))
+                .isEqualTo(RoaringBitmap32.bitmapOf(1, 2, 4));
+        assertThat(rows(reader.visitGreaterThan(null, 2)))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 5));
+        assertThat(rows(reader.visitGreaterOrEqual(null, 2)))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 2, 5));
+        assertThat(reader.visitGreaterThan(null, 3).remain()).isFalse();
+    }
+
+    @Test
+    public void testCombineWithOtherIndex() {
+        BitmapFileIndex bitmap = new BitmapFileIndex(DataTypes.INT(), new Options());
+        FileIndexWriter bitmapWriter = bitmap.createWriter();
+        BloomFilterFileIndex bloomFilter =
+                new BloomFilterFileIndex(DataTypes.INT(), new Options());
+        FileIndexWriter bloomFilterWriter = bloomFilter.createWriter();
+        for (int i = 0; i < 10; i++) {
+            bitmapWriter.writeRecord(i % 3);
+            bloomFilterWriter.writeRecord(i % 3);
+        }
+        FileIndexReader bitmapReader = bitmap.createReader(bitmapWriter.serializedBytes());
+        FileIndexReader bloomFilterReader =
+                bloomFilter.createReader(bloomFilterWriter.serializedBytes());
+
+        FileIndexResult result =
+                bloomFilterReader.visitEqual(null, 1).and(bitmapReader.visitEqual(null, 1));
+        assertThat(rows(result)).isEqualTo(RoaringBitmap32.bitmapOf(1, 4, 7));
+        result = bitmapReader.visitEqual(null, 1).or(bitmapReader.visitEqual(null, 2));
+        assertThat(rows(result)).isEqualTo(RoaringBitmap32.bitmapOf(1, 2, 4, 5, 7, 8));
+        result = bitmapReader.visitEqual(null, 1).or(bloomFilterReader.visitEqual(null, 2));
+        assertThat(result).isSameAs(FileIndexResult.REMAIN);
+    }
+
+    @Test
+    public void testFileIndexPredicate() throws Exception {
+        RowType rowType = RowType.of(DataTypes.INT(), DataTypes.STRING());
+        BitmapFileIndex index = new BitmapFileIndex(DataTypes.STRING(), new Options());
+        FileIndexWriter writer = index.createWriter();
+        String[] values = {"a", "b", "a", "c"};
+        for (String value : values) {
+            writer.writeRecord(BinaryString.fromString(value));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (FileIndexFormat.Writer formatWriter = FileIndexFormat.createWriter(out)) {
+            formatWriter.writeColumnIndexes(
+                    Collections.singletonMap(
+                            "f1",
+                            Collections.singletonMap(
+                                    BitmapFileIndex.BITMAP, writer.serializedBytes())));
+        }
+
+        PredicateBuilder builder = new PredicateBuilder(rowType);
+        try (FileIndexPredicate predicate = new FileIndexPredicate(out.toByteArray(), rowType)) {
+            FileIndexResult result =
+                    predicate.evaluate(
+                            PredicateBuilder.and(
+                                    builder.greaterThan(0, 1),
+                                    PredicateBuilder.or(
+                                            builder.equal(1, BinaryString.fromString("a")),
+                                            builder.equal(1, BinaryString.fromString("c")))));
+            assertThat(rows(result)).isEqualTo(RoaringBitmap32.bitmapOf(0, 2, 3));
+            assertThat(predicate.testPredicate(builder.equal(1, BinaryString.fromString("d"))))
+                    .isFalse();
+        }
+    }
+
+    private RoaringBitmap32 rows(FileIndexResult result) {
+        assertThat(result).isInstanceOf(BitmapIndexResult.class);
+        return ((BitmapIndexResult) result).get();
+    }
+}
@@ -63,14 +63,14 @@ public class BloomFilterFileIndexTest {
         FileIndexReader reader = filter.createReader(writer.serializedBytes());
 
         for (byte[] bytes : testData) {
-            Assertions.assertThat(reader.visitEqual(null, bytes)).isTrue();
+            Assertions.assertThat(reader.visitEqual(null, bytes).remain()).isTrue();
         }
 
         int errorCount = 0;
         int num = 1000000;
         for (int i = 0; i < num; i++) {
             byte[] ra = random();
-            if (reader.visitEqual(null, ra)) {
+            if (reader.visitEqual(null, ra).remain()) {
                 errorCount++;
             }
         }
@@ -103,14 +103,14 @@ public class BloomFilterFileIndexTest {
         FileIndexReader reader = filter.createReader(writer.serializedBytes());
 
         for (Long value : testData) {
-            Assertions.assertThat(reader.visitEqual(null, value)).isTrue();
+            Assertions.assertThat(reader.visitEqual(null, value).remain()).isTrue();
         }
 
         int errorCount = 0;
         int num = 1000000;
         for (int i = 0; i < num; i++) {
             Long ra = RANDOM.nextLong();
-            if (reader.visitEqual(null, ra)) {
+            if (reader.visitEqual(null, ra).remain()) {
                 errorCount++;
             }
         }
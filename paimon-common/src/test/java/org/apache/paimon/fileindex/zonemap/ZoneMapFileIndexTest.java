@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.zonemap;
+
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.RoaringBitmap32;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link ZoneMapFileIndex}. */
+public class ZoneMapFileIndexTest {
+
+    @Test
+    public void testSelectBlocks() {
+        ZoneMapFileIndex index =
+                new ZoneMapFileIndex(
+                        DataTypes.INT(),
+                        new Options(Collections.singletonMap("block-rows", "4")));
+        FileIndexWriter writer = index.createWriter();
+        // blocks: [5, 1, 3, 2], [9, null, 7, 8], [null, null]
+        Integer[] values = {5, 1, 3, 2, 9, null, 7, 8, null, null};
+        for (Integer value : values) {
+            writer.writeRecord(value);
+        }
+        FileIndexReader reader = index.createReader(writer.serializedBytes());
+
+        assertThat(rows(reader.visitLessThan(null, 2)))
+                .isEqualTo(RoaringBitmap32.bitmapOf(0, 1, 2, 3));
+        assertThat(rows(reader.visitGreaterOrEqual(null, 5)))
+                .isEqualTo(RoaringBitmap32.bitmapOfRange(0, 8));
+        assertThat(rows(reader.visitGreaterThan(null, 5)))
+                .isEqualTo(RoaringBitmap32.bitmapOfRange(4, 8));
+        assertThat(rows(reader.visitEqual(null, 8))).isEqualTo(RoaringBitmap32.bitmapOfRange(4, 8));
+        assertThat(reader.visitEqual(null, 6).remain()).isFalse();
+        assertThat(reader.visitEqual(null, 10).remain()).isFalse();
+        assertThat(rows(reader.visitIsNull(null))).isEqualTo(RoaringBitmap32.bitmapOfRange(4, 10));
+        assertThat(rows(reader.visitIsNotNull(null)))
+                .isEqualTo(RoaringBitmap32.bitmapOfRange(0, 8));
+
+        // between 6 and 8
+        FileIndexResult between =
+                reader.visitGreaterOrEqual(null, 6).and(reader.visitLessOrEqual(null, 8));
+        assertThat(rows(between)).isEqualTo(RoaringBitmap32.bitmapOfRange(4, 8));
+    }
+
+    private RoaringBitmap32 rows(FileIndexResult result) {
+        assertThat(result).isInstanceOf(BitmapIndexResult.class);
+        return ((BitmapIndexResult) result).get();
+    }
+}
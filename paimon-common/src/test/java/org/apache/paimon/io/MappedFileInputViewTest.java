@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.memory.MemorySegment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link MappedFileInputView}. */
+public class MappedFileInputViewTest {
+
+    @TempDir Path tempDir;
+
+    private final ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+    @Test
+    public void testRead() throws IOException {
+        byte[] bytes = new byte[rnd.nextInt(5000, 100000)];
+        rnd.nextBytes(bytes);
+        MemorySegment segment = MemorySegment.wrap(bytes);
+        File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        Files.write(file.toPath(), bytes);
+
+        // map in segments of 1 KB, so reads cross segments
+        MappedFileInputView view = MappedFileInputView.map(file, 10);
+        assertThat(view.segment(bytes.length >> 10)).isNotNull();
+        assertThat(view.segment((bytes.length >> 10) + 1)).isNull();
+
+        view.setReadPosition(0);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(0));
+
+        view.setReadPosition(1021);
+        assertThat(view.readLong()).isEqualTo(segment.getLongBigEndian(1021));
+
+        view.setReadPosition(bytes.length - 1);
+        assertThat(view.readByte()).isEqualTo(bytes[bytes.length - 1]);
+        assertThatThrownBy(view::readByte).isInstanceOf(EOFException.class);
+
+        // duplicated views have their own read positions
+        MappedFileInputView duplicate = view.duplicate();
+        for (int i = 0; i < 10000; i++) {
+            int position = rnd.nextInt(bytes.length - 8);
+            duplicate.setReadPosition(position);
+            view.setReadPosition(bytes.length - 8 - position);
+            assertThat(duplicate.readLong()).isEqualTo(segment.getLongBigEndian(position));
+            assertThat(view.readLong())
+                    .isEqualTo(segment.getLongBigEndian(bytes.length - 8 - position));
+        }
+
+        duplicate.close();
+        assertThat(view.retain()).isTrue();
+        view.close();
+
+        // unmapped once the running reader releases the view
+        duplicate.setReadPosition(0);
+        assertThat(duplicate.readByte()).isEqualTo(bytes[0]);
+        view.release();
+        assertThat(view.retain()).isFalse();
+    }
+
+    @Test
+    public void testEmptyFile() throws IOException {
+        File file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        Files.write(file.toPath(), new byte[0]);
+
+        MappedFileInputView view = MappedFileInputView.map(file);
+        assertThat(view.segment(0)).isNull();
+        view.setReadPosition(0);
+        assertThatThrownBy(view::readByte).isInstanceOf(EOFException.class);
+        view.close();
+    }
+}
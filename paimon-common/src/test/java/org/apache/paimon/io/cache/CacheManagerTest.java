@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io.cache;
+
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link CacheManager}. */
+public class CacheManagerTest {
+
+    private static final int PAGE_SIZE = 1024;
+
+    @TempDir Path tempDir;
+
+    @Test
+    public void testStatistics() throws IOException {
+        CacheManager cacheManager = new CacheManager(MemorySize.ofKibiBytes(10));
+        List<Long> loadDurations = new ArrayList<>();
+        cacheManager.withLoadDurationReporter(loadDurations::add);
+        try (RandomAccessFile file = newFile()) {
+            CacheKey key = CacheKey.forPosition(file, 0, PAGE_SIZE);
+            getPage(cacheManager, key);
+            getPage(cacheManager, key);
+            assertThat(cacheManager.missCount()).isEqualTo(1);
+            assertThat(cacheManager.hitCount()).isEqualTo(1);
+            assertThat(cacheManager.usedBytes()).isEqualTo(PAGE_SIZE);
+            assertThat(loadDurations).hasSize(1);
+
+            cacheManager.invalidPage(key);
+            assertThat(cacheManager.usedBytes()).isEqualTo(0);
+            assertThat(cacheManager.evictionCount()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void testSharedCacheQuota() throws IOException {
+        SharedCache sharedCache = new SharedCache(MemorySize.ofKibiBytes(10));
+        CacheManager manager1 = sharedCache.createManager(MemorySize.ofKibiBytes(4));
+        CacheManager manager2 = sharedCache.createManager(MemorySize.ofKibiBytes(4));
+
+        try (RandomAccessFile file1 = newFile();
+                RandomAccessFile file2 = newFile()) {
+            List<CacheKey> keys2 = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                keys2.add(CacheKey.forPosition(file2, (long) i * PAGE_SIZE, PAGE_SIZE));
+                getPage(manager2, keys2.get(i));
+            }
+
+            // manager1 borrows memory beyond its quota while the shared cache is not full
+            for (int i = 0; i < 6; i++) {
+                getPage(manager1, CacheKey.forPosition(file1, (long) i * PAGE_SIZE, PAGE_SIZE));
+            }
+            assertThat(manager1.usedBytes()).isEqualTo(6 * PAGE_SIZE);
+            assertThat(sharedCache.usedBytes()).isEqualTo(10 * PAGE_SIZE);
+
+            // the shared cache is full, manager1 evicts its own pages down to its quota
+            getPage(manager1, CacheKey.forPosition(file1, 6L * PAGE_SIZE, PAGE_SIZE));
+            assertThat(manager1.usedBytes()).isEqualTo(4 * PAGE_SIZE);
+            assertThat(manager1.evictionCount()).isEqualTo(3);
+            assertThat(manager2.usedBytes()).isEqualTo(4 * PAGE_SIZE);
+            assertThat(manager2.evictionCount()).isEqualTo(0);
+            for (CacheKey key : keys2) {
+                assertThat(sharedCache.cache().getIfPresent(key)).isNotNull();
+            }
+        }
+    }
+
+    @Test
+    public void testOffHeapPagesRecycled() throws IOException {
+        SharedCache sharedCache =
+                new SharedCache(
+                        MemorySize.ofKibiBytes(10),
+                        new OffHeapMemorySegmentPool(2 * PAGE_SIZE, PAGE_SIZE));
+        CacheManager manager = sharedCache.createManager(MemorySize.ofKibiBytes(10));
+
+        try (RandomAccessFile file = newFile()) {
+            List<CacheKey> keys = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                keys.add(CacheKey.forPosition(file, (long) i * PAGE_SIZE, PAGE_SIZE));
+            }
+
+            int epoch = manager.enterRead();
+            MemorySegment page1 = getPage(manager, keys.get(0));
+            assertThat(page1.isOffHeap()).isTrue();
+            manager.invalidPage(keys.get(0));
+            MemorySegment page2 = getPage(manager, keys.get(1));
+            assertThat(page2.isOffHeap()).isTrue();
+            manager.invalidPage(keys.get(1));
+
+            // evicted pages are not reused while a reader may still access them
+            MemorySegment page3 = getPage(manager, keys.get(2));
+            assertThat(page3.isOffHeap()).isFalse();
+            manager.exitRead(epoch);
+
+            MemorySegment page4 = getPage(manager, keys.get(3));
+            assertThat(page4).isSameAs(page1);
+        }
+    }
+
+    private MemorySegment getPage(CacheManager cacheManager, CacheKey key) {
+        return cacheManager.getPage(key, k -> new byte[PAGE_SIZE], k -> {});
+    }
+
+    private RandomAccessFile newFile() throws IOException {
+        File file = File.createTempFile("cache", null, tempDir.toFile());
+        return new RandomAccessFile(file, "r");
+    }
+}
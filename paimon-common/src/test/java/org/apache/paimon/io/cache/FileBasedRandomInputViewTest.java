@@ -20,6 +20,7 @@ package org.apache.paimon.io.cache;
 
 import org.apache.paimon.io.PageFileInput;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.options.MemorySize;
 
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,65 @@ public class FileBasedRandomInputViewTest {
         innerTest(rnd.nextInt(5000, 100000), 100);
     }
 
+    @Test
+    public void testEvictPooledPageUnderReader() throws IOException {
+        byte[] bytes1 = randomBytes(4096);
+        byte[] bytes2 = randomBytes(4096);
+        MemorySegment segment1 = MemorySegment.wrap(bytes1);
+        MemorySegment segment2 = MemorySegment.wrap(bytes2);
+        SharedCache sharedCache =
+                new SharedCache(
+                        MemorySize.ofKibiBytes(2), new OffHeapMemorySegmentPool(2048, 1024));
+        CacheManager cacheManager = sharedCache.createManager(MemorySize.ofKibiBytes(2));
+        FileBasedRandomInputView view1 =
+                new FileBasedRandomInputView(
+                        PageFileInput.create(writeFile(bytes1), 1024, null, 0, null),
+                        cacheManager);
+        FileBasedRandomInputView view2 =
+                new FileBasedRandomInputView(
+                        PageFileInput.create(writeFile(bytes2), 1024, null, 0, null),
+                        cacheManager);
+
+        int epoch = cacheManager.enterRead();
+        view1.setReadPosition(0);
+        assertThat(view1.readLong()).isEqualTo(segment1.getLongBigEndian(0));
+
+        // evict the page under the reader, pages of another file must not reuse it
+        cacheManager.cache().invalidateAll();
+        readAllPages(view2, segment2, 4096);
+        assertThat(view1.readLong()).isEqualTo(segment1.getLongBigEndian(8));
+        cacheManager.exitRead(epoch);
+
+        // evicted pages kept by the view are not accessed by later reads
+        for (int i = 0; i < 10; i++) {
+            epoch = cacheManager.enterRead();
+            view1.setReadPosition(16);
+            assertThat(view1.readLong()).isEqualTo(segment1.getLongBigEndian(16));
+            cacheManager.exitRead(epoch);
+
+            epoch = cacheManager.enterRead();
+            readAllPages(view2, segment2, 4096);
+            cacheManager.exitRead(epoch);
+        }
+
+        view1.close();
+        view2.close();
+    }
+
+    private void readAllPages(FileBasedRandomInputView view, MemorySegment expected, int length)
+            throws IOException {
+        for (int position = 0; position < length; position += 1024) {
+            view.setReadPosition(position);
+            assertThat(view.readLong()).isEqualTo(expected.getLongBigEndian(position));
+        }
+    }
+
+    private byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        rnd.nextBytes(bytes);
+        return bytes;
+    }
+
     private void innerTest(int len, int maxFileReadCount) throws IOException {
         byte[] bytes = new byte[len];
         MemorySegment segment = MemorySegment.wrap(bytes);
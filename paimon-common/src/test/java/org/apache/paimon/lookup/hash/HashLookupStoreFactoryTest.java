@@ -65,6 +65,7 @@ public class HashLookupStoreFactoryTest {
 
     private final boolean enableBloomFilter;
     private final String compress;
+    private final boolean mmap;
 
     private File file;
     private HashLookupStoreFactory factory;
@@ -72,23 +73,30 @@ public class HashLookupStoreFactoryTest {
     public HashLookupStoreFactoryTest(List<Object> var) {
         this.enableBloomFilter = (Boolean) var.get(0);
         this.compress = (String) var.get(1);
+        this.mmap = (Boolean) var.get(2);
     }
 
     @SuppressWarnings("unused")
-    @Parameters(name = "enableBf&compress-{0}")
+    @Parameters(name = "enableBf&compress&mmap-{0}")
     public static List<List<Object>> getVarSeg() {
         return Arrays.asList(
-                Arrays.asList(true, "none"),
-                Arrays.asList(false, "none"),
-                Arrays.asList(false, "lz4"),
-                Arrays.asList(true, "lz4"));
+                Arrays.asList(true, "none", false),
+                Arrays.asList(false, "none", false),
+                Arrays.asList(false, "lz4", false),
+                Arrays.asList(true, "lz4", false),
+                Arrays.asList(true, "none", true),
+                Arrays.asList(false, "none", true));
     }
 
     @BeforeEach
     public void setUp() throws IOException {
         this.factory =
                 new HashLookupStoreFactory(
-                        new CacheManager(MemorySize.ofMebiBytes(1)), pageSize, 0.75d, compress);
+                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                        pageSize,
+                        0.75d,
+                        compress,
+                        mmap);
         this.file = new File(tempDir.toFile(), UUID.randomUUID().toString());
         if (!file.createNewFile()) {
             throw new IOException("Can not create file: " + file);
@@ -137,6 +145,27 @@ public class HashLookupStoreFactoryTest {
         reader.close();
     }
 
+    @TestTemplate
+    public void testSerializeContext() throws IOException {
+        Context context =
+                writeStore(file, new Object[] {1, 245, "foo"}, new Object[] {"a", "b", "c"});
+        byte[] bytes = factory.serializeContext(context);
+
+        HashLookupStoreReader reader =
+                factory.createReader(file, factory.deserializeContext(bytes));
+        assertThat(reader.lookup(toBytes(1))).isEqualTo(toBytes("a"));
+        assertThat(reader.lookup(toBytes(245))).isEqualTo(toBytes("b"));
+        assertThat(reader.lookup(toBytes("foo"))).isEqualTo(toBytes("c"));
+        assertThat(reader.lookup(toBytes(2))).isNull();
+        reader.close();
+
+        // store written with other compression or page size can not be read
+        HashLookupStoreFactory otherFactory =
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(1)), pageSize * 2, 0.75d, compress);
+        assertThat(otherFactory.deserializeContext(bytes)).isNull();
+    }
+
     @TestTemplate
     public void testTwoFirstKeyLength() throws IOException {
         int key1 = 1;
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.lookup.sort;
+
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.lookup.LookupStoreFactory.Context;
+import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.testutils.junit.parameterized.ParameterizedTestExtension;
+import org.apache.paimon.testutils.junit.parameterized.Parameters;
+import org.apache.paimon.utils.BloomFilter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link SortLookupStoreFactory}. */
+@ExtendWith(ParameterizedTestExtension.class)
+public class SortLookupStoreFactoryTest {
+
+    private static final Comparator<byte[]> COMPARATOR =
+            (k1, k2) -> {
+                int limit = Math.min(k1.length, k2.length);
+                for (int i = 0; i < limit; i++) {
+                    int compare = Integer.compare(k1[i] & 0xff, k2[i] & 0xff);
+                    if (compare != 0) {
+                        return compare;
+                    }
+                }
+                return Integer.compare(k1.length, k2.length);
+            };
+
+    @TempDir Path tempDir;
+
+    private final int blockSize = 1024;
+
+    private final boolean enableBloomFilter;
+    private final String compress;
+
+    private File file;
+    private SortLookupStoreFactory factory;
+
+    public SortLookupStoreFactoryTest(List<Object> var) {
+        this.enableBloomFilter = (Boolean) var.get(0);
+        this.compress = (String) var.get(1);
+    }
+
+    @SuppressWarnings("unused")
+    @Parameters(name = "enableBf&compress-{0}")
+    public static List<List<Object>> getVarSeg() {
+        return Arrays.asList(
+                Arrays.asList(true, "none"),
+                Arrays.asList(false, "none"),
+                Arrays.asList(false, "lz4"),
+                Arrays.asList(true, "lz4"));
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        this.factory = createFactory(compress);
+        this.file = new File(tempDir.toFile(), UUID.randomUUID().toString());
+        if (!file.createNewFile()) {
+            throw new IOException("Can not create file: " + file);
+        }
+    }
+
+    private SortLookupStoreFactory createFactory(String compress) {
+        return new SortLookupStoreFactory(
+                () -> COMPARATOR, new CacheManager(MemorySize.ofMebiBytes(1)), blockSize, compress);
+    }
+
+    private BloomFilter.Builder createBloomFiler(long expectedEntries) {
+        if (!enableBloomFilter) {
+            return null;
+        }
+        return BloomFilter.builder(expectedEntries, 0.01);
+    }
+
+    private static byte[] key(int i) {
+        return String.format("key-%08d", i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] value(int i) {
+        byte[] value = new byte[i % 50];
+        new Random(i).nextBytes(value);
+        return value;
+    }
+
+    private Context writeStore(int start, int end, int step) throws IOException {
+        SortLookupStoreWriter writer =
+                factory.createWriter(file, createBloomFiler((end - start) / step + 1));
+        for (int i = start; i < end; i += step) {
+            writer.put(key(i), value(i));
+        }
+        return writer.close();
+    }
+
+    @TestTemplate
+    public void testEmpty() throws IOException {
+        Context context = writeStore(0, 0, 1);
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+        assertThat(reader.lookup(key(1))).isNull();
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testOneKey() throws IOException {
+        Context context = writeStore(1, 2, 1);
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+        assertThat(reader.lookup(key(1))).isEqualTo(value(1));
+        assertThat(reader.lookup(key(0))).isNull();
+        assertThat(reader.lookup(key(2))).isNull();
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testMultipleBlocks() throws IOException {
+        // only even keys are written, keys span many blocks and restart intervals
+        int count = 10_000;
+        Context context = writeStore(0, count * 2, 2);
+        assertThat(file.length()).isGreaterThan(blockSize * 10L);
+
+        SortLookupStoreReader reader = factory.createReader(file, context);
+        for (int i = 0; i < count * 2; i++) {
+            if (i % 2 == 0) {
+                assertThat(reader.lookup(key(i))).isEqualTo(value(i));
+            } else {
+                assertThat(reader.lookup(key(i))).isNull();
+            }
+        }
+        assertThat(reader.lookup(key(-1))).isNull();
+        assertThat(reader.lookup(key(count * 2))).isNull();
+        reader.close();
+    }
+
+    @TestTemplate
+    public void testSerializeContext() throws IOException {
+        Context context = writeStore(0, 100, 1);
+        byte[] bytes = factory.serializeContext(context);
+
+        SortLookupStoreReader reader =
+                factory.createReader(file, factory.deserializeContext(bytes));
+        assertThat(reader.lookup(key(10))).isEqualTo(value(10));
+        assertThat(reader.lookup(key(100))).isNull();
+        reader.close();
+
+        // store written with other compression or store type can not be read
+        String otherCompress = compress.equals("none") ? "lz4" : "none";
+        assertThat(createFactory(otherCompress).deserializeContext(bytes)).isNull();
+        HashLookupStoreFactory hashFactory =
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(1)), blockSize, 0.75d, compress);
+        assertThat(hashFactory.deserializeContext(bytes)).isNull();
+    }
+}
@@ -60,7 +60,7 @@ public class FileBasedBloomFilterTest {
         Arrays.stream(inputs)
                 .forEach(i -> Assertions.assertThat(filter.testHash(Integer.hashCode(i))).isTrue());
         cacheManager.cache().invalidateAll();
-        Assertions.assertThat(filter.bloomFilter().getMemorySegment()).isNull();
+        Assertions.assertThat(filter.page()).isNull();
     }
 
     private File writeFile(byte[] bytes) throws IOException {
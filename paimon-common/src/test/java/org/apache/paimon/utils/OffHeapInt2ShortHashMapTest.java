@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link OffHeapInt2ShortHashMap}. */
+public class OffHeapInt2ShortHashMapTest {
+
+    @Test
+    public void testRandom() {
+        Map<Integer, Short> values = new HashMap<>();
+        Random rnd = new Random();
+        // enough entries to grow over several segments
+        int num = rnd.nextInt(200_000);
+        for (int i = 0; i < num; i++) {
+            values.put(rnd.nextInt(), (short) rnd.nextInt(Short.MAX_VALUE));
+        }
+        values.put(0, (short) 0);
+        values.put(-1, (short) 1);
+
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap();
+        values.forEach(map::put);
+
+        assertThat(map.size()).isEqualTo(values.size());
+        values.forEach(
+                (k, v) -> {
+                    assertThat(map.containsKey(k)).isTrue();
+                    assertThat(map.get(k)).isEqualTo(v);
+                });
+
+        for (int i = 0; i < 1000; i++) {
+            int key = rnd.nextInt();
+            assertThat(map.containsKey(key)).isEqualTo(values.containsKey(key));
+        }
+    }
+
+    @Test
+    public void testOverwrite() {
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap(1);
+        map.put(5, (short) 1);
+        map.put(5, (short) 2);
+        assertThat(map.size()).isEqualTo(1);
+        assertThat(map.get(5)).isEqualTo((short) 2);
+        assertThat(map.containsKey(6)).isFalse();
+    }
+
+    @Test
+    public void testPresizedAndClose() {
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap(100_000);
+        for (int i = 0; i < 200_000; i++) {
+            map.put(i, (short) (i % 100));
+        }
+        assertThat(map.get(150_000)).isEqualTo((short) 0);
+        assertThat(map.get(199_999)).isEqualTo((short) 99);
+
+        // closing twice is a no-op
+        map.close();
+        map.close();
+    }
+
+    @Test
+    public void testInvalidValue() {
+        OffHeapInt2ShortHashMap map = new OffHeapInt2ShortHashMap();
+        assertThatThrownBy(() -> map.put(1, (short) -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> map.put(1, Short.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
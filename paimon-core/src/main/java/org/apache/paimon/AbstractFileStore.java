@@ -18,6 +18,7 @@
 
 package org.apache.paimon;
 
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsIndexFile;
 import org.apache.paimon.fs.FileIO;
@@ -90,7 +91,11 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
         this.writeManifestCache =
                 writeManifestCache.getBytes() == 0
                         ? null
-                        : new SegmentsCache<>(options.pageSize(), writeManifestCache);
+                        : new SegmentsCache<>(
+                                options.pageSize(),
+                                writeManifestCache,
+                                BlockCompressionFactory.create(
+                                        options.writeManifestCacheCompression()));
     }
 
     @Override
@@ -194,6 +199,7 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 options.manifestTargetSize(),
                 options.manifestFullCompactionThresholdSize(),
                 options.manifestMergeMinCount(),
+                options.scanManifestParallelism(),
                 partitionType.getFieldCount() > 0 && options.dynamicPartitionOverwrite(),
                 newKeyComparator(),
                 branchName,
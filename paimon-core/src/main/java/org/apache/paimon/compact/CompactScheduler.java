@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded compaction thread pool which can be shared by all writers of the process, see {@link
+ * #processScheduler}.
+ *
+ * <p>Waiting tasks are ordered by {@link CompactTask#priority()}, the most urgent compaction runs
+ * first. Tasks with the same priority run in submission order.
+ */
+public class CompactScheduler extends ThreadPoolExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static CompactScheduler processScheduler;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CompactScheduler(int threadNum, String threadName) {
+        super(
+                threadNum,
+                threadNum,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory(threadName));
+        // no threads are left when no table is compacting
+        allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the scheduler shared by all writers of the process. It is never shut down, and it is
+     * enlarged if a writer asks for more threads than it has.
+     */
+    public static synchronized CompactScheduler processScheduler(int threadNum) {
+        if (processScheduler == null) {
+            processScheduler = new CompactScheduler(threadNum, "paimon-compaction");
+        } else if (processScheduler.getMaximumPoolSize() < threadNum) {
+            processScheduler.setMaximumPoolSize(threadNum);
+            processScheduler.setCorePoolSize(threadNum);
+        }
+        return processScheduler;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        // the priority queue can only hold comparable tasks
+        super.execute(
+                command instanceof PrioritizedTask
+                        ? command
+                        : new PrioritizedTask<>(command, null, 0, sequence.getAndIncrement()));
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        int priority = callable instanceof CompactTask ? ((CompactTask) callable).priority() : 0;
+        return new PrioritizedTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedTask<>(runnable, value, 0, sequence.getAndIncrement());
+    }
+
+    /** A task ordered by descending priority and ascending submission sequence. */
+    private static class PrioritizedTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+
+        private PrioritizedTask(Callable<T> callable, int priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        private PrioritizedTask(Runnable runnable, T value, int priority, long sequence) {
+            super(runnable, value);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedTask<?> other) {
+            int result = Integer.compare(other.priority, priority);
+            return result == 0 ? Long.compare(sequence, other.sequence) : result;
+        }
+    }
+}
@@ -36,13 +36,32 @@ public abstract class CompactTask implements Callable<CompactResult> {
     private static final Logger LOG = LoggerFactory.getLogger(CompactTask.class);
 
     @Nullable private final CompactionMetrics.Reporter metricsReporter;
+    // tasks are submitted right after being created
+    private final long submitMillis;
+
+    private int priority;
 
     public CompactTask(@Nullable CompactionMetrics.Reporter metricsReporter) {
         this.metricsReporter = metricsReporter;
+        this.submitMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Sets the priority of this task, a {@link CompactScheduler} runs the waiting task with the
+     * highest priority first.
+     */
+    public CompactTask withPriority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public int priority() {
+        return priority;
     }
 
     @Override
     public CompactResult call() throws Exception {
+        MetricUtils.safeCall(this::reportWaitTime, LOG);
         MetricUtils.safeCall(this::startTimer, LOG);
         try {
             long startMillis = System.currentTimeMillis();
@@ -56,6 +75,12 @@ public abstract class CompactTask implements Callable<CompactResult> {
         }
     }
 
+    private void reportWaitTime() {
+        if (metricsReporter != null) {
+            metricsReporter.reportWaitTime(System.currentTimeMillis() - submitMillis);
+        }
+    }
+
     private void startTimer() {
         if (metricsReporter != null) {
             metricsReporter.getCompactTimer().start();
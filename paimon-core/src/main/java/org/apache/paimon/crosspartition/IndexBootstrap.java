@@ -20,12 +20,15 @@ package org.apache.paimon.crosspartition;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.table.DataTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.source.AbstractInnerTableScan;
 import org.apache.paimon.table.source.DataSplit;
@@ -42,12 +45,17 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.apache.paimon.CoreOptions.SCAN_MODE;
+import static org.apache.paimon.CoreOptions.SCAN_SNAPSHOT_ID;
+import static org.apache.paimon.CoreOptions.StartupMode.FROM_SNAPSHOT;
 import static org.apache.paimon.CoreOptions.StartupMode.LATEST;
 import static org.apache.paimon.io.SplitsParallelReadUtil.parallelExecute;
 
@@ -70,6 +78,12 @@ public class IndexBootstrap implements Serializable {
     }
 
     public RecordReader<InternalRow> bootstrap(int numAssigners, int assignId) throws IOException {
+        return bootstrap(numAssigners, assignId, System.currentTimeMillis());
+    }
+
+    @VisibleForTesting
+    RecordReader<InternalRow> bootstrap(int numAssigners, int assignId, long currentTime)
+            throws IOException {
         RowType rowType = table.rowType();
         List<String> fieldNames = rowType.getFieldNames();
         int[] keyProjection =
@@ -78,30 +92,51 @@ public class IndexBootstrap implements Serializable {
                         .mapToInt(Integer::intValue)
                         .toArray();
 
-        // force using the latest scan mode
+        // resolve the latest snapshot once, so that partition listing and planning see the same
+        // state even if a commit happens in between
+        Long snapshotId = ((DataTable) table).snapshotManager().latestSnapshotId();
+        Map<String, String> dynamicOptions = new HashMap<>();
+        if (snapshotId != null) {
+            dynamicOptions.put(SCAN_MODE.key(), FROM_SNAPSHOT.toString());
+            dynamicOptions.put(SCAN_SNAPSHOT_ID.key(), String.valueOf(snapshotId));
+        } else {
+            dynamicOptions.put(SCAN_MODE.key(), LATEST.toString());
+        }
         ReadBuilder readBuilder =
-                table.copy(Collections.singletonMap(SCAN_MODE.key(), LATEST.toString()))
-                        .newReadBuilder()
-                        .withProjection(keyProjection);
+                table.copy(dynamicOptions).newReadBuilder().withProjection(keyProjection);
 
-        AbstractInnerTableScan tableScan = (AbstractInnerTableScan) readBuilder.newScan();
-        List<Split> splits =
-                tableScan
-                        .withBucketFilter(bucket -> bucket % numAssigners == assignId)
-                        .plan()
-                        .splits();
+        AbstractInnerTableScan tableScan =
+                ((AbstractInnerTableScan) readBuilder.newScan())
+                        .withBucketFilter(bucket -> bucket % numAssigners == assignId);
 
         CoreOptions options = CoreOptions.fromMap(table.options());
         Duration indexTtl = options.crossPartitionUpsertIndexTtl();
+        long indexTtlMillis = indexTtl == null ? Long.MAX_VALUE : indexTtl.toMillis();
+        boolean allPruned = snapshotId == null;
+        if (snapshotId != null && indexTtl != null && !table.partitionKeys().isEmpty()) {
+            // prune the partitions without any file created within the ttl before planning, so
+            // that their manifest entries are skipped instead of becoming splits
+            List<BinaryRow> partitions =
+                    tableScan.withSnapshot(snapshotId).listPartitionEntries().stream()
+                            .filter(p -> currentTime <= p.lastFileCreationTime() + indexTtlMillis)
+                            .map(PartitionEntry::partition)
+                            .collect(Collectors.toList());
+            allPruned = partitions.isEmpty();
+            tableScan.withPartitionFilter(partitions);
+        }
+
+        List<Split> splits = allPruned ? Collections.emptyList() : tableScan.plan().splits();
         if (indexTtl != null) {
-            long indexTtlMillis = indexTtl.toMillis();
-            long currentTime = System.currentTimeMillis();
             splits =
                     splits.stream()
                             .filter(split -> filterSplit(split, indexTtlMillis, currentTime))
                             .collect(Collectors.toList());
         }
 
+        // read the largest splits first, so that the parallel readers finish at about the same time
+        splits = new ArrayList<>(splits);
+        splits.sort(Comparator.comparingLong(IndexBootstrap::splitSize).reversed());
+
         RowDataToObjectArrayConverter partBucketConverter =
                 new RowDataToObjectArrayConverter(
                         TypeUtils.concat(
@@ -123,6 +158,10 @@ public class IndexBootstrap implements Serializable {
                 (row, extra) -> new JoinedRow().replace(row, extra));
     }
 
+    private static long splitSize(Split split) {
+        return ((DataSplit) split).dataFiles().stream().mapToLong(DataFileMeta::fileSize).sum();
+    }
+
     @VisibleForTesting
     static boolean filterSplit(Split split, long indexTtl, long currentTime) {
         List<DataFileMeta> files = ((DataSplit) split).dataFiles();
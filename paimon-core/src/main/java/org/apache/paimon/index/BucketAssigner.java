@@ -27,6 +27,9 @@ public interface BucketAssigner {
 
     void prepareCommit(long commitIdentifier);
 
+    /** Releases the memory of the assigner. */
+    default void close() {}
+
     static int computeHashKey(int partitionHash, int keyHash, int numChannels, int numAssigners) {
         int start = Math.abs(partitionHash % numChannels);
         int id = Math.abs(keyHash % numAssigners);
@@ -26,14 +26,22 @@ import org.apache.paimon.utils.SnapshotManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import javax.annotation.Nullable;
+
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Assign bucket for key hashcode. */
+/**
+ * Assign bucket for key hashcode.
+ *
+ * <p>Partition indexes are kept in least recently used order. If the number of cached hash entries
+ * is limited, indexes of other partitions are evicted when a new one is loaded, as long as their
+ * assignments have been committed, so that they can be reloaded from the index files later.
+ */
 public class HashBucketAssigner implements BucketAssigner {
 
     private static final Logger LOG = LoggerFactory.getLogger(HashBucketAssigner.class);
@@ -45,9 +53,17 @@ public class HashBucketAssigner implements BucketAssigner {
     private final int numAssigners;
     private final int assignId;
     private final long targetBucketRowNumber;
+    private final boolean offHeapIndex;
 
     private final Map<BinaryRow, PartitionIndex> partitionIndex;
 
+    @Nullable private Long maxIndexEntries;
+
+    // the latest committed identifier of the commit user, and the latest snapshot it was searched
+    // from, it only needs to be searched again after a new snapshot
+    private long committedIdentifier = Long.MIN_VALUE;
+    @Nullable private Long committedIdentifierSnapshot;
+
     public HashBucketAssigner(
             SnapshotManager snapshotManager,
             String commitUser,
@@ -55,7 +71,8 @@ public class HashBucketAssigner implements BucketAssigner {
             int numChannels,
             int numAssigners,
             int assignId,
-            long targetBucketRowNumber) {
+            long targetBucketRowNumber,
+            boolean offHeapIndex) {
         this.snapshotManager = snapshotManager;
         this.commitUser = commitUser;
         this.indexFileHandler = indexFileHandler;
@@ -63,7 +80,15 @@ public class HashBucketAssigner implements BucketAssigner {
         this.numAssigners = numAssigners;
         this.assignId = assignId;
         this.targetBucketRowNumber = targetBucketRowNumber;
-        this.partitionIndex = new HashMap<>();
+        this.offHeapIndex = offHeapIndex;
+        // access order, the least recently used partition comes first
+        this.partitionIndex = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /** Limits the total number of key hashes of the cached partition indexes. */
+    public HashBucketAssigner withMaxIndexEntries(@Nullable Long maxIndexEntries) {
+        this.maxIndexEntries = maxIndexEntries;
+        return this;
     }
 
     /** Assign a bucket for key hash of a record. */
@@ -82,6 +107,7 @@ public class HashBucketAssigner implements BucketAssigner {
             partition = partition.copy();
             index = loadIndex(partition, partitionHash);
             this.partitionIndex.put(partition, index);
+            evictIfNeeded(partition);
         }
 
         int assigned = index.assign(hash, this::isMyBucket);
@@ -110,11 +136,7 @@ public class HashBucketAssigner implements BucketAssigner {
             // that there is no previous snapshot by this user, which is very inefficient.
             latestCommittedIdentifier = Long.MIN_VALUE;
         } else {
-            latestCommittedIdentifier =
-                    snapshotManager
-                            .latestSnapshotOfUser(commitUser)
-                            .map(Snapshot::commitIdentifier)
-                            .orElse(Long.MIN_VALUE);
+            latestCommittedIdentifier = latestCommittedIdentifier();
         }
 
         Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
@@ -142,6 +164,7 @@ public class HashBucketAssigner implements BucketAssigner {
                                 latestCommittedIdentifier,
                                 commitIdentifier);
                     }
+                    index.close();
                     iterator.remove();
                 }
             }
@@ -149,6 +172,75 @@ public class HashBucketAssigner implements BucketAssigner {
         }
     }
 
+    private long latestCommittedIdentifier() {
+        Long latestSnapshotId = snapshotManager.latestSnapshotId();
+        if (latestSnapshotId == null || !latestSnapshotId.equals(committedIdentifierSnapshot)) {
+            committedIdentifier =
+                    snapshotManager
+                            .latestSnapshotOfUser(commitUser)
+                            .map(Snapshot::commitIdentifier)
+                            .orElse(Long.MIN_VALUE);
+            committedIdentifierSnapshot = latestSnapshotId;
+        }
+        return committedIdentifier;
+    }
+
+    /**
+     * Evicts least recently used partition indexes until the number of cached key hashes fits into
+     * the limit. Only indexes not accessed since the last commit are evicted, and only if that
+     * commit has finished, otherwise their new assignments would be lost. The snapshots are only
+     * searched for the committed identifier if there is such an index and a new snapshot since the
+     * last search.
+     */
+    private void evictIfNeeded(BinaryRow current) {
+        if (maxIndexEntries == null) {
+            return;
+        }
+
+        long entries = partitionIndex.values().stream().mapToLong(i -> i.hash2Bucket.size()).sum();
+        if (entries <= maxIndexEntries) {
+            return;
+        }
+
+        boolean hasCandidate =
+                partitionIndex.entrySet().stream()
+                        .anyMatch(e -> !e.getKey().equals(current) && !e.getValue().accessed);
+        if (!hasCandidate) {
+            return;
+        }
+
+        long latestCommittedIdentifier = latestCommittedIdentifier();
+        Iterator<Map.Entry<BinaryRow, PartitionIndex>> iterator =
+                partitionIndex.entrySet().iterator();
+        while (entries > maxIndexEntries && iterator.hasNext()) {
+            Map.Entry<BinaryRow, PartitionIndex> entry = iterator.next();
+            PartitionIndex index = entry.getValue();
+            if (!entry.getKey().equals(current)
+                    && !index.accessed
+                    && index.lastAccessedCommitIdentifier <= latestCommittedIdentifier) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug(
+                            "Evicting index for partition {} with {} entries, "
+                                    + "the max number of index entries is {}.",
+                            entry.getKey(),
+                            index.hash2Bucket.size(),
+                            maxIndexEntries);
+                }
+                entries -= index.hash2Bucket.size();
+                index.close();
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        for (PartitionIndex index : partitionIndex.values()) {
+            index.close();
+        }
+        partitionIndex.clear();
+    }
+
     @VisibleForTesting
     Set<BinaryRow> currentPartitions() {
         return partitionIndex.keySet();
@@ -168,6 +260,7 @@ public class HashBucketAssigner implements BucketAssigner {
                 partition,
                 targetBucketRowNumber,
                 (hash) -> computeAssignId(partitionHash, hash) == assignId,
-                this::isMyBucket);
+                this::isMyBucket,
+                offHeapIndex);
     }
 }
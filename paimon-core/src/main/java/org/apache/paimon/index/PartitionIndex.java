@@ -21,7 +21,9 @@ package org.apache.paimon.index;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.utils.Int2ShortHashMap;
+import org.apache.paimon.utils.Int2ShortMap;
 import org.apache.paimon.utils.IntIterator;
+import org.apache.paimon.utils.OffHeapInt2ShortHashMap;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -39,7 +41,7 @@ import static org.apache.paimon.index.HashIndexFile.HASH_INDEX;
 /** Bucket Index Per Partition. */
 public class PartitionIndex {
 
-    public final Int2ShortHashMap hash2Bucket;
+    public final Int2ShortMap hash2Bucket;
 
     public final Map<Integer, Long> nonFullBucketInformation;
 
@@ -52,7 +54,7 @@ public class PartitionIndex {
     public long lastAccessedCommitIdentifier;
 
     public PartitionIndex(
-            Int2ShortHashMap hash2Bucket,
+            Int2ShortMap hash2Bucket,
             Map<Integer, Long> bucketInformation,
             long targetBucketRowNumber) {
         this.hash2Bucket = hash2Bucket;
@@ -105,36 +107,70 @@ public class PartitionIndex {
                         maxBucket, targetBucketRowNumber));
     }
 
+    /** Releases the memory of the hash index, the index must not be accessed anymore. */
+    public void close() {
+        hash2Bucket.close();
+    }
+
+    /**
+     * Loads the index of a partition. An off-heap index receives the hashes directly and is
+     * presized by the row count of the index files of the buckets of this assigner, while a heap
+     * index collects them first to be built with the exact capacity.
+     */
     public static PartitionIndex loadIndex(
             IndexFileHandler indexFileHandler,
             BinaryRow partition,
             long targetBucketRowNumber,
             IntPredicate loadFilter,
-            IntPredicate bucketFilter) {
+            IntPredicate bucketFilter,
+            boolean offHeap) {
         List<IndexManifestEntry> files = indexFileHandler.scan(HASH_INDEX, partition);
-        Int2ShortHashMap.Builder mapBuilder = Int2ShortHashMap.builder();
+        Int2ShortHashMap.Builder mapBuilder = offHeap ? null : Int2ShortHashMap.builder();
+        OffHeapInt2ShortHashMap offHeapMap = null;
+        if (offHeap) {
+            long expectedSize = 0;
+            for (IndexManifestEntry file : files) {
+                if (bucketFilter.test(file.bucket())) {
+                    expectedSize += file.indexFile().rowCount();
+                }
+            }
+            offHeapMap =
+                    new OffHeapInt2ShortHashMap((int) Math.min(expectedSize, Integer.MAX_VALUE));
+        }
         Map<Integer, Long> buckets = new HashMap<>();
-        for (IndexManifestEntry file : files) {
-            try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
-                while (true) {
-                    try {
-                        int hash = iterator.next();
-                        if (loadFilter.test(hash)) {
-                            mapBuilder.put(hash, (short) file.bucket());
-                        }
-                        if (bucketFilter.test(file.bucket())) {
-                            buckets.compute(
-                                    file.bucket(),
-                                    (bucket, number) -> number == null ? 1 : number + 1);
+        try {
+            for (IndexManifestEntry file : files) {
+                try (IntIterator iterator = indexFileHandler.readHashIndex(file.indexFile())) {
+                    while (true) {
+                        try {
+                            int hash = iterator.next();
+                            if (loadFilter.test(hash)) {
+                                if (offHeap) {
+                                    offHeapMap.put(hash, (short) file.bucket());
+                                } else {
+                                    mapBuilder.put(hash, (short) file.bucket());
+                                }
+                            }
+                            if (bucketFilter.test(file.bucket())) {
+                                buckets.compute(
+                                        file.bucket(),
+                                        (bucket, number) -> number == null ? 1 : number + 1);
+                            }
+                        } catch (EOFException ignored) {
+                            break;
                         }
-                    } catch (EOFException ignored) {
-                        break;
                     }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-            } catch (IOException e) {
-                throw new UncheckedIOException(e);
             }
+        } catch (RuntimeException | Error e) {
+            if (offHeapMap != null) {
+                offHeapMap.close();
+            }
+            throw e;
         }
-        return new PartitionIndex(mapBuilder.build(), buckets, targetBucketRowNumber);
+        return new PartitionIndex(
+                offHeap ? offHeapMap : mapBuilder.build(), buckets, targetBucketRowNumber);
     }
 }
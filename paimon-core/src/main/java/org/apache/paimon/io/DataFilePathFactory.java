@@ -36,6 +36,8 @@ public class DataFilePathFactory {
 
     public static final String INDEX_PATH_SUFFIX = ".index";
 
+    public static final String LOOKUP_PATH_SUFFIX = ".lookup";
+
     private final Path parent;
     private final String uuid;
 
@@ -76,6 +78,10 @@ public class DataFilePathFactory {
         return new Path(filePath.getParent(), filePath.getName() + INDEX_PATH_SUFFIX);
     }
 
+    public static Path toLookupFilePath(Path filePath) {
+        return new Path(filePath.getParent(), filePath.getName() + LOOKUP_PATH_SUFFIX);
+    }
+
     public static String formatIdentifier(String fileName) {
         int index = fileName.lastIndexOf('.');
         if (index == -1) {
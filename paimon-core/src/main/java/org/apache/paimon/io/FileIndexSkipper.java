@@ -19,6 +19,8 @@
 package org.apache.paimon.io;
 
 import org.apache.paimon.fileindex.FileIndexPredicate;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.bitmap.BitmapIndexResult;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -28,10 +30,14 @@ import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
-/** File index reader, do the filter in the constructor. */
+/** File index reader, evaluate the filters on the file index of a data file. */
 public class FileIndexSkipper {
 
-    public static boolean skip(
+    /**
+     * Evaluate the filters on the embedded or independent file index of the data file. The result
+     * is a {@link BitmapIndexResult} if the index tells the positions of the rows to read.
+     */
+    public static FileIndexResult evaluate(
             FileIO fileIO,
             TableSchema dataSchema,
             List<Predicate> dataFilter,
@@ -39,6 +45,15 @@ public class FileIndexSkipper {
             DataFileMeta file)
             throws IOException {
         if (dataFilter != null && !dataFilter.isEmpty()) {
+            Predicate predicate = PredicateBuilder.and(dataFilter.toArray(new Predicate[0]));
+            byte[] embeddedIndex = file.embeddedIndex();
+            if (embeddedIndex != null) {
+                try (FileIndexPredicate indexPredicate =
+                        new FileIndexPredicate(embeddedIndex, dataSchema.logicalRowType())) {
+                    return indexPredicate.evaluate(predicate);
+                }
+            }
+
             List<String> indexFiles =
                     file.extraFiles().stream()
                             .filter(name -> name.endsWith(DataFilePathFactory.INDEX_PATH_SUFFIX))
@@ -50,19 +65,16 @@ public class FileIndexSkipper {
                                     + String.join(" and ", indexFiles));
                 }
                 // go to file index check
-                try (FileIndexPredicate predicate =
+                try (FileIndexPredicate indexPredicate =
                         new FileIndexPredicate(
                                 dataFilePathFactory.toPath(indexFiles.get(0)),
                                 fileIO,
                                 dataSchema.logicalRowType())) {
-                    if (!predicate.testPredicate(
-                            PredicateBuilder.and(dataFilter.toArray(new Predicate[0])))) {
-                        return true;
-                    }
+                    return indexPredicate.evaluate(predicate);
                 }
             }
         }
 
-        return false;
+        return FileIndexResult.REMAIN;
     }
 }
@@ -277,14 +277,15 @@ public final class FileIndexWriter implements Closeable {
             InternalArray keyArray = internalMap.keyArray();
             InternalArray valueArray = internalMap.valueArray();
 
+            Map<String, Object> values = new HashMap<>();
             for (int i = 0; i < keyArray.size(); i++) {
                 String key = keyArray.getString(i).toString();
-                org.apache.paimon.fileindex.FileIndexWriter writer =
-                        indexWritersMap.getOrDefault(key, null);
-                if (writer != null) {
-                    writer.writeRecord(valueElementGetter.getElementOrNull(valueArray, i));
+                if (indexWritersMap.containsKey(key)) {
+                    values.put(key, valueElementGetter.getElementOrNull(valueArray, i));
                 }
             }
+            // write every row to every writer, index like bitmap relies on row positions
+            indexWritersMap.forEach((key, writer) -> writer.writeRecord(values.get(key)));
         }
 
         public void add(String nestedKey, Options nestedOptions) {
@@ -28,6 +28,7 @@ import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.TableStatsExtractor;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.mergetree.RemoteLookupFile;
 import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.RowType;
@@ -40,6 +41,8 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -62,12 +65,14 @@ public class KeyValueDataFileWriter
     private final FieldStatsArraySerializer keyStatsConverter;
     private final FieldStatsArraySerializer valueStatsConverter;
     private final InternalRowSerializer keySerializer;
+    @Nullable private final RemoteLookupFile.Writer lookupFileWriter;
 
     private BinaryRow minKey = null;
     private InternalRow maxKey = null;
     private long minSeqNumber = Long.MAX_VALUE;
     private long maxSeqNumber = Long.MIN_VALUE;
     private long deleteRecordCount = 0;
+    @Nullable private String lookupFile = null;
 
     public KeyValueDataFileWriter(
             FileIO fileIO,
@@ -80,7 +85,8 @@ public class KeyValueDataFileWriter
             long schemaId,
             int level,
             String compression,
-            CoreOptions options) {
+            CoreOptions options,
+            @Nullable RemoteLookupFile.Writer lookupFileWriter) {
         super(
                 fileIO,
                 factory,
@@ -100,11 +106,15 @@ public class KeyValueDataFileWriter
         this.keyStatsConverter = new FieldStatsArraySerializer(keyType);
         this.valueStatsConverter = new FieldStatsArraySerializer(valueType);
         this.keySerializer = new InternalRowSerializer(keyType);
+        this.lookupFileWriter = lookupFileWriter;
     }
 
     @Override
     public void write(KeyValue kv) throws IOException {
         super.write(kv);
+        if (lookupFileWriter != null) {
+            lookupFileWriter.write(kv);
+        }
 
         updateMinKey(kv);
         updateMaxKey(kv);
@@ -139,6 +149,37 @@ public class KeyValueDataFileWriter
         maxSeqNumber = Math.max(maxSeqNumber, kv.sequenceNumber());
     }
 
+    @Override
+    public void close() throws IOException {
+        super.close();
+        if (lookupFileWriter != null && lookupFile == null) {
+            try {
+                lookupFile = lookupFileWriter.finish();
+            } catch (IOException e) {
+                LOG.warn(
+                        "Exception occurs when writing lookup file of " + path + ". Cleaning up.",
+                        e);
+                abort();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void abort() {
+        super.abort();
+        if (lookupFileWriter != null) {
+            lookupFileWriter.abort();
+        }
+    }
+
+    @Override
+    protected List<Path> extraFiles() {
+        return lookupFile == null
+                ? Collections.emptyList()
+                : Collections.singletonList(new Path(path.getParent(), lookupFile));
+    }
+
     @Override
     @Nullable
     public DataFileMeta result() throws IOException {
@@ -156,20 +197,22 @@ public class KeyValueDataFileWriter
                 Arrays.copyOfRange(rowStats, numKeyFields + 2, rowStats.length);
         BinaryTableStats valueStats = valueStatsConverter.toBinary(valFieldStats);
 
-        return new DataFileMeta(
-                path.getName(),
-                fileIO.getFileSize(path),
-                recordCount(),
-                minKey,
-                keySerializer.toBinaryRow(maxKey).copy(),
-                keyStats,
-                valueStats,
-                minSeqNumber,
-                maxSeqNumber,
-                schemaId,
-                level,
-                deleteRecordCount,
-                // TODO: enable file filter for primary key table (e.g. deletion table).
-                null);
+        DataFileMeta meta =
+                new DataFileMeta(
+                        path.getName(),
+                        fileIO.getFileSize(path),
+                        recordCount(),
+                        minKey,
+                        keySerializer.toBinaryRow(maxKey).copy(),
+                        keyStats,
+                        valueStats,
+                        minSeqNumber,
+                        maxSeqNumber,
+                        schemaId,
+                        level,
+                        deleteRecordCount,
+                        // TODO: enable file filter for primary key table (e.g. deletion table).
+                        null);
+        return lookupFile == null ? meta : meta.copy(Collections.singletonList(lookupFile));
     }
 }
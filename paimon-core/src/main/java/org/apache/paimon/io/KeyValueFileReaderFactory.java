@@ -46,10 +46,10 @@ import javax.annotation.Nullable;
 
 import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /** Factory to create {@link RecordReader}s for reading {@link KeyValue} files. */
@@ -90,7 +90,8 @@ public class KeyValueFileReaderFactory implements FileReaderFactory<KeyValue> {
         this.pathFactory = pathFactory;
         this.asyncThreshold = asyncThreshold;
         this.partition = partition;
-        this.bulkFormatMappings = new HashMap<>();
+        // compaction may read files from several threads
+        this.bulkFormatMappings = new ConcurrentHashMap<>();
         this.dvFactory = dvFactory;
         this.ignoreDelete = CoreOptions.fromMap(schema.options()).ignoreDelete();
     }
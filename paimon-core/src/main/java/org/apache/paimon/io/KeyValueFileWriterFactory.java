@@ -28,17 +28,25 @@ import org.apache.paimon.format.FormatWriterFactory;
 import org.apache.paimon.format.TableStatsExtractor;
 import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.mergetree.RemoteLookupFile;
 import org.apache.paimon.statistics.FieldStatsCollector;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.StatsCollectorFactories;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /** A factory to create {@link FileWriter}s for writing {@link KeyValue} files. */
 public class KeyValueFileWriterFactory {
@@ -51,6 +59,10 @@ public class KeyValueFileWriterFactory {
     private final long suggestedFileSize;
     private final CoreOptions options;
 
+    @Nullable private LookupStoreFactory lookupStoreFactory;
+    @Nullable private Supplier<File> localFileFactory;
+    @Nullable private Function<Long, BloomFilter.Builder> bfGenerator;
+
     private KeyValueFileWriterFactory(
             FileIO fileIO,
             long schemaId,
@@ -76,14 +88,61 @@ public class KeyValueFileWriterFactory {
         return valueType;
     }
 
+    /**
+     * Also write a {@link RemoteLookupFile} for each merge tree file above level 0, local files are
+     * created by {@code localFileFactory} to build the store.
+     */
+    public KeyValueFileWriterFactory withRemoteLookupFile(
+            LookupStoreFactory lookupStoreFactory,
+            Supplier<File> localFileFactory,
+            Function<Long, BloomFilter.Builder> bfGenerator) {
+        this.lookupStoreFactory = lookupStoreFactory;
+        this.localFileFactory = localFileFactory;
+        this.bfGenerator = bfGenerator;
+        return this;
+    }
+
     @VisibleForTesting
     public DataFilePathFactory pathFactory(int level) {
         return formatContext.pathFactory(level);
     }
 
     public RollingFileWriter<KeyValue, DataFileMeta> createRollingMergeTreeFileWriter(int level) {
+        return createRollingMergeTreeFileWriter(level, 0);
+    }
+
+    /**
+     * Estimates the max number of rows of each file written by rewriting {@code inputFiles}, that
+     * is the rows of a file of the target size with the average row size of the inputs, capped by
+     * the total rows of the inputs.
+     */
+    public long maxRowCountPerFile(List<DataFileMeta> inputFiles) {
+        long rowCount = 0;
+        long fileSize = 0;
+        for (DataFileMeta file : inputFiles) {
+            rowCount += file.rowCount();
+            fileSize += file.fileSize();
+        }
+        if (rowCount <= 0 || fileSize <= 0) {
+            return rowCount;
+        }
+
+        double rowSize = (double) fileSize / rowCount;
+        return Math.min(rowCount, (long) Math.ceil(suggestedFileSize / rowSize));
+    }
+
+    /**
+     * Creates a rolling writer of merge tree files, {@code maxRowCount} is the max number of rows
+     * of each file to size the bloom filters of remote lookup files, 0 if unknown.
+     */
+    public RollingFileWriter<KeyValue, DataFileMeta> createRollingMergeTreeFileWriter(
+            int level, long maxRowCount) {
         return new RollingFileWriter<>(
-                () -> createDataFileWriter(formatContext.pathFactory(level).newPath(), level),
+                () -> {
+                    Path path = formatContext.pathFactory(level).newPath();
+                    return createDataFileWriter(
+                            path, level, createLookupFileWriter(path, level, maxRowCount));
+                },
                 suggestedFileSize);
     }
 
@@ -91,11 +150,34 @@ public class KeyValueFileWriterFactory {
         return new RollingFileWriter<>(
                 () ->
                         createDataFileWriter(
-                                formatContext.pathFactory(level).newChangelogPath(), level),
+                                formatContext.pathFactory(level).newChangelogPath(), level, null),
                 suggestedFileSize);
     }
 
-    private KeyValueDataFileWriter createDataFileWriter(Path path, int level) {
+    @Nullable
+    private RemoteLookupFile.Writer createLookupFileWriter(
+            Path path, int level, long maxRowCount) {
+        // level 0 files are never looked up
+        if (lookupStoreFactory == null || level == 0) {
+            return null;
+        }
+
+        try {
+            return new RemoteLookupFile.Writer(
+                    fileIO,
+                    DataFilePathFactory.toLookupFilePath(path),
+                    lookupStoreFactory,
+                    localFileFactory.get(),
+                    keyType,
+                    valueType,
+                    bfGenerator.apply(maxRowCount));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private KeyValueDataFileWriter createDataFileWriter(
+            Path path, int level, @Nullable RemoteLookupFile.Writer lookupFileWriter) {
         KeyValueSerializer kvSerializer = new KeyValueSerializer(keyType, valueType);
         return new KeyValueDataFileWriter(
                 fileIO,
@@ -108,13 +190,23 @@ public class KeyValueFileWriterFactory {
                 schemaId,
                 level,
                 formatContext.compression(level),
-                options);
+                options,
+                lookupFileWriter);
     }
 
     public void deleteFile(String filename, int level) {
         fileIO.deleteQuietly(formatContext.pathFactory(level).toPath(filename));
     }
 
+    /** Delete the data file together with its extra files. */
+    public void deleteFile(DataFileMeta file) {
+        DataFilePathFactory pathFactory = formatContext.pathFactory(file.level());
+        fileIO.deleteQuietly(pathFactory.toPath(file.fileName()));
+        for (String extraFile : file.extraFiles()) {
+            fileIO.deleteQuietly(pathFactory.toPath(extraFile));
+        }
+    }
+
     public static Builder builder(
             FileIO fileIO,
             long schemaId,
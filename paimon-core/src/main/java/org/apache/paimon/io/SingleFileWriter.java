@@ -31,6 +31,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -126,7 +128,12 @@ public abstract class SingleFileWriter<T, R> implements FileWriter<T, R> {
             throw new RuntimeException("Writer should be closed!");
         }
 
-        return new AbortExecutor(fileIO, path);
+        return new AbortExecutor(fileIO, path, extraFiles());
+    }
+
+    /** Files written together with the file, which are deleted by the {@link AbortExecutor}. */
+    protected List<Path> extraFiles() {
+        return Collections.emptyList();
     }
 
     @Override
@@ -159,14 +166,19 @@ public abstract class SingleFileWriter<T, R> implements FileWriter<T, R> {
 
         private final FileIO fileIO;
         private final Path path;
+        private final List<Path> extraFiles;
 
-        private AbortExecutor(FileIO fileIO, Path path) {
+        private AbortExecutor(FileIO fileIO, Path path, List<Path> extraFiles) {
             this.fileIO = fileIO;
             this.path = path;
+            this.extraFiles = extraFiles;
         }
 
         public void abort() {
             fileIO.deleteQuietly(path);
+            for (Path extraFile : extraFiles) {
+                fileIO.deleteQuietly(extraFile);
+            }
         }
     }
 }
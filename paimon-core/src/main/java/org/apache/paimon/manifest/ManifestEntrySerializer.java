@@ -87,4 +87,12 @@ public class ManifestEntrySerializer extends VersionedObjectSerializer<ManifestE
     public static Function<InternalRow, Integer> totalBucketGetter() {
         return row -> row.getInt(4);
     }
+
+    /**
+     * Fields accessed by the getters above, cached manifests are indexed by these fields. Filters
+     * built from these getters should be read with these fields.
+     */
+    public static int[] partitionAndBucketFields() {
+        return new int[] {2, 3, 4};
+    }
 }
@@ -42,6 +42,8 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.List;
 
+import static org.apache.paimon.CoreOptions.FILE_FORMAT_AVRO;
+
 /**
  * This file includes several {@link ManifestEntry}s, representing the additional changes since last
  * snapshot.
@@ -63,7 +65,14 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
             PathFactory pathFactory,
             long suggestedFileSize,
             @Nullable SegmentsCache<String> cache) {
-        super(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache);
+        super(
+                fileIO,
+                serializer,
+                readerFactory,
+                writerFactory,
+                pathFactory,
+                cache,
+                ManifestEntrySerializer.partitionAndBucketFields());
         this.schemaManager = schemaManager;
         this.partitionType = partitionType;
         this.writerFactory = writerFactory;
@@ -109,6 +118,10 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         private long numAddedFiles = 0;
         private long numDeletedFiles = 0;
         private long schemaId = Long.MIN_VALUE;
+        private int minBucket = Integer.MAX_VALUE;
+        private int maxBucket = Integer.MIN_VALUE;
+        @Nullable private Integer totalBuckets = null;
+        private boolean sameTotalBuckets = true;
 
         ManifestEntryWriter(FormatWriterFactory factory, Path path, String fileCompression) {
             super(ManifestFile.this.fileIO, factory, path, serializer::toRow, fileCompression);
@@ -132,21 +145,30 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
                     throw new UnsupportedOperationException("Unknown entry kind: " + entry.kind());
             }
             schemaId = Math.max(schemaId, entry.file().schemaId());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
+            if (totalBuckets == null) {
+                totalBuckets = entry.totalBuckets();
+            } else if (totalBuckets != entry.totalBuckets()) {
+                sameTotalBuckets = false;
+            }
 
             partitionStatsCollector.collect(entry.partition());
         }
 
         @Override
         public ManifestFileMeta result() throws IOException {
+            boolean empty = numAddedFiles + numDeletedFiles == 0;
             return new ManifestFileMeta(
                     path.getName(),
                     fileIO.getFileSize(path),
                     numAddedFiles,
                     numDeletedFiles,
                     partitionStatsSerializer.toBinary(partitionStatsCollector.extract()),
-                    numAddedFiles + numDeletedFiles > 0
-                            ? schemaId
-                            : schemaManager.latest().get().id());
+                    empty ? schemaManager.latest().get().id() : schemaId,
+                    empty ? null : minBucket,
+                    empty ? null : maxBucket,
+                    sameTotalBuckets ? totalBuckets : null);
         }
     }
 
@@ -193,14 +215,21 @@ public class ManifestFile extends ObjectsFile<ManifestEntry> {
         }
 
         public ObjectsFile<SimpleFileEntry> createSimpleFileEntryReader() {
-            RowType entryType = VersionedObjectSerializer.versionType(ManifestEntry.schema());
+            // Only avro supports projecting nested fields. The cache is shared with the reader of
+            // full entries, so rows are not projected when the cache is enabled.
+            RowType schema =
+                    cache == null && FILE_FORMAT_AVRO.equals(fileFormat.getFormatIdentifier())
+                            ? SimpleFileEntrySerializer.projectedSchema()
+                            : ManifestEntry.schema();
+            RowType entryType = VersionedObjectSerializer.versionType(schema);
             return new ObjectsFile<>(
                     fileIO,
-                    new SimpleFileEntrySerializer(),
+                    new SimpleFileEntrySerializer(schema),
                     fileFormat.createReaderFactory(entryType),
                     fileFormat.createWriterFactory(entryType),
                     pathFactory.manifestFileFactory(),
-                    cache);
+                    cache,
+                    ManifestEntrySerializer.partitionAndBucketFields());
         }
     }
 }
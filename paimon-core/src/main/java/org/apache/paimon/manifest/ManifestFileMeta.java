@@ -27,23 +27,32 @@ import org.apache.paimon.stats.BinaryTableStats;
 import org.apache.paimon.stats.FieldStatsArraySerializer;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.IntType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.IOUtils;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
+import org.apache.paimon.utils.ScanParallelExecutor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -60,6 +69,12 @@ public class ManifestFileMeta {
     private final BinaryTableStats partitionStats;
     private final long schemaId;
 
+    // bucket range of the entries, null for empty manifests and manifests written by old versions
+    @Nullable private final Integer minBucket;
+    @Nullable private final Integer maxBucket;
+    // total buckets shared by all entries, null if they differ
+    @Nullable private final Integer totalBuckets;
+
     public ManifestFileMeta(
             String fileName,
             long fileSize,
@@ -67,12 +82,37 @@ public class ManifestFileMeta {
             long numDeletedFiles,
             BinaryTableStats partitionStats,
             long schemaId) {
+        this(
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                null,
+                null,
+                null);
+    }
+
+    public ManifestFileMeta(
+            String fileName,
+            long fileSize,
+            long numAddedFiles,
+            long numDeletedFiles,
+            BinaryTableStats partitionStats,
+            long schemaId,
+            @Nullable Integer minBucket,
+            @Nullable Integer maxBucket,
+            @Nullable Integer totalBuckets) {
         this.fileName = fileName;
         this.fileSize = fileSize;
         this.numAddedFiles = numAddedFiles;
         this.numDeletedFiles = numDeletedFiles;
         this.partitionStats = partitionStats;
         this.schemaId = schemaId;
+        this.minBucket = minBucket;
+        this.maxBucket = maxBucket;
+        this.totalBuckets = totalBuckets;
     }
 
     public String fileName() {
@@ -99,6 +139,21 @@ public class ManifestFileMeta {
         return schemaId;
     }
 
+    @Nullable
+    public Integer minBucket() {
+        return minBucket;
+    }
+
+    @Nullable
+    public Integer maxBucket() {
+        return maxBucket;
+    }
+
+    @Nullable
+    public Integer totalBuckets() {
+        return totalBuckets;
+    }
+
     public static RowType schema() {
         List<DataField> fields = new ArrayList<>();
         fields.add(new DataField(0, "_FILE_NAME", new VarCharType(false, Integer.MAX_VALUE)));
@@ -107,6 +162,9 @@ public class ManifestFileMeta {
         fields.add(new DataField(3, "_NUM_DELETED_FILES", new BigIntType(false)));
         fields.add(new DataField(4, "_PARTITION_STATS", FieldStatsArraySerializer.schema()));
         fields.add(new DataField(5, "_SCHEMA_ID", new BigIntType(false)));
+        fields.add(new DataField(6, "_MIN_BUCKET", new IntType(true)));
+        fields.add(new DataField(7, "_MAX_BUCKET", new IntType(true)));
+        fields.add(new DataField(8, "_TOTAL_BUCKETS", new IntType(true)));
         return new RowType(fields);
     }
 
@@ -121,20 +179,39 @@ public class ManifestFileMeta {
                 && numAddedFiles == that.numAddedFiles
                 && numDeletedFiles == that.numDeletedFiles
                 && Objects.equals(partitionStats, that.partitionStats)
-                && schemaId == that.schemaId;
+                && schemaId == that.schemaId
+                && Objects.equals(minBucket, that.minBucket)
+                && Objects.equals(maxBucket, that.maxBucket)
+                && Objects.equals(totalBuckets, that.totalBuckets);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                totalBuckets);
     }
 
     @Override
     public String toString() {
         return String.format(
-                "{%s, %d, %d, %d, %s, %d}",
-                fileName, fileSize, numAddedFiles, numDeletedFiles, partitionStats, schemaId);
+                "{%s, %d, %d, %d, %s, %d, %s, %s, %s}",
+                fileName,
+                fileSize,
+                numAddedFiles,
+                numDeletedFiles,
+                partitionStats,
+                schemaId,
+                minBucket,
+                maxBucket,
+                totalBuckets);
     }
 
     /**
@@ -149,7 +226,8 @@ public class ManifestFileMeta {
             long suggestedMetaSize,
             int suggestedMinMetaCount,
             long manifestFullCompactionSize,
-            RowType partitionType) {
+            RowType partitionType,
+            @Nullable Integer manifestReadParallelism) {
         // these are the newly created manifest files, clean them up if exception occurs
         List<ManifestFileMeta> newMetas = new ArrayList<>();
 
@@ -161,15 +239,17 @@ public class ManifestFileMeta {
                             manifestFile,
                             suggestedMetaSize,
                             manifestFullCompactionSize,
-                            partitionType);
-            return fullCompacted.orElseGet(
-                    () ->
-                            tryMinorCompaction(
-                                    input,
-                                    newMetas,
-                                    manifestFile,
-                                    suggestedMetaSize,
-                                    suggestedMinMetaCount));
+                            partitionType,
+                            manifestReadParallelism);
+            return fullCompacted.isPresent()
+                    ? fullCompacted.get()
+                    : tryMinorCompaction(
+                            input,
+                            newMetas,
+                            manifestFile,
+                            suggestedMetaSize,
+                            suggestedMinMetaCount,
+                            manifestReadParallelism);
         } catch (Throwable e) {
             // exception occurs, clean up and rethrow
             for (ManifestFileMeta manifest : newMetas) {
@@ -184,8 +264,10 @@ public class ManifestFileMeta {
             List<ManifestFileMeta> newMetas,
             ManifestFile manifestFile,
             long suggestedMetaSize,
-            int suggestedMinMetaCount) {
-        List<ManifestFileMeta> result = new ArrayList<>();
+            int suggestedMinMetaCount,
+            @Nullable Integer manifestReadParallelism)
+            throws Exception {
+        List<List<ManifestFileMeta>> groups = new ArrayList<>();
         List<ManifestFileMeta> candidates = new ArrayList<>();
         long totalSize = 0;
         // merge existing small manifest files
@@ -194,38 +276,69 @@ public class ManifestFileMeta {
             candidates.add(manifest);
             if (totalSize >= suggestedMetaSize) {
                 // reach suggested file size, perform merging and produce new file
-                mergeCandidates(candidates, manifestFile, result, newMetas);
-                candidates.clear();
+                groups.add(candidates);
+                candidates = new ArrayList<>();
                 totalSize = 0;
             }
         }
 
         // merge the last bit of manifests if there are too many
-        if (candidates.size() >= suggestedMinMetaCount) {
-            mergeCandidates(candidates, manifestFile, result, newMetas);
-        } else {
+        boolean mergeLast = candidates.size() >= suggestedMinMetaCount;
+        if (mergeLast) {
+            groups.add(candidates);
+        }
+
+        // groups are merged independently, so merge them in parallel
+        ForkJoinPool executePool = ScanParallelExecutor.getExecutePool(manifestReadParallelism);
+        List<Future<List<ManifestFileMeta>>> futures = new ArrayList<>();
+        for (List<ManifestFileMeta> group : groups) {
+            futures.add(
+                    group.size() == 1
+                            ? null
+                            : executePool.submit(
+                                    () ->
+                                            mergeCandidates(
+                                                    group, manifestFile, manifestReadParallelism)));
+        }
+
+        // wait for all groups even if some of them failed, so that all new files can be cleaned
+        List<ManifestFileMeta> result = new ArrayList<>();
+        Exception exception = null;
+        for (int i = 0; i < groups.size(); i++) {
+            Future<List<ManifestFileMeta>> future = futures.get(i);
+            if (future == null) {
+                result.addAll(groups.get(i));
+                continue;
+            }
+
+            try {
+                List<ManifestFileMeta> merged = future.get();
+                result.addAll(merged);
+                newMetas.addAll(merged);
+            } catch (Exception e) {
+                exception = ExceptionUtils.firstOrSuppressed(e, exception);
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+
+        if (!mergeLast) {
             result.addAll(candidates);
         }
         return result;
     }
 
-    private static void mergeCandidates(
+    private static List<ManifestFileMeta> mergeCandidates(
             List<ManifestFileMeta> candidates,
             ManifestFile manifestFile,
-            List<ManifestFileMeta> result,
-            List<ManifestFileMeta> newMetas) {
-        if (candidates.size() == 1) {
-            result.add(candidates.get(0));
-            return;
-        }
-
+            @Nullable Integer manifestReadParallelism) {
         Map<Identifier, ManifestEntry> map = new LinkedHashMap<>();
-        FileEntry.mergeEntries(manifestFile, candidates, map);
-        if (!map.isEmpty()) {
-            List<ManifestFileMeta> merged = manifestFile.write(new ArrayList<>(map.values()));
-            result.addAll(merged);
-            newMetas.addAll(merged);
+        FileEntry.mergeEntries(manifestFile, candidates, map, manifestReadParallelism);
+        if (map.isEmpty()) {
+            return Collections.emptyList();
         }
+        return manifestFile.write(new ArrayList<>(map.values()));
     }
 
     public static Optional<List<ManifestFileMeta>> tryFullCompaction(
@@ -234,7 +347,8 @@ public class ManifestFileMeta {
             ManifestFile manifestFile,
             long suggestedMetaSize,
             long sizeTrigger,
-            RowType partitionType)
+            RowType partitionType,
+            @Nullable Integer manifestReadParallelism)
             throws Exception {
         // 1. should trigger full compaction
 
@@ -276,7 +390,7 @@ public class ManifestFileMeta {
         // 2.1. try to skip base files by partition filter
 
         Map<Identifier, ManifestEntry> deltaMerged = new LinkedHashMap<>();
-        FileEntry.mergeEntries(manifestFile, delta, deltaMerged);
+        FileEntry.mergeEntries(manifestFile, delta, deltaMerged, manifestReadParallelism);
 
         List<ManifestFileMeta> result = new ArrayList<>();
         int j = 0;
@@ -317,11 +431,28 @@ public class ManifestFileMeta {
                     }
                 });
 
+        // base files are read in parallel batches, the remaining files of the first file
+        // containing deleted entries are merged with the same iterator
+        Iterator<Pair<ManifestFileMeta, List<ManifestEntry>>> baseEntries =
+                ScanParallelExecutor.parallelismBatchIterable(
+                                files ->
+                                        files.parallelStream()
+                                                .map(
+                                                        file ->
+                                                                Pair.of(
+                                                                        file,
+                                                                        manifestFile.read(
+                                                                                file.fileName,
+                                                                                file.fileSize)))
+                                                .collect(Collectors.toList()),
+                                base.subList(j, base.size()),
+                                manifestReadParallelism)
+                        .iterator();
         List<ManifestEntry> mergedEntries = new ArrayList<>();
-        for (; j < base.size(); j++) {
-            ManifestFileMeta file = base.get(j);
+        while (baseEntries.hasNext()) {
+            Pair<ManifestFileMeta, List<ManifestEntry>> fileEntries = baseEntries.next();
             boolean contains = false;
-            for (ManifestEntry entry : manifestFile.read(file.fileName, file.fileSize)) {
+            for (ManifestEntry entry : fileEntries.getRight()) {
                 checkArgument(entry.kind() == FileKind.ADD);
                 if (deleteEntries.contains(entry.identifier())) {
                     contains = true;
@@ -331,11 +462,10 @@ public class ManifestFileMeta {
             }
             if (contains) {
                 // already read this file into fullMerged
-                j++;
                 break;
             } else {
                 mergedEntries.clear();
-                result.add(file);
+                result.add(fileEntries.getLeft());
             }
         }
 
@@ -350,11 +480,11 @@ public class ManifestFileMeta {
             for (ManifestEntry entry : mergedEntries) {
                 writer.write(entry);
             }
+            mergedEntries.clear();
 
             // 2.3.2 merge base files
-            for (Supplier<List<ManifestEntry>> reader :
-                    FileEntry.readManifestEntries(manifestFile, base.subList(j, base.size()))) {
-                for (ManifestEntry entry : reader.get()) {
+            while (baseEntries.hasNext()) {
+                for (ManifestEntry entry : baseEntries.next().getRight()) {
                     checkArgument(entry.kind() == FileKind.ADD);
                     if (!deleteEntries.contains(entry.identifier())) {
                         writer.write(entry);
@@ -46,7 +46,10 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 meta.numAddedFiles(),
                 meta.numDeletedFiles(),
                 meta.partitionStats().toRow(),
-                meta.schemaId());
+                meta.schemaId(),
+                meta.minBucket(),
+                meta.maxBucket(),
+                meta.totalBuckets());
     }
 
     @Override
@@ -66,6 +69,9 @@ public class ManifestFileMetaSerializer extends VersionedObjectSerializer<Manife
                 row.getLong(2),
                 row.getLong(3),
                 BinaryTableStats.fromRow(row.getRow(4, 3)),
-                row.getLong(5));
+                row.getLong(5),
+                row.isNullAt(6) ? null : row.getInt(6),
+                row.isNullAt(7) ? null : row.getInt(7),
+                row.isNullAt(8) ? null : row.getInt(8));
     }
 }
@@ -19,8 +19,15 @@
 package org.apache.paimon.manifest;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.VersionedObjectSerializer;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
 
 /** A {@link VersionedObjectSerializer} for {@link SimpleFileEntry}, only supports reading. */
@@ -28,11 +35,61 @@ public class SimpleFileEntrySerializer extends VersionedObjectSerializer<SimpleF
 
     private static final long serialVersionUID = 1L;
 
+    private static final String FILE_FIELD = "_FILE";
+    private static final List<String> SIMPLE_FILE_FIELDS =
+            Arrays.asList("_FILE_NAME", "_MIN_KEY", "_MAX_KEY", "_LEVEL");
+
     private final int version;
 
+    private final int fileArity;
+    private final int fileNameIndex;
+    private final int minKeyIndex;
+    private final int maxKeyIndex;
+    private final int levelIndex;
+
     public SimpleFileEntrySerializer() {
-        super(ManifestEntry.schema());
+        this(ManifestEntry.schema());
+    }
+
+    /**
+     * Creates a serializer reading rows of the given schema, which is the {@link ManifestEntry}
+     * schema or {@link #projectedSchema()}.
+     */
+    public SimpleFileEntrySerializer(RowType schema) {
+        super(schema);
         this.version = new ManifestEntrySerializer().getVersion();
+
+        RowType fileType = (RowType) schema.getTypeAt(schema.getFieldIndex(FILE_FIELD));
+        this.fileArity = fileType.getFieldCount();
+        this.fileNameIndex = fileType.getFieldIndex("_FILE_NAME");
+        this.minKeyIndex = fileType.getFieldIndex("_MIN_KEY");
+        this.maxKeyIndex = fileType.getFieldIndex("_MAX_KEY");
+        this.levelIndex = fileType.getFieldIndex("_LEVEL");
+    }
+
+    /**
+     * The {@link ManifestEntry} schema with the nested file pruned to the fields of {@link
+     * SimpleFileEntry}. The top level fields are kept, so that the row filters of {@link
+     * ManifestEntry} still apply.
+     */
+    public static RowType projectedSchema() {
+        List<DataField> fields = new ArrayList<>();
+        for (DataField field : ManifestEntry.schema().getFields()) {
+            if (field.name().equals(FILE_FIELD)) {
+                RowType fileType = (RowType) field.type();
+                List<DataField> fileFields =
+                        fileType.getFields().stream()
+                                .filter(f -> SIMPLE_FILE_FIELDS.contains(f.name()))
+                                .collect(Collectors.toList());
+                field =
+                        new DataField(
+                                field.id(),
+                                field.name(),
+                                new RowType(fileType.isNullable(), fileFields));
+            }
+            fields.add(field);
+        }
+        return new RowType(fields);
     }
 
     @Override
@@ -51,14 +108,14 @@ public class SimpleFileEntrySerializer extends VersionedObjectSerializer<SimpleF
             throw new IllegalArgumentException("Unsupported version: " + version);
         }
 
-        InternalRow file = row.getRow(4, 3);
+        InternalRow file = row.getRow(4, fileArity);
         return new SimpleFileEntry(
                 FileKind.fromByteValue(row.getByte(0)),
                 deserializeBinaryRow(row.getBinary(1)),
                 row.getInt(2),
-                file.getInt(10),
-                file.getString(0).toString(),
-                deserializeBinaryRow(file.getBinary(3)),
-                deserializeBinaryRow(file.getBinary(4)));
+                file.getInt(levelIndex),
+                file.getString(fileNameIndex).toString(),
+                deserializeBinaryRow(file.getBinary(minKeyIndex)),
+                deserializeBinaryRow(file.getBinary(maxKeyIndex)));
     }
 }
@@ -45,6 +45,8 @@ public class Levels {
 
     private final List<DropFileCallback> dropFileCallbacks = new ArrayList<>();
 
+    private boolean level0KeyRangeRuns = false;
+
     public Levels(
             Comparator<InternalRow> keyComparator, List<DataFileMeta> inputFiles, int numLevels) {
         this.keyComparator = keyComparator;
@@ -90,6 +92,14 @@ public class Levels {
         return level0;
     }
 
+    /**
+     * Lets adjacent level 0 files with disjoint key ranges, such as the key range shards of one
+     * flush, form one sorted run instead of a sorted run each.
+     */
+    public void enableLevel0KeyRangeRuns() {
+        this.level0KeyRangeRuns = true;
+    }
+
     public void addDropFileCallback(DropFileCallback callback) {
         dropFileCallbacks.add(callback);
     }
@@ -113,7 +123,7 @@ public class Levels {
     }
 
     public int numberOfSortedRuns() {
-        int numberOfSortedRuns = level0.size();
+        int numberOfSortedRuns = level0KeyRangeRuns ? level0SortedRuns().size() : level0.size();
         for (SortedRun run : levels) {
             if (run.nonEmpty()) {
                 numberOfSortedRuns++;
@@ -144,7 +154,11 @@ public class Levels {
 
     public List<LevelSortedRun> levelSortedRuns() {
         List<LevelSortedRun> runs = new ArrayList<>();
-        level0.forEach(file -> runs.add(new LevelSortedRun(0, SortedRun.fromSingle(file))));
+        if (level0KeyRangeRuns) {
+            level0SortedRuns().forEach(run -> runs.add(new LevelSortedRun(0, run)));
+        } else {
+            level0.forEach(file -> runs.add(new LevelSortedRun(0, SortedRun.fromSingle(file))));
+        }
         for (int i = 0; i < levels.size(); i++) {
             SortedRun run = levels.get(i);
             if (run.nonEmpty()) {
@@ -154,6 +168,37 @@ public class Levels {
         return runs;
     }
 
+    /**
+     * Groups adjacent level 0 files, from the newest, into sorted runs as long as their key ranges
+     * do not overlap. For any key at most one file of a run contains it, so reading the run as a
+     * whole keeps the order of the files.
+     */
+    private List<SortedRun> level0SortedRuns() {
+        List<SortedRun> runs = new ArrayList<>();
+        List<DataFileMeta> run = new ArrayList<>();
+        for (DataFileMeta file : level0) {
+            if (overlaps(run, file)) {
+                runs.add(SortedRun.fromUnsorted(run, keyComparator));
+                run = new ArrayList<>();
+            }
+            run.add(file);
+        }
+        if (!run.isEmpty()) {
+            runs.add(SortedRun.fromUnsorted(run, keyComparator));
+        }
+        return runs;
+    }
+
+    private boolean overlaps(List<DataFileMeta> files, DataFileMeta file) {
+        for (DataFileMeta other : files) {
+            if (keyComparator.compare(file.maxKey(), other.minKey()) >= 0
+                    && keyComparator.compare(file.minKey(), other.maxKey()) <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void update(List<DataFileMeta> before, List<DataFileMeta> after) {
         Map<Integer, List<DataFileMeta>> groupedBefore = groupByLevel(before);
         Map<Integer, List<DataFileMeta>> groupedAfter = groupByLevel(after);
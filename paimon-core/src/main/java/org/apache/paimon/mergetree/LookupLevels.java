@@ -27,6 +27,7 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStoreReader;
 import org.apache.paimon.lookup.LookupStoreWriter;
 import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.operation.metrics.LookupMetrics;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.reader.FileRecordIterator;
 import org.apache.paimon.reader.RecordReader;
@@ -41,6 +42,9 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caff
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.io.Closeable;
@@ -48,11 +52,27 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
@@ -60,18 +80,36 @@ import static org.apache.paimon.utils.VarLengthIntUtils.MAX_VAR_LONG_SIZE;
 import static org.apache.paimon.utils.VarLengthIntUtils.decodeLong;
 import static org.apache.paimon.utils.VarLengthIntUtils.encodeLong;
 
-/** Provide lookup by key. */
+/**
+ * Provide lookup by key.
+ *
+ * <p>Lookups are thread-safe: levels are replaced copy-on-write by {@link #refreshFiles}, lookup
+ * files are created once per data file, and serializers are held per thread.
+ *
+ * <p>Lookup files can be built in background by {@link #prebuild}. A lookup hitting a file that is
+ * still being built waits for a bounded time and then scans the data file directly.
+ */
 public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
-    private final Levels levels;
+    private static final Logger LOG = LoggerFactory.getLogger(LookupLevels.class);
+
+    private volatile Levels levels;
     private final Comparator<InternalRow> keyComparator;
-    private final RowCompactedSerializer keySerializer;
+    private final ThreadLocal<RowCompactedSerializer> keySerializer;
     private final ValueProcessor<T> valueProcessor;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Supplier<File> localFileFactory;
     private final LookupStoreFactory lookupStoreFactory;
     private final Cache<String, LookupFile> lookupFiles;
     private final Function<Long, BloomFilter.Builder> bfGenerator;
+    private final Map<String, CompletableFuture<LookupFile>> buildingFiles;
+
+    @Nullable private ExecutorService prebuildExecutor;
+    private Duration prebuildTimeout = Duration.ZERO;
+    @Nullable private LookupMetrics lookupMetrics;
+    @Nullable private RemoteLookupFile.Loader remoteFileLoader;
+
+    private volatile boolean closed = false;
 
     public LookupLevels(
             Levels levels,
@@ -86,7 +124,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             Function<Long, BloomFilter.Builder> bfGenerator) {
         this.levels = levels;
         this.keyComparator = keyComparator;
-        this.keySerializer = new RowCompactedSerializer(keyType);
+        this.keySerializer = ThreadLocal.withInitial(() -> new RowCompactedSerializer(keyType));
         this.valueProcessor = valueProcessor;
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
@@ -100,13 +138,117 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                         .executor(MoreExecutors.directExecutor())
                         .build();
         this.bfGenerator = bfGenerator;
+        this.buildingFiles = new ConcurrentHashMap<>();
         levels.addDropFileCallback(this);
     }
 
+    /**
+     * Build lookup files in background by the given executor, lookups wait at most {@code timeout}
+     * for a file being built. The executor is owned by the caller.
+     */
+    public LookupLevels<T> withPrebuild(ExecutorService executor, Duration timeout) {
+        this.prebuildExecutor = executor;
+        this.prebuildTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * Download {@link RemoteLookupFile}s written by compaction instead of building lookup files
+     * from data files. Only valid if the value processor can read values persisted by a {@link
+     * KeyValueProcessor} with the full value type.
+     */
+    public LookupLevels<T> withRemoteFileLoader(@Nullable RemoteLookupFile.Loader loader) {
+        this.remoteFileLoader = loader;
+        return this;
+    }
+
+    public LookupLevels<T> withMetrics(@Nullable LookupMetrics lookupMetrics) {
+        this.lookupMetrics = lookupMetrics;
+        return this;
+    }
+
     public Levels getLevels() {
         return levels;
     }
 
+    /**
+     * Apply the file changes to a copy of current levels and then swap it in, so that concurrent
+     * lookups always see a consistent view of all levels.
+     */
+    public void refreshFiles(List<DataFileMeta> before, List<DataFileMeta> after) {
+        Levels current = levels;
+        Levels newLevels =
+                new Levels(keyComparator, current.allFiles(), current.numberOfLevels());
+        newLevels.update(before, after);
+        this.levels = newLevels;
+
+        Set<String> newFiles =
+                newLevels.allFiles().stream()
+                        .map(DataFileMeta::fileName)
+                        .collect(Collectors.toSet());
+        for (DataFileMeta file : current.allFiles()) {
+            if (!newFiles.contains(file.fileName())) {
+                notifyDropFile(file.fileName());
+            }
+        }
+    }
+
+    /**
+     * Submit the lookup files of the given data files to be built in background. Files which are
+     * already built or being built are skipped. No-op if prebuild is not enabled.
+     */
+    public void prebuild(List<DataFileMeta> files) {
+        if (prebuildExecutor == null) {
+            return;
+        }
+
+        for (DataFileMeta file : files) {
+            String fileName = file.fileName();
+            if (lookupFiles.getIfPresent(fileName) != null) {
+                continue;
+            }
+
+            CompletableFuture<LookupFile> future = new CompletableFuture<>();
+            if (buildingFiles.putIfAbsent(fileName, future) != null) {
+                continue;
+            }
+
+            if (lookupMetrics != null) {
+                lookupMetrics.increasePendingBuilds();
+            }
+            try {
+                prebuildExecutor.execute(
+                        () -> {
+                            try {
+                                future.complete(loadLookupFile(file));
+                            } catch (Throwable t) {
+                                future.completeExceptionally(t);
+                            } finally {
+                                finishBuilding(fileName, future);
+                                if (closed) {
+                                    lookupFiles.invalidate(fileName);
+                                }
+                            }
+                        });
+            } catch (RejectedExecutionException e) {
+                future.cancel(false);
+                finishBuilding(fileName, future);
+            }
+        }
+    }
+
+    private void finishBuilding(String fileName, CompletableFuture<LookupFile> future) {
+        buildingFiles.remove(fileName, future);
+        if (lookupMetrics != null) {
+            lookupMetrics.decreasePendingBuilds();
+        }
+    }
+
+    @VisibleForTesting
+    Map<String, CompletableFuture<LookupFile>> buildingFiles() {
+        return buildingFiles;
+    }
+
     @VisibleForTesting
     Cache<String, LookupFile> lookupFiles() {
         return lookupFiles;
@@ -115,13 +257,30 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     @Override
     public void notifyDropFile(String file) {
         lookupFiles.invalidate(file);
+        CompletableFuture<LookupFile> building = buildingFiles.get(file);
+        if (building != null) {
+            // the file is being built in background, drop it once finished
+            building.thenRun(() -> lookupFiles.invalidate(file));
+        }
     }
 
     @Nullable
     public T lookup(InternalRow key, int startLevel) throws IOException {
+        // read levels once, it may be swapped by refreshFiles concurrently
+        Levels levels = this.levels;
         return LookupUtils.lookup(levels, key, startLevel, this::lookup, this::lookupLevel0);
     }
 
+    /**
+     * Lookup a batch of keys, see {@link LookupUtils#lookupBatch}.
+     *
+     * @return values in the same order as keys, null for keys not found.
+     */
+    public List<T> lookupBatch(List<InternalRow> keys, int startLevel) throws IOException {
+        Levels levels = this.levels;
+        return LookupUtils.lookupBatch(levels, keyComparator, keys, startLevel, this::lookupBatch);
+    }
+
     @Nullable
     private T lookupLevel0(InternalRow key, TreeSet<DataFileMeta> level0) throws IOException {
         return LookupUtils.lookupLevel0(keyComparator, key, level0, this::lookup);
@@ -134,15 +293,19 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     @Nullable
     private T lookup(InternalRow key, DataFileMeta file) throws IOException {
-        LookupFile lookupFile = lookupFiles.getIfPresent(file.fileName());
+        byte[] keyBytes = keySerializer.get().serializeToBytes(key);
+        LookupFile lookupFile = acquireLookupFile(file);
+        if (lookupFile == null) {
+            return scanFile(Collections.singletonList(key), file).get(0);
+        }
 
-        while (lookupFile == null || lookupFile.isClosed) {
-            lookupFile = createLookupFile(file);
-            lookupFiles.put(file.fileName(), lookupFile);
+        byte[] valueBytes;
+        try {
+            valueBytes = lookupFile.get(keyBytes);
+        } finally {
+            lookupFile.release();
         }
 
-        byte[] keyBytes = keySerializer.serializeToBytes(key);
-        byte[] valueBytes = lookupFile.get(keyBytes);
         if (valueBytes == null) {
             return null;
         }
@@ -151,6 +314,98 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
     }
 
+    private List<T> lookupBatch(List<InternalRow> keys, DataFileMeta file) throws IOException {
+        RowCompactedSerializer keySerializer = this.keySerializer.get();
+        byte[][] valueBytes = new byte[keys.size()][];
+        LookupFile lookupFile = acquireLookupFile(file);
+        if (lookupFile == null) {
+            return scanFile(keys, file);
+        }
+
+        try {
+            for (int i = 0; i < keys.size(); i++) {
+                valueBytes[i] = lookupFile.get(keySerializer.serializeToBytes(keys.get(i)));
+            }
+        } finally {
+            lookupFile.release();
+        }
+
+        List<T> results = new ArrayList<>(keys.size());
+        int level = lookupFile.remoteFile().level();
+        for (int i = 0; i < keys.size(); i++) {
+            results.add(
+                    valueBytes[i] == null
+                            ? null
+                            : valueProcessor.readFromDisk(
+                                    keys.get(i), level, valueBytes[i], file.fileName()));
+        }
+        return results;
+    }
+
+    /**
+     * Acquire the lookup file of the data file, returns null if it is still being built in
+     * background after waiting for the prebuild timeout.
+     */
+    @Nullable
+    private LookupFile acquireLookupFile(DataFileMeta file) throws IOException {
+        while (true) {
+            LookupFile lookupFile = getOrCreateLookupFile(file);
+            if (lookupFile == null) {
+                return null;
+            }
+
+            // the file may be evicted and closed by another thread, retry with a new one
+            if (lookupFile.tryAcquire()) {
+                return lookupFile;
+            }
+        }
+    }
+
+    @Nullable
+    private LookupFile getOrCreateLookupFile(DataFileMeta file) throws IOException {
+        LookupFile lookupFile = lookupFiles.getIfPresent(file.fileName());
+        if (lookupFile != null) {
+            return lookupFile;
+        }
+
+        if (lookupMetrics != null) {
+            lookupMetrics.increaseColdMisses();
+        }
+
+        CompletableFuture<LookupFile> building = buildingFiles.get(file.fileName());
+        if (building != null) {
+            try {
+                return building.get(prebuildTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } catch (ExecutionException | CancellationException e) {
+                // background build failed, build it in current thread below
+            }
+        }
+
+        return loadLookupFile(file);
+    }
+
+    private LookupFile loadLookupFile(DataFileMeta file) throws IOException {
+        try {
+            // concurrent lookups on the same file only create the lookup file once
+            return lookupFiles.get(
+                    file.fileName(),
+                    name -> {
+                        try {
+                            return createLookupFile(file);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     private int fileWeigh(String file, LookupFile lookupFile) {
         return fileKibiBytes(lookupFile.localFile);
     }
@@ -165,11 +420,72 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /**
+     * Scan the data file directly for the given keys, keys must be sorted. This is used when the
+     * lookup file is still being built in background.
+     */
+    private List<T> scanFile(List<InternalRow> keys, DataFileMeta file) throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        try (RecordReader<KeyValue> reader = fileReaderFactory.apply(file)) {
+            RecordReader.RecordIterator<KeyValue> batch;
+            while ((batch = reader.readBatch()) != null) {
+                KeyValue kv;
+                while ((kv = batch.next()) != null) {
+                    int index = Collections.binarySearch(keys, kv.key(), keyComparator);
+                    if (index < 0) {
+                        continue;
+                    }
+
+                    byte[] valueBytes =
+                            valueProcessor.withPosition()
+                                    ? valueProcessor.persistToDisk(
+                                            kv,
+                                            ((FileRecordIterator<KeyValue>) batch)
+                                                    .returnedPosition())
+                                    : valueProcessor.persistToDisk(kv);
+                    // keys may contain duplicates, fill all of them
+                    int start = index;
+                    while (start > 0
+                            && keyComparator.compare(keys.get(start - 1), kv.key()) == 0) {
+                        start--;
+                    }
+                    for (int i = start;
+                            i < keys.size() && keyComparator.compare(keys.get(i), kv.key()) == 0;
+                            i++) {
+                        results.set(
+                                i,
+                                valueProcessor.readFromDisk(
+                                        keys.get(i), file.level(), valueBytes, file.fileName()));
+                    }
+                }
+                batch.releaseBatch();
+            }
+        }
+        return results;
+    }
+
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
+        long started = System.currentTimeMillis();
         File localFile = localFileFactory.get();
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
+
+        if (remoteFileLoader != null) {
+            LookupStoreFactory.Context context = null;
+            try {
+                context = remoteFileLoader.load(file, localFile);
+            } catch (IOException e) {
+                LOG.warn(
+                        "Failed to load remote lookup file of {}, build it from data file.",
+                        file.fileName(),
+                        e);
+            }
+            if (context != null) {
+                return newLookupFile(localFile, file, context, started);
+            }
+        }
+
         LookupStoreWriter kvWriter =
                 lookupStoreFactory.createWriter(localFile, bfGenerator.apply(file.rowCount()));
         LookupStoreFactory.Context context;
@@ -179,7 +495,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 FileRecordIterator<KeyValue> batch;
                 while ((batch = (FileRecordIterator<KeyValue>) reader.readBatch()) != null) {
                     while ((kv = batch.next()) != null) {
-                        byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                        byte[] keyBytes = keySerializer.get().serializeToBytes(kv.key());
                         byte[] valueBytes =
                                 valueProcessor.persistToDisk(kv, batch.returnedPosition());
                         kvWriter.put(keyBytes, valueBytes);
@@ -190,7 +506,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 RecordReader.RecordIterator<KeyValue> batch;
                 while ((batch = reader.readBatch()) != null) {
                     while ((kv = batch.next()) != null) {
-                        byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                        byte[] keyBytes = keySerializer.get().serializeToBytes(kv.key());
                         byte[] valueBytes = valueProcessor.persistToDisk(kv);
                         kvWriter.put(keyBytes, valueBytes);
                     }
@@ -204,11 +520,24 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             context = kvWriter.close();
         }
 
-        return new LookupFile(localFile, file, lookupStoreFactory.createReader(localFile, context));
+        return newLookupFile(localFile, file, context, started);
+    }
+
+    private LookupFile newLookupFile(
+            File localFile, DataFileMeta file, LookupStoreFactory.Context context, long started)
+            throws IOException {
+        LookupFile lookupFile =
+                new LookupFile(
+                        localFile, file, lookupStoreFactory.createReader(localFile, context));
+        if (lookupMetrics != null) {
+            lookupMetrics.reportBuildDuration(System.currentTimeMillis() - started);
+        }
+        return lookupFile;
     }
 
     @Override
     public void close() throws IOException {
+        closed = true;
         lookupFiles.invalidateAll();
     }
 
@@ -217,6 +546,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         private final File localFile;
         private final DataFileMeta remoteFile;
         private final LookupStoreReader reader;
+        private final ReadWriteLock lock;
 
         private boolean isClosed = false;
 
@@ -224,6 +554,24 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             this.localFile = localFile;
             this.remoteFile = remoteFile;
             this.reader = reader;
+            this.lock = new ReentrantReadWriteLock();
+        }
+
+        /**
+         * Acquire the file for reading, readers do not block each other. Returns false if the file
+         * has been closed.
+         */
+        private boolean tryAcquire() {
+            lock.readLock().lock();
+            if (isClosed) {
+                lock.readLock().unlock();
+                return false;
+            }
+            return true;
+        }
+
+        private void release() {
+            lock.readLock().unlock();
         }
 
         @Nullable
@@ -238,9 +586,18 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         @Override
         public void close() throws IOException {
-            reader.close();
-            isClosed = true;
-            FileIOUtils.deleteFileOrDirectory(localFile);
+            // wait for in-flight reads before releasing the reader
+            lock.writeLock().lock();
+            try {
+                if (isClosed) {
+                    return;
+                }
+                reader.close();
+                isClosed = true;
+                FileIOUtils.deleteFileOrDirectory(localFile);
+            } finally {
+                lock.writeLock().unlock();
+            }
         }
     }
 
@@ -261,10 +618,11 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     /** A {@link ValueProcessor} to return {@link KeyValue}. */
     public static class KeyValueProcessor implements ValueProcessor<KeyValue> {
 
-        private final RowCompactedSerializer valueSerializer;
+        private final ThreadLocal<RowCompactedSerializer> valueSerializer;
 
         public KeyValueProcessor(RowType valueType) {
-            this.valueSerializer = new RowCompactedSerializer(valueType);
+            this.valueSerializer =
+                    ThreadLocal.withInitial(() -> new RowCompactedSerializer(valueType));
         }
 
         @Override
@@ -274,7 +632,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         @Override
         public byte[] persistToDisk(KeyValue kv) {
-            byte[] vBytes = valueSerializer.serializeToBytes(kv.value());
+            byte[] vBytes = valueSerializer.get().serializeToBytes(kv.value());
             byte[] bytes = new byte[vBytes.length + 8 + 1];
             MemorySegment segment = MemorySegment.wrap(bytes);
             segment.put(0, vBytes);
@@ -285,7 +643,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         @Override
         public KeyValue readFromDisk(InternalRow key, int level, byte[] bytes, String fileName) {
-            InternalRow value = valueSerializer.deserialize(bytes);
+            InternalRow value = valueSerializer.get().deserialize(bytes);
             long sequenceNumber = MemorySegment.wrap(bytes).getLong(bytes.length - 9);
             RowKind rowKind = RowKind.fromByteValue(bytes[bytes.length - 1]);
             return new KeyValue().replace(key, sequenceNumber, rowKind, value).setLevel(level);
@@ -316,11 +674,14 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
     /** A {@link ValueProcessor} to return {@link PositionedKeyValue}. */
     public static class PositionedKeyValueProcessor implements ValueProcessor<PositionedKeyValue> {
         private final boolean persistValue;
-        private final RowCompactedSerializer valueSerializer;
+        private final ThreadLocal<RowCompactedSerializer> valueSerializer;
 
         public PositionedKeyValueProcessor(RowType valueType, boolean persistValue) {
             this.persistValue = persistValue;
-            this.valueSerializer = persistValue ? new RowCompactedSerializer(valueType) : null;
+            this.valueSerializer =
+                    persistValue
+                            ? ThreadLocal.withInitial(() -> new RowCompactedSerializer(valueType))
+                            : null;
         }
 
         @Override
@@ -336,7 +697,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         @Override
         public byte[] persistToDisk(KeyValue kv, long rowPosition) {
             if (persistValue) {
-                byte[] vBytes = valueSerializer.serializeToBytes(kv.value());
+                byte[] vBytes = valueSerializer.get().serializeToBytes(kv.value());
                 byte[] bytes = new byte[vBytes.length + 8 + 8 + 1];
                 MemorySegment segment = MemorySegment.wrap(bytes);
                 segment.put(0, vBytes);
@@ -355,7 +716,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         public PositionedKeyValue readFromDisk(
                 InternalRow key, int level, byte[] bytes, String fileName) {
             if (persistValue) {
-                InternalRow value = valueSerializer.deserialize(bytes);
+                InternalRow value = valueSerializer.get().deserialize(bytes);
                 MemorySegment segment = MemorySegment.wrap(bytes);
                 long rowPosition = segment.getLong(bytes.length - 17);
                 long sequenceNumber = segment.getLong(bytes.length - 9);
@@ -19,15 +19,23 @@
 package org.apache.paimon.mergetree;
 
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.BiFunctionWithIOE;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /** Utils for lookup. */
 public class LookupUtils {
@@ -118,6 +126,87 @@ public class LookupUtils {
         return index < files.size() ? lookup.apply(target, files.get(index)) : null;
     }
 
+    /**
+     * Lookup a batch of keys. Keys are sorted once, then every file is probed with all pending keys
+     * in its key range, so that the lookup file of each data file is accessed once per batch.
+     *
+     * @return values in the same order as keys, null for keys not found.
+     */
+    public static <T> List<T> lookupBatch(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            int startLevel,
+            BiFunctionWithIOE<List<InternalRow>, DataFileMeta, List<T>> lookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        List<Integer> pending =
+                IntStream.range(0, keys.size())
+                        .boxed()
+                        .sorted((a, b) -> keyComparator.compare(keys.get(a), keys.get(b)))
+                        .collect(Collectors.toList());
+
+        for (int i = startLevel; i < levels.numberOfLevels() && !pending.isEmpty(); i++) {
+            // level0 files are ordered from new to old, and keys found in a newer file are
+            // skipped by older files
+            Collection<DataFileMeta> files =
+                    i == 0 ? levels.level0() : levels.runOfLevel(i).files();
+            for (DataFileMeta file : files) {
+                lookupFileBatch(keyComparator, keys, pending, file, lookup, results);
+            }
+            pending.removeIf(index -> results.get(index) != null);
+        }
+
+        return results;
+    }
+
+    private static <T> void lookupFileBatch(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            List<Integer> sortedPending,
+            DataFileMeta file,
+            BiFunctionWithIOE<List<InternalRow>, DataFileMeta, List<T>> lookup,
+            List<T> results)
+            throws IOException {
+        // binary search the first pending key which is not less than the min key of file
+        int left = 0;
+        int right = sortedPending.size();
+        while (left < right) {
+            int mid = (left + right) / 2;
+            if (keyComparator.compare(keys.get(sortedPending.get(mid)), file.minKey()) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>();
+        List<InternalRow> fileKeys = new ArrayList<>();
+        for (int i = left; i < sortedPending.size(); i++) {
+            int index = sortedPending.get(i);
+            InternalRow key = keys.get(index);
+            if (keyComparator.compare(key, file.maxKey()) > 0) {
+                break;
+            }
+            if (results.get(index) == null) {
+                indexes.add(index);
+                fileKeys.add(key);
+            }
+        }
+
+        if (fileKeys.isEmpty()) {
+            return;
+        }
+
+        List<T> fileResults = lookup.apply(fileKeys, file);
+        for (int i = 0; i < indexes.size(); i++) {
+            T result = fileResults.get(i);
+            if (result != null) {
+                results.set(indexes.get(i), result);
+            }
+        }
+    }
+
     public static int fileKibiBytes(File file) {
         long kibiBytes = file.length() >> 10;
         if (kibiBytes > Integer.MAX_VALUE) {
@@ -126,4 +215,17 @@ public class LookupUtils {
         }
         return (int) kibiBytes;
     }
+
+    /**
+     * Creates comparators of keys serialized by {@link RowCompactedSerializer}, which are the keys
+     * in lookup files. A created comparator is not thread-safe.
+     */
+    public static Supplier<Comparator<byte[]>> serializedKeyComparator(
+            RowType keyType, Comparator<InternalRow> keyComparator) {
+        return () -> {
+            RowCompactedSerializer serializer = new RowCompactedSerializer(keyType);
+            return (k1, k2) ->
+                    keyComparator.compare(serializer.deserialize(k1), serializer.deserialize(k2));
+        };
+    }
 }
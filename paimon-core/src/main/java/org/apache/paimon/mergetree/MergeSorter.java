@@ -27,6 +27,8 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.memory.CachelessSegmentPool;
+import org.apache.paimon.memory.LimitedSegmentPool;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader;
 import org.apache.paimon.mergetree.compact.ConcatRecordReader.ReaderSupplier;
@@ -71,6 +73,9 @@ public class MergeSorter {
     private final MemorySize maxDiskSize;
 
     private final MemorySegmentPool memoryPool;
+    private final int totalPages;
+    // compaction may sort key ranges in parallel, each sort takes an equal share of the pool
+    private int sortParallelism;
 
     @Nullable private IOManager ioManager;
 
@@ -86,7 +91,11 @@ public class MergeSorter {
         this.keyType = keyType;
         this.valueType = valueType;
         this.memoryPool =
-                new CachelessSegmentPool(options.sortSpillBufferSize(), options.pageSize());
+                new SynchronizedSegmentPool(
+                        new CachelessSegmentPool(
+                                options.sortSpillBufferSize(), options.pageSize()));
+        this.totalPages = memoryPool.freePages();
+        this.sortParallelism = 1;
         this.ioManager = ioManager;
         this.maxDiskSize = options.writeBufferSpillDiskSize();
     }
@@ -103,6 +112,11 @@ public class MergeSorter {
         this.valueType = projectedType;
     }
 
+    /** Sets the number of sorts which may run at the same time and split the memory pool. */
+    public void setSortParallelism(int sortParallelism) {
+        this.sortParallelism = Math.max(sortParallelism, 1);
+    }
+
     public <T> RecordReader<T> mergeSort(
             List<ReaderSupplier<KeyValue>> lazyReaders,
             Comparator<InternalRow> keyComparator,
@@ -183,7 +197,11 @@ public class MergeSorter {
         private final SortBuffer buffer;
 
         public ExternalSorterWithLevel(@Nullable FieldsComparator userDefinedSeqComparator) {
-            if (memoryPool.freePages() < 3) {
+            MemorySegmentPool pool =
+                    sortParallelism > 1
+                            ? new LimitedSegmentPool(memoryPool, totalPages / sortParallelism)
+                            : memoryPool;
+            if (pool.freePages() < 3) {
                 throw new IllegalArgumentException(
                         "Write buffer requires a minimum of 3 page memory, please increase write buffer memory size.");
             }
@@ -214,7 +232,7 @@ public class MergeSorter {
                             ioManager,
                             new RowType(fields),
                             sortFields.toArray(),
-                            memoryPool,
+                            pool,
                             spillSortMaxNumFiles,
                             compression,
                             maxDiskSize);
@@ -318,4 +336,34 @@ public class MergeSorter {
                     .setLevel(row.getInt(keyArity + 2));
         }
     }
+
+    /** A {@link MemorySegmentPool} which can be shared by the sorts of parallel rewrites. */
+    private static class SynchronizedSegmentPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+
+        private SynchronizedSegmentPool(MemorySegmentPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public synchronized MemorySegment nextSegment() {
+            return pool.nextSegment();
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public synchronized void returnAll(List<MemorySegment> memory) {
+            pool.returnAll(memory);
+        }
+
+        @Override
+        public synchronized int freePages() {
+            return pool.freePages();
+        }
+    }
 }
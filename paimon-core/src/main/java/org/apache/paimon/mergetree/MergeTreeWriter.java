@@ -23,6 +23,7 @@ import org.apache.paimon.KeyValue;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactManager;
 import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.disk.IOManager;
 import org.apache.paimon.io.CompactIncrement;
@@ -30,6 +31,7 @@ import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.DataIncrement;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.memory.LimitedSegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
@@ -39,21 +41,42 @@ import org.apache.paimon.utils.CommitIncrement;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.RecordWriter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
-/** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
+/**
+ * A {@link RecordWriter} to write records and generate {@link CompactIncrement}.
+ *
+ * <p>If a flush executor is given, the write buffer memory is split into two buffers. A full buffer
+ * is sealed and flushed to a level 0 file by the executor while new records go to the other one,
+ * writing only blocks when the other buffer is still being flushed.
+ *
+ * <p>If key range splitting is enabled, a flush is cut into several non-overlapping level 0 files
+ * at the key boundaries of the files in the highest non-empty level, so that compactions and
+ * lookups only touch the level 0 files overlapping the key range they are interested in.
+ */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
+    private static final int MIN_BUFFER_PAGES = 3;
+
     private final boolean writeBufferSpillable;
     private final MemorySize maxDiskSize;
     private final int sortMaxFan;
@@ -69,6 +92,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
     @Nullable private final FieldsComparator userDefinedSeqComparator;
+    @Nullable private final ExecutorService flushExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> deletedFiles;
@@ -80,6 +104,14 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // the second buffer of async flushing, it is being flushed if flushFuture is not null
+    @Nullable private WriteBuffer flushingBuffer;
+    @Nullable private Future<FlushResult> flushFuture;
+
+    // levels to align flushed files with, flushed files are not split if null
+    @Nullable private Levels flushSplitLevels;
+    private int flushMaxShards = 1;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             MemorySize maxDiskSize,
@@ -94,7 +126,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
             @Nullable CommitIncrement increment,
-            @Nullable FieldsComparator userDefinedSeqComparator) {
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            @Nullable ExecutorService flushExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.maxDiskSize = maxDiskSize;
         this.sortMaxFan = sortMaxFan;
@@ -110,6 +143,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
         this.userDefinedSeqComparator = userDefinedSeqComparator;
+        this.flushExecutor = flushExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.deletedFiles = new LinkedHashSet<>();
@@ -130,6 +164,20 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         }
     }
 
+    /**
+     * Splits each flush into at most {@code maxShards} level 0 files whose key ranges are aligned
+     * with the file boundaries of the highest non-empty level of {@code levels}.
+     */
+    public MergeTreeWriter withFlushKeyRangeSplit(Levels levels, int maxShards) {
+        if (maxShards > 1) {
+            this.flushSplitLevels = levels;
+            this.flushMaxShards = maxShards;
+            // the shards of one flush do not overlap, count them as one sorted run
+            levels.enableLevel0KeyRangeRuns();
+        }
+        return this;
+    }
+
     private long newSequenceNumber() {
         return newSequenceNumber++;
     }
@@ -141,17 +189,31 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        userDefinedSeqComparator,
-                        memoryPool,
-                        writeBufferSpillable,
-                        maxDiskSize,
-                        sortMaxFan,
-                        sortCompression,
-                        ioManager);
+        int totalPages = memoryPool.freePages();
+        if (flushExecutor != null && totalPages >= 2 * MIN_BUFFER_PAGES) {
+            // spilling is pointless here, a full buffer is flushed without blocking writes
+            int halfPages = totalPages / 2;
+            this.writeBuffer =
+                    createWriteBuffer(new LimitedSegmentPool(memoryPool, halfPages), false);
+            this.flushingBuffer =
+                    createWriteBuffer(
+                            new LimitedSegmentPool(memoryPool, totalPages - halfPages), false);
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool, writeBufferSpillable);
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool, boolean spillable) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                userDefinedSeqComparator,
+                memoryPool,
+                spillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager);
     }
 
     @Override
@@ -159,7 +221,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         long sequenceNumber = newSequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (flushingBuffer != null) {
+                flushWriteBufferAsync();
+            } else {
+                flushWriteBuffer(false, false);
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -184,7 +250,11 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        long occupancy = writeBuffer.memoryOccupancy();
+        if (flushingBuffer != null) {
+            occupancy += flushingBuffer.memoryOccupancy();
+        }
+        return occupancy;
     }
 
     @Override
@@ -197,45 +267,127 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        awaitFlushingBuffer();
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0);
-
-            try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
-            } finally {
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
+            addFlushResult(writeToFiles(writeBuffer, flushBoundaries()));
+            writeBuffer.clear();
+        }
+
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    /**
+     * Seals the full write buffer and flushes it in the background, new records go to the other
+     * buffer once its previous flush is finished.
+     */
+    private void flushWriteBufferAsync() throws Exception {
+        // back pressure, both buffers are busy
+        awaitFlushingBuffer();
+
+        WriteBuffer sealed = writeBuffer;
+        writeBuffer = flushingBuffer;
+        flushingBuffer = sealed;
+        // levels are only touched by the writing thread, compute the boundaries here
+        List<BinaryRow> boundaries = flushBoundaries();
+        flushFuture = flushExecutor.submit(() -> writeToFiles(sealed, boundaries));
+
+        // files of the previous flush have been added to the compact manager
+        trySyncLatestCompaction(compactManager.shouldWaitForLatestCompaction());
+        compactManager.triggerCompaction(false);
+    }
+
+    private void awaitFlushingBuffer() throws Exception {
+        if (flushFuture == null) {
+            return;
+        }
+
+        FlushResult result;
+        try {
+            result = flushFuture.get();
+        } finally {
+            flushFuture = null;
+            // memory must be returned in the writing thread, the pool is not thread safe
+            flushingBuffer.clear();
+        }
+        addFlushResult(result);
+    }
+
+    /**
+     * Picks the max keys of the files in the highest non-empty level as the split points of a
+     * flush, at most {@code flushMaxShards - 1} of them so that each shard covers about the same
+     * amount of data in that level.
+     */
+    private List<BinaryRow> flushBoundaries() {
+        if (flushSplitLevels == null) {
+            return Collections.emptyList();
+        }
+
+        int level = flushSplitLevels.nonEmptyHighestLevel();
+        if (level <= 0) {
+            return Collections.emptyList();
+        }
+
+        List<DataFileMeta> files = flushSplitLevels.runOfLevel(level).files();
+        long totalSize = files.stream().mapToLong(DataFileMeta::fileSize).sum();
+        long shardSize = Math.max(totalSize / flushMaxShards, 1);
+        List<BinaryRow> boundaries = new ArrayList<>();
+        long accumulated = 0;
+        // the last file never provides a boundary, the last shard is unbounded
+        for (int i = 0; i < files.size() - 1 && boundaries.size() < flushMaxShards - 1; i++) {
+            accumulated += files.get(i).fileSize();
+            if (accumulated >= shardSize * (boundaries.size() + 1)) {
+                boundaries.add(files.get(i).maxKey());
             }
+        }
+        return boundaries;
+    }
 
+    private FlushResult writeToFiles(WriteBuffer buffer, List<BinaryRow> boundaries)
+            throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final KeyRangeSplitWriter dataWriter = new KeyRangeSplitWriter(boundaries);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
             if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+                changelogWriter.close();
             }
-
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
+            dataWriter.close();
+        } catch (Exception e) {
+            // delete all files of this flush, including the ones already closed
+            dataWriter.abort();
+            if (changelogWriter != null) {
+                changelogWriter.abort();
             }
+            throw e;
+        }
 
-            writeBuffer.clear();
+        return new FlushResult(
+                dataWriter.result(),
+                changelogWriter == null ? null : changelogWriter.result());
+    }
+
+    private void addFlushResult(FlushResult result) {
+        if (result.changelogFiles != null) {
+            newFilesChangelog.addAll(result.changelogFiles);
         }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
     }
 
     @Override
@@ -300,7 +452,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
                 // 2. This file is not the input of upgraded.
                 if (!compactBefore.containsKey(file.fileName())
                         && !afterFiles.contains(file.fileName())) {
-                    writerFactory.deleteFile(file.fileName(), file.level());
+                    writerFactory.deleteFile(file);
                 }
             } else {
                 compactBefore.put(file.fileName(), file);
@@ -317,6 +469,14 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void close() throws Exception {
+        // wait for the flushing buffer so that its files are deleted below, a failed flush has
+        // already cleaned up its files
+        try {
+            awaitFlushingBuffer();
+        } catch (Exception e) {
+            LOG.warn("Exception occurs when flushing the write buffer before closing.", e);
+        }
+
         // cancel compaction so that it does not block job cancelling
         compactManager.cancelCompaction();
         sync();
@@ -348,7 +508,73 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         compactChangelog.clear();
 
         for (DataFileMeta file : delete) {
-            writerFactory.deleteFile(file.fileName(), file.level());
+            writerFactory.deleteFile(file);
+        }
+    }
+
+    /**
+     * Writes sorted key values of a flush to level 0 files, starting a new file whenever a key
+     * passes the next boundary.
+     */
+    private class KeyRangeSplitWriter {
+
+        private final List<BinaryRow> boundaries;
+        private final List<RollingFileWriter<KeyValue, DataFileMeta>> closedWriters;
+
+        private RollingFileWriter<KeyValue, DataFileMeta> currentWriter;
+        private int shard;
+
+        private KeyRangeSplitWriter(List<BinaryRow> boundaries) {
+            this.boundaries = boundaries;
+            this.closedWriters = new ArrayList<>();
+            this.currentWriter = writerFactory.createRollingMergeTreeFileWriter(0);
+            this.shard = 0;
+        }
+
+        private void write(KeyValue kv) throws IOException {
+            if (shard < boundaries.size()
+                    && keyComparator.compare(kv.key(), boundaries.get(shard)) > 0) {
+                while (shard < boundaries.size()
+                        && keyComparator.compare(kv.key(), boundaries.get(shard)) > 0) {
+                    shard++;
+                }
+                currentWriter.close();
+                closedWriters.add(currentWriter);
+                currentWriter = writerFactory.createRollingMergeTreeFileWriter(0);
+            }
+            currentWriter.write(kv);
+        }
+
+        /** Deletes the files of all shards, including the current one. */
+        private void abort() {
+            closedWriters.forEach(RollingFileWriter::abort);
+            currentWriter.abort();
+        }
+
+        private void close() throws IOException {
+            currentWriter.close();
+        }
+
+        private List<DataFileMeta> result() {
+            List<DataFileMeta> result = new ArrayList<>();
+            for (RollingFileWriter<KeyValue, DataFileMeta> writer : closedWriters) {
+                result.addAll(writer.result());
+            }
+            result.addAll(currentWriter.result());
+            return result;
+        }
+    }
+
+    /** Files written by flushing a write buffer. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> dataFiles;
+        @Nullable private final List<DataFileMeta> changelogFiles;
+
+        private FlushResult(
+                List<DataFileMeta> dataFiles, @Nullable List<DataFileMeta> changelogFiles) {
+            this.dataFiles = dataFiles;
+            this.changelogFiles = changelogFiles;
         }
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreWriter;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.BloomFilter;
+import org.apache.paimon.utils.FileIOUtils;
+import org.apache.paimon.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import static org.apache.paimon.io.DataFilePathFactory.LOOKUP_PATH_SUFFIX;
+
+/**
+ * A lookup file written next to a data file by compaction, so that lookups can download it instead
+ * of reading the data file and building the lookup file locally. The file name is recorded in
+ * {@link DataFileMeta#extraFiles()}.
+ *
+ * <p>The file is a {@link LookupStoreFactory} store file followed by its serialized context:
+ *
+ * <pre>
+ * +-------------+----------------+----------------------+---------------+
+ * | store bytes | context bytes  | context length (int) | magic (int)   |
+ * +-------------+----------------+----------------------+---------------+
+ * </pre>
+ *
+ * <p>Values are persisted by {@link LookupLevels.KeyValueProcessor} with the full value type of the
+ * writing schema.
+ */
+public class RemoteLookupFile {
+
+    private static final int MAGIC_NUMBER = 0x4C4B5550;
+    private static final int FOOTER_LENGTH = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /** Returns the name of the remote lookup file of the data file, null if not exists. */
+    @Nullable
+    public static String find(DataFileMeta file) {
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.endsWith(LOOKUP_PATH_SUFFIX)) {
+                return extraFile;
+            }
+        }
+        return null;
+    }
+
+    private static void upload(FileIO fileIO, Path path, File localFile, byte[] context)
+            throws IOException {
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false);
+                InputStream in = new FileInputStream(localFile)) {
+            IOUtils.copyBytes(in, out, BUFFER_SIZE, false);
+            DataOutputStream footer = new DataOutputStream(out);
+            footer.write(context);
+            footer.writeInt(context.length);
+            footer.writeInt(MAGIC_NUMBER);
+            footer.flush();
+        }
+    }
+
+    /** Download the store bytes to local file and returns the serialized context. */
+    private static byte[] download(FileIO fileIO, Path path, File localFile) throws IOException {
+        long fileSize = fileIO.getFileSize(path);
+        try (SeekableInputStream in = fileIO.newInputStream(path)) {
+            DataInputStream input = new DataInputStream(in);
+            in.seek(fileSize - FOOTER_LENGTH);
+            int contextLength = input.readInt();
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IOException("Invalid remote lookup file: " + path);
+            }
+
+            long storeLength = fileSize - FOOTER_LENGTH - contextLength;
+            byte[] context = new byte[contextLength];
+            in.seek(storeLength);
+            input.readFully(context);
+
+            in.seek(0);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (OutputStream out = new FileOutputStream(localFile)) {
+                long remaining = storeLength;
+                while (remaining > 0) {
+                    int len = (int) Math.min(buffer.length, remaining);
+                    input.readFully(buffer, 0, len);
+                    out.write(buffer, 0, len);
+                    remaining -= len;
+                }
+            }
+            return context;
+        }
+    }
+
+    /** Writer to write a remote lookup file for a data file. */
+    public static class Writer {
+
+        private final FileIO fileIO;
+        private final Path path;
+        private final LookupStoreFactory storeFactory;
+        private final File localFile;
+        private final LookupStoreWriter storeWriter;
+        private final RowCompactedSerializer keySerializer;
+        private final LookupLevels.KeyValueProcessor valueProcessor;
+
+        private boolean closed = false;
+
+        public Writer(
+                FileIO fileIO,
+                Path path,
+                LookupStoreFactory storeFactory,
+                File localFile,
+                RowType keyType,
+                RowType valueType,
+                @Nullable BloomFilter.Builder bloomFilter)
+                throws IOException {
+            this.fileIO = fileIO;
+            this.path = path;
+            this.storeFactory = storeFactory;
+            this.localFile = localFile;
+            this.storeWriter = storeFactory.createWriter(localFile, bloomFilter);
+            this.keySerializer = new RowCompactedSerializer(keyType);
+            this.valueProcessor = new LookupLevels.KeyValueProcessor(valueType);
+        }
+
+        public void write(KeyValue kv) throws IOException {
+            byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+            storeWriter.put(keyBytes, valueProcessor.persistToDisk(kv));
+        }
+
+        /** Finish the store file and upload it, returns the name of the remote lookup file. */
+        public String finish() throws IOException {
+            closed = true;
+            try {
+                LookupStoreFactory.Context context = storeWriter.close();
+                upload(fileIO, path, localFile, storeFactory.serializeContext(context));
+            } catch (IOException e) {
+                fileIO.deleteQuietly(path);
+                throw e;
+            } finally {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+            }
+            return path.getName();
+        }
+
+        public void abort() {
+            if (!closed) {
+                closed = true;
+                try {
+                    storeWriter.close();
+                } catch (IOException ignored) {
+                }
+            }
+            //noinspection ResultOfMethodCallIgnored
+            localFile.delete();
+            fileIO.deleteQuietly(path);
+        }
+    }
+
+    /**
+     * Loader to download remote lookup files. Only files written by the given schema are loaded,
+     * because values are persisted with the value type of the writing schema.
+     */
+    public static class Loader {
+
+        private final FileIO fileIO;
+        private final DataFilePathFactory pathFactory;
+        private final LookupStoreFactory storeFactory;
+        private final long schemaId;
+
+        public Loader(
+                FileIO fileIO,
+                DataFilePathFactory pathFactory,
+                LookupStoreFactory storeFactory,
+                long schemaId) {
+            this.fileIO = fileIO;
+            this.pathFactory = pathFactory;
+            this.storeFactory = storeFactory;
+            this.schemaId = schemaId;
+        }
+
+        /**
+         * Download the remote lookup file of the data file to local file. Returns null if there is
+         * no compatible remote lookup file.
+         */
+        @Nullable
+        public LookupStoreFactory.Context load(DataFileMeta file, File localFile)
+                throws IOException {
+            if (file.schemaId() != schemaId) {
+                return null;
+            }
+
+            String remoteFile = find(file);
+            if (remoteFile == null) {
+                return null;
+            }
+
+            byte[] context = download(fileIO, pathFactory.toPath(remoteFile), localFile);
+            return storeFactory.deserializeContext(context);
+        }
+    }
+}
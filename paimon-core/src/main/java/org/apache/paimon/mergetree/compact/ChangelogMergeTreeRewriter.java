@@ -128,7 +128,11 @@ public abstract class ChangelogMergeTreeRewriter extends MergeTreeCompactRewrite
                     readerForMergeTree(sections, createMergeWrapper(outputLevel))
                             .toCloseableIterator();
             if (rewriteCompactFile) {
-                compactFileWriter = writerFactory.createRollingMergeTreeFileWriter(outputLevel);
+                compactFileWriter =
+                        writerFactory.createRollingMergeTreeFileWriter(
+                                outputLevel,
+                                writerFactory.maxRowCountPerFile(
+                                        extractFilesFromSections(sections)));
             }
             if (produceChangelog) {
                 changelogFileWriter = writerFactory.createRollingChangelogFileWriter(outputLevel);
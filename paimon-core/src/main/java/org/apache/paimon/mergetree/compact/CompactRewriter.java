@@ -53,4 +53,12 @@ public interface CompactRewriter extends Closeable {
      * @throws Exception exception
      */
     CompactResult upgrade(int outputLevel, DataFileMeta file) throws Exception;
+
+    /**
+     * Delete the files written by a rewrite whose result will not be committed, for example when
+     * another key range of the same compaction failed.
+     *
+     * @param result result of {@link #rewrite}
+     */
+    void delete(CompactResult result);
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Leveled Compaction Style is a compaction style, targeting the use cases requiring lower read
+ * amplification and space amplification, trading off write amplification.
+ *
+ * <p>Each level from level 1 has a target size, growing by a multiplier from level to level, the
+ * max level is unlimited. The level with the highest score, the number of level 0 sorted runs to
+ * the trigger or the level size to the target size, is compacted into the next level:
+ *
+ * <ul>
+ *   <li>all level 0 files are compacted with the overlapping files of level 1.
+ *   <li>for other levels, one file is picked by a round-robin cursor over the key space and
+ *       compacted with the overlapping files of the next level only.
+ * </ul>
+ *
+ * <p>See RocksDb Leveled-Compaction: https://github.com/facebook/rocksdb/wiki/Leveled-Compaction.
+ */
+public class LeveledCompaction implements CompactStrategy {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LeveledCompaction.class);
+
+    private final Comparator<InternalRow> keyComparator;
+    private final int level0Trigger;
+    private final long baseLevelSize;
+    private final int sizeMultiplier;
+
+    // max key of the file last picked from each level
+    private final Map<Integer, BinaryRow> cursors;
+
+    public LeveledCompaction(
+            Comparator<InternalRow> keyComparator,
+            int level0Trigger,
+            long baseLevelSize,
+            int sizeMultiplier) {
+        this.keyComparator = keyComparator;
+        this.level0Trigger = level0Trigger;
+        this.baseLevelSize = baseLevelSize;
+        this.sizeMultiplier = sizeMultiplier;
+        this.cursors = new HashMap<>();
+    }
+
+    @Override
+    public Optional<CompactUnit> pick(int numLevels, List<LevelSortedRun> runs) {
+        int maxLevel = numLevels - 1;
+        if (maxLevel < 1) {
+            return Optional.empty();
+        }
+
+        List<DataFileMeta> level0 = new ArrayList<>();
+        int level0Runs = 0;
+        List<List<DataFileMeta>> levels = new ArrayList<>();
+        for (int i = 0; i < numLevels; i++) {
+            levels.add(new ArrayList<>());
+        }
+        for (LevelSortedRun run : runs) {
+            if (run.level() == 0) {
+                level0.addAll(run.run().files());
+                level0Runs++;
+            } else {
+                levels.get(run.level()).addAll(run.run().files());
+            }
+        }
+
+        // the level with the highest score, the max level can not be compacted into a next level
+        int pickedLevel = -1;
+        double maxScore = 1;
+        if (!level0.isEmpty()) {
+            double score = (double) level0Runs / level0Trigger;
+            if (score >= maxScore) {
+                pickedLevel = 0;
+                maxScore = score;
+            }
+        }
+        for (int level = 1; level < maxLevel; level++) {
+            double score = (double) totalSize(levels.get(level)) / targetSize(level);
+            if (score > maxScore) {
+                pickedLevel = level;
+                maxScore = score;
+            }
+        }
+
+        if (pickedLevel < 0) {
+            return Optional.empty();
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Leveled compaction picks level {} with score {}", pickedLevel, maxScore);
+        }
+        List<DataFileMeta> inputs =
+                pickedLevel == 0 ? level0 : pickFile(pickedLevel, levels.get(pickedLevel));
+        int outputLevel = pickedLevel + 1;
+        List<DataFileMeta> files = new ArrayList<>(inputs);
+        files.addAll(overlapping(inputs, levels.get(outputLevel)));
+        return Optional.of(CompactUnit.fromFiles(outputLevel, files));
+    }
+
+    @VisibleForTesting
+    long targetSize(int level) {
+        long size = baseLevelSize;
+        for (int i = 1; i < level; i++) {
+            if (size > Long.MAX_VALUE / sizeMultiplier) {
+                return Long.MAX_VALUE;
+            }
+            size *= sizeMultiplier;
+        }
+        return size;
+    }
+
+    /** Picks the first file after the cursor of the level, starting over from the smallest key. */
+    private List<DataFileMeta> pickFile(int level, List<DataFileMeta> files) {
+        BinaryRow cursor = cursors.get(level);
+        DataFileMeta picked = files.get(0);
+        if (cursor != null) {
+            for (DataFileMeta file : files) {
+                if (keyComparator.compare(file.minKey(), cursor) > 0) {
+                    picked = file;
+                    break;
+                }
+            }
+        }
+        cursors.put(level, picked.maxKey());
+
+        List<DataFileMeta> result = new ArrayList<>();
+        result.add(picked);
+        return result;
+    }
+
+    private List<DataFileMeta> overlapping(
+            List<DataFileMeta> inputs, List<DataFileMeta> nextLevel) {
+        BinaryRow min = null;
+        BinaryRow max = null;
+        for (DataFileMeta file : inputs) {
+            if (min == null || keyComparator.compare(file.minKey(), min) < 0) {
+                min = file.minKey();
+            }
+            if (max == null || keyComparator.compare(file.maxKey(), max) > 0) {
+                max = file.maxKey();
+            }
+        }
+
+        List<DataFileMeta> result = new ArrayList<>();
+        for (DataFileMeta file : nextLevel) {
+            if (keyComparator.compare(file.maxKey(), min) >= 0
+                    && keyComparator.compare(file.minKey(), max) <= 0) {
+                result.add(file);
+            }
+        }
+        return result;
+    }
+
+    private static long totalSize(List<DataFileMeta> files) {
+        long size = 0;
+        for (DataFileMeta file : files) {
+            size += file.fileSize();
+        }
+        return size;
+    }
+}
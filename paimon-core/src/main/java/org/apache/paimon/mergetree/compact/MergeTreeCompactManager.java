@@ -60,6 +60,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
     @Nullable private final CompactionMetrics.Reporter metricsReporter;
     private final boolean deletionVectorsEnabled;
 
+    @Nullable private ExecutorService rewriteExecutor;
+    private int rewriteParallelism;
+
     public MergeTreeCompactManager(
             ExecutorService executor,
             Levels levels,
@@ -83,6 +86,13 @@ public class MergeTreeCompactManager extends CompactFutureManager {
         MetricUtils.safeCall(this::reportLevel0FileCount, LOG);
     }
 
+    /** Rewrites non-overlapping key ranges of a compaction in parallel. */
+    public MergeTreeCompactManager withRewriteExecutor(ExecutorService executor, int parallelism) {
+        this.rewriteExecutor = executor;
+        this.rewriteParallelism = parallelism;
+        return this;
+    }
+
     @Override
     public boolean shouldWaitForLatestCompaction() {
         return levels.numberOfSortedRuns() > numSortedRunStopTrigger;
@@ -169,6 +179,15 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                 });
     }
 
+    /**
+     * Percentage of sorted runs to the stop trigger, writers wait for compaction when it exceeds
+     * 100.
+     */
+    private int sortedRunPressure() {
+        long pressure = levels.numberOfSortedRuns() * 100L / Math.max(numSortedRunStopTrigger, 1);
+        return (int) Math.min(pressure, Integer.MAX_VALUE);
+    }
+
     @VisibleForTesting
     public Levels levels() {
         return levels;
@@ -184,6 +203,11 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                         dropDelete,
                         levels.maxLevel(),
                         metricsReporter);
+        if (rewriteExecutor != null) {
+            task.withRewriteExecutor(rewriteExecutor, rewriteParallelism);
+        }
+        // a shared compaction scheduler runs buckets close to stopping writes first
+        task.withPriority(sortedRunPressure());
         if (LOG.isDebugEnabled()) {
             LOG.debug(
                     "Pick these files (name, level, size) for compaction: {}",
@@ -38,6 +38,8 @@ import javax.annotation.Nullable;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Default {@link CompactRewriter} for merge trees. */
 public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
@@ -73,7 +75,9 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
     protected CompactResult rewriteCompaction(
             int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
-                writerFactory.createRollingMergeTreeFileWriter(outputLevel);
+                writerFactory.createRollingMergeTreeFileWriter(
+                        outputLevel,
+                        writerFactory.maxRowCountPerFile(extractFilesFromSections(sections)));
         RecordReader<KeyValue> reader =
                 readerForMergeTree(sections, new ReducerMergeFunctionWrapper(mfFactory.create()));
         if (dropDelete) {
@@ -86,6 +90,21 @@ public class MergeTreeCompactRewriter extends AbstractCompactRewriter {
         return new CompactResult(before, writer.result());
     }
 
+    @Override
+    public void delete(CompactResult result) {
+        Set<String> before =
+                result.before().stream().map(DataFileMeta::fileName).collect(Collectors.toSet());
+        for (DataFileMeta file : result.after()) {
+            // upgraded files are not written by the rewrite
+            if (!before.contains(file.fileName())) {
+                writerFactory.deleteFile(file);
+            }
+        }
+        for (DataFileMeta file : result.changelog()) {
+            writerFactory.deleteFile(file);
+        }
+    }
+
     protected <T> RecordReader<T> readerForMergeTree(
             List<List<SortedRun>> sections, MergeFunctionWrapper<T> mergeFunctionWrapper)
             throws IOException {
@@ -25,12 +25,16 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.mergetree.SortedRun;
 import org.apache.paimon.operation.metrics.CompactionMetrics;
+import org.apache.paimon.utils.ExceptionUtils;
 
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.util.Collections.singletonList;
 
@@ -46,6 +50,10 @@ public class MergeTreeCompactTask extends CompactTask {
     private final boolean dropDelete;
     private final int maxLevel;
 
+    // rewrite non-overlapping key ranges in parallel if it is not null
+    @Nullable private ExecutorService rewriteExecutor;
+    private int rewriteParallelism = 1;
+
     // metric
     private int upgradeFilesNum;
 
@@ -68,6 +76,16 @@ public class MergeTreeCompactTask extends CompactTask {
         this.upgradeFilesNum = 0;
     }
 
+    /**
+     * Rewrites non-overlapping key ranges of the compaction with {@code parallelism} threads, one
+     * of them is the compaction thread and the others are taken from the given executor.
+     */
+    public MergeTreeCompactTask withRewriteExecutor(ExecutorService executor, int parallelism) {
+        this.rewriteExecutor = executor;
+        this.rewriteParallelism = parallelism;
+        return this;
+    }
+
     @Override
     protected CompactResult doCompact() throws Exception {
         List<List<SortedRun>> candidate = new ArrayList<>();
@@ -148,8 +166,118 @@ public class MergeTreeCompactTask extends CompactTask {
 
     private void rewriteImpl(List<List<SortedRun>> candidate, CompactResult toUpdate)
             throws Exception {
-        CompactResult rewriteResult = rewriter.rewrite(outputLevel, dropDelete, candidate);
-        toUpdate.merge(rewriteResult);
+        List<List<List<SortedRun>>> ranges = splitRanges(candidate);
+        if (ranges.size() == 1) {
+            CompactResult rewriteResult = rewriter.rewrite(outputLevel, dropDelete, candidate);
+            toUpdate.merge(rewriteResult);
+        } else {
+            rewriteParallel(ranges, toUpdate);
+        }
         candidate.clear();
     }
+
+    /**
+     * Sections do not overlap, so the output files of consecutive sections can be simply
+     * concatenated. Splits the sections into at most {@link #rewriteParallelism} ranges of similar
+     * size, each range is not smaller than {@link #minFileSize} to avoid producing small files.
+     */
+    private List<List<List<SortedRun>>> splitRanges(List<List<SortedRun>> sections) {
+        List<List<List<SortedRun>>> ranges = new ArrayList<>();
+        if (rewriteExecutor == null || rewriteParallelism <= 1 || sections.size() <= 1) {
+            ranges.add(sections);
+            return ranges;
+        }
+
+        long totalSize = 0;
+        for (List<SortedRun> section : sections) {
+            totalSize += sectionSize(section);
+        }
+        long targetSize = Math.max(totalSize / rewriteParallelism, minFileSize);
+
+        List<List<SortedRun>> range = new ArrayList<>();
+        long rangeSize = 0;
+        for (List<SortedRun> section : sections) {
+            range.add(section);
+            rangeSize += sectionSize(section);
+            if (rangeSize >= targetSize && ranges.size() < rewriteParallelism - 1) {
+                ranges.add(range);
+                range = new ArrayList<>();
+                rangeSize = 0;
+            }
+        }
+        if (!range.isEmpty()) {
+            ranges.add(range);
+        }
+        return ranges;
+    }
+
+    private void rewriteParallel(List<List<List<SortedRun>>> ranges, CompactResult toUpdate)
+            throws Exception {
+        // set on failure or interrupt, ranges which have not started yet are skipped
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        for (List<List<SortedRun>> range : ranges.subList(1, ranges.size())) {
+            futures.add(
+                    rewriteExecutor.submit(
+                            () ->
+                                    cancelled.get()
+                                            ? null
+                                            : rewriter.rewrite(outputLevel, dropDelete, range)));
+        }
+
+        // the first range is rewritten by the compaction thread itself
+        List<CompactResult> results = new ArrayList<>();
+        Exception exception = null;
+        try {
+            results.add(rewriter.rewrite(outputLevel, dropDelete, ranges.get(0)));
+        } catch (Exception e) {
+            cancelled.set(true);
+            exception = e;
+        }
+
+        // wait for all ranges even if one failed or the thread is interrupted, so that no range is
+        // left running and the outputs of the running ones can be deleted
+        boolean interrupted = false;
+        for (Future<CompactResult> future : futures) {
+            while (true) {
+                try {
+                    CompactResult result = future.get();
+                    if (result != null) {
+                        results.add(result);
+                    }
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    cancelled.set(true);
+                    exception = ExceptionUtils.firstOrSuppressed(e, exception);
+                } catch (Exception e) {
+                    cancelled.set(true);
+                    exception = ExceptionUtils.firstOrSuppressed(e, exception);
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (exception != null) {
+            // outputs of the succeeded ranges will not be committed
+            for (CompactResult result : results) {
+                rewriter.delete(result);
+            }
+            throw exception;
+        }
+
+        // merge in key order, so that the output files are still sorted
+        results.forEach(toUpdate::merge);
+    }
+
+    private static long sectionSize(List<SortedRun> section) {
+        long size = 0;
+        for (SortedRun run : section) {
+            size += run.totalSize();
+        }
+        return size;
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestEntrySerializer;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
@@ -446,17 +447,39 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
 
     /** Note: Keep this thread-safe. */
     private boolean filterManifestFileMeta(ManifestFileMeta manifest) {
-        if (partitionFilter == null) {
+        if (partitionFilter != null) {
+            BinaryTableStats stats = manifest.partitionStats();
+            if (!partitionFilter.test(
+                    manifest.numAddedFiles() + manifest.numDeletedFiles(),
+                    stats.minValues(),
+                    stats.maxValues(),
+                    stats.nullCounts())) {
+                return false;
+            }
+        }
+
+        return filterManifestByBuckets(manifest);
+    }
+
+    /** Note: Keep this thread-safe. */
+    private boolean filterManifestByBuckets(ManifestFileMeta manifest) {
+        Integer minBucket = manifest.minBucket();
+        Integer maxBucket = manifest.maxBucket();
+        Integer totalBuckets = manifest.totalBuckets();
+        if (minBucket == null || maxBucket == null || totalBuckets == null) {
             return true;
         }
 
-        BinaryTableStats stats = manifest.partitionStats();
-        return partitionFilter == null
-                || partitionFilter.test(
-                        manifest.numAddedFiles() + manifest.numDeletedFiles(),
-                        stats.minValues(),
-                        stats.maxValues(),
-                        stats.nullCounts());
+        // same as the entry row filter, the bucket filter only applies to entries of the current
+        // total buckets
+        boolean testBucketFilter = bucketFilter != null && totalBuckets == numOfBuckets;
+        for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+            if ((!testBucketFilter || bucketFilter.test(bucket))
+                    && bucketKeyFilter.select(bucket, totalBuckets)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /** Note: Keep this thread-safe. */
@@ -491,7 +514,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                         manifest.fileSize(),
                         ManifestEntry.createCacheRowFilter(manifestCacheFilter, numOfBuckets),
                         ManifestEntry.createEntryRowFilter(
-                                partitionFilter, bucketFilter, numOfBuckets));
+                                partitionFilter, bucketFilter, numOfBuckets),
+                        ManifestEntrySerializer.partitionAndBucketFields());
     }
 
     /** Note: Keep this thread-safe. */
@@ -502,11 +526,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                         manifest.fileName(),
                         manifest.fileSize(),
                         // use filter for ManifestEntry
-                        // currently, projection is not pushed down to file format
-                        // see SimpleFileEntrySerializer
+                        // the _FILE field is projected down to the file format when possible
+                        // see ManifestFile.Factory#createSimpleFileEntryReader
                         ManifestEntry.createCacheRowFilter(manifestCacheFilter, numOfBuckets),
                         ManifestEntry.createEntryRowFilter(
-                                partitionFilter, bucketFilter, numOfBuckets));
+                                partitionFilter, bucketFilter, numOfBuckets),
+                        ManifestEntrySerializer.partitionAndBucketFields());
     }
 
     // ------------------------------------------------------------------------
@@ -50,7 +50,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Base {@link FileStoreWrite} implementation.
@@ -398,6 +399,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        compactionMetrics.registerQueueSize(this::compactQueueSize);
         return this;
     }
 
@@ -414,13 +416,21 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
             lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
+                    new ScheduledThreadPoolExecutor(
+                            1,
                             new ExecutorThreadFactory(
                                     Thread.currentThread().getName() + "-compaction"));
         }
         return lazyCompactExecutor;
     }
 
+    private int compactQueueSize() {
+        ExecutorService executor = lazyCompactExecutor;
+        return executor instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executor).getQueue().size()
+                : 0;
+    }
+
     @VisibleForTesting
     public ExecutorService getCompactExecutor() {
         return lazyCompactExecutor;
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.table.source.ScanMode;
+import org.apache.paimon.utils.SnapshotManager;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the merged {@link SimpleFileEntry}s of the recently read partitions at a snapshot. A read
+ * of a newer snapshot advances the cached partitions by applying only the delta manifests of the
+ * snapshots in between, instead of reading all manifests of these partitions again.
+ *
+ * <p>A partition stays cached while it is requested by one of the last two reads. Snapshot ids are
+ * reused after a rollback, so the cached snapshot is compared with the snapshot file of its id by
+ * the manifest lists, and the entries are read again if the snapshot has been replaced.
+ */
+class FileEntriesCache {
+
+    private final SnapshotManager snapshotManager;
+    private final String branchName;
+    private final FileStoreScan scan;
+
+    @Nullable private Snapshot snapshot;
+    private final Map<BinaryRow, List<SimpleFileEntry>> entries;
+    private Set<BinaryRow> lastRequested;
+
+    FileEntriesCache(SnapshotManager snapshotManager, String branchName, FileStoreScan scan) {
+        this.snapshotManager = snapshotManager;
+        this.branchName = branchName;
+        this.scan = scan;
+        this.entries = new HashMap<>();
+        this.lastRequested = Collections.emptySet();
+    }
+
+    /** Returns the merged entries of the given partitions at the given snapshot. */
+    List<SimpleFileEntry> read(Snapshot snapshot, Collection<BinaryRow> partitions) {
+        try {
+            return doRead(snapshot, partitions);
+        } catch (RuntimeException | Error e) {
+            // the cached entries might be partially advanced
+            entries.clear();
+            this.snapshot = null;
+            throw e;
+        }
+    }
+
+    private List<SimpleFileEntry> doRead(Snapshot snapshot, Collection<BinaryRow> partitions) {
+        if (this.snapshot == null || !advance(snapshot)) {
+            entries.clear();
+        }
+        this.snapshot = snapshot;
+
+        List<BinaryRow> missing = new ArrayList<>();
+        for (BinaryRow partition : partitions) {
+            if (!entries.containsKey(partition)) {
+                missing.add(partition);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (BinaryRow partition : missing) {
+                entries.put(partition, new ArrayList<>());
+            }
+            for (SimpleFileEntry entry : readEntries(snapshot, ScanMode.ALL, missing)) {
+                entries.get(entry.partition()).add(entry);
+            }
+        }
+
+        Set<BinaryRow> requested = new HashSet<>(partitions);
+        entries.keySet().removeIf(p -> !requested.contains(p) && !lastRequested.contains(p));
+        lastRequested = requested;
+
+        List<SimpleFileEntry> result = new ArrayList<>();
+        for (BinaryRow partition : requested) {
+            result.addAll(entries.get(partition));
+        }
+        return result;
+    }
+
+    /**
+     * Applies the delta manifests up to the given snapshot, returns false if one has expired or the
+     * cached snapshot is not an ancestor of the given snapshot.
+     */
+    private boolean advance(Snapshot target) {
+        if (snapshot.id() > target.id()) {
+            return false;
+        }
+        if (entries.isEmpty()) {
+            return true;
+        }
+        if (snapshot.id() == target.id()) {
+            return isSameSnapshot(snapshot, target);
+        }
+
+        // the cached snapshot might have been rolled back and its id reused
+        Snapshot current = readSnapshot(snapshot.id());
+        if (current == null || !isSameSnapshot(snapshot, current)) {
+            return false;
+        }
+
+        List<BinaryRow> partitions = new ArrayList<>(entries.keySet());
+        for (long id = snapshot.id() + 1; id <= target.id(); id++) {
+            Snapshot delta = id == target.id() ? target : readSnapshot(id);
+            if (delta == null) {
+                return false;
+            }
+
+            Map<BinaryRow, List<SimpleFileEntry>> changes = new HashMap<>();
+            for (SimpleFileEntry entry : readEntries(delta, ScanMode.DELTA, partitions)) {
+                changes.computeIfAbsent(entry.partition(), p -> new ArrayList<>()).add(entry);
+            }
+            for (Map.Entry<BinaryRow, List<SimpleFileEntry>> change : changes.entrySet()) {
+                List<SimpleFileEntry> merged = new ArrayList<>(entries.get(change.getKey()));
+                merged.addAll(change.getValue());
+                entries.put(change.getKey(), new ArrayList<>(FileEntry.mergeEntries(merged)));
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private Snapshot readSnapshot(long id) {
+        try {
+            return Snapshot.safelyFromPath(
+                    snapshotManager.fileIO(), snapshotManager.snapshotPathByBranch(branchName, id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isSameSnapshot(Snapshot s1, Snapshot s2) {
+        // manifest lists have unique names, a snapshot committed after a rollback has new ones
+        return s1.id() == s2.id()
+                && s1.baseManifestList().equals(s2.baseManifestList())
+                && s1.deltaManifestList().equals(s2.deltaManifestList());
+    }
+
+    private List<SimpleFileEntry> readEntries(
+            Snapshot snapshot, ScanMode scanMode, List<BinaryRow> partitions) {
+        try {
+            return scan.withSnapshot(snapshot)
+                    .withKind(scanMode)
+                    .withPartitionFilter(partitions)
+                    .readSimpleEntries();
+        } finally {
+            scan.withKind(ScanMode.ALL);
+        }
+    }
+}
@@ -114,6 +114,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final MemorySize manifestTargetSize;
     private final MemorySize manifestFullCompactionSize;
     private final int manifestMergeMinCount;
+    @Nullable private final Integer manifestReadParallelism;
     private final boolean dynamicPartitionOverwrite;
     @Nullable private final Comparator<InternalRow> keyComparator;
     private final String branchName;
@@ -124,6 +125,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private CommitMetrics commitMetrics;
 
     private final StatsFileHandler statsFileHandler;
+    private final FileEntriesCache fileEntriesCache;
 
     public FileStoreCommitImpl(
             FileIO fileIO,
@@ -140,6 +142,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             MemorySize manifestTargetSize,
             MemorySize manifestFullCompactionSize,
             int manifestMergeMinCount,
+            @Nullable Integer manifestReadParallelism,
             boolean dynamicPartitionOverwrite,
             @Nullable Comparator<InternalRow> keyComparator,
             String branchName,
@@ -158,6 +161,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.manifestTargetSize = manifestTargetSize;
         this.manifestFullCompactionSize = manifestFullCompactionSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
+        this.manifestReadParallelism = manifestReadParallelism;
         this.dynamicPartitionOverwrite = dynamicPartitionOverwrite;
         this.keyComparator = keyComparator;
         this.branchName = branchName;
@@ -166,6 +170,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.ignoreEmptyCommit = true;
         this.commitMetrics = null;
         this.statsFileHandler = statsFileHandler;
+        this.fileEntriesCache = new FileEntriesCache(snapshotManager, branchName, scan);
     }
 
     @Override
@@ -811,7 +816,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             manifestTargetSize.getBytes(),
                             manifestMergeMinCount,
                             manifestFullCompactionSize.getBytes(),
-                            partitionType));
+                            partitionType,
+                            manifestReadParallelism));
             previousChangesListName = manifestList.write(newMetas);
 
             // the added records subtract the deleted records from
@@ -977,9 +983,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         .distinct()
                         .collect(Collectors.toList());
         try {
-            return scan.withSnapshot(snapshot)
-                    .withPartitionFilter(changedPartitions)
-                    .readSimpleEntries();
+            return fileEntriesCache.read(snapshot, changedPartitions);
         } catch (Throwable e) {
             throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
         }
@@ -20,6 +20,7 @@ package org.apache.paimon.operation;
 
 import org.apache.paimon.CoreOptions;
 import org.apache.paimon.CoreOptions.ChangelogProducer;
+import org.apache.paimon.CoreOptions.CompactionStyle;
 import org.apache.paimon.CoreOptions.MergeEngine;
 import org.apache.paimon.KeyValue;
 import org.apache.paimon.KeyValueFileStore;
@@ -39,8 +40,8 @@ import org.apache.paimon.io.FileReaderFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RecordLevelExpire;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.lookup.LookupStrategy;
-import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
 import org.apache.paimon.mergetree.LookupLevels.ContainsValueProcessor;
@@ -48,10 +49,13 @@ import org.apache.paimon.mergetree.LookupLevels.KeyValueProcessor;
 import org.apache.paimon.mergetree.LookupLevels.PositionedKeyValueProcessor;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.RemoteLookupFile;
+import org.apache.paimon.mergetree.compact.ChangelogMergeTreeRewriter;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.ForceUpLevel0Compaction;
 import org.apache.paimon.mergetree.compact.FullChangelogMergeTreeCompactRewriter;
+import org.apache.paimon.mergetree.compact.LeveledCompaction;
 import org.apache.paimon.mergetree.compact.LookupMergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.LookupMergeTreeCompactRewriter.FirstRowMergeFunctionWrapperFactory;
 import org.apache.paimon.mergetree.compact.LookupMergeTreeCompactRewriter.LookupMergeFunctionWrapperFactory;
@@ -65,6 +69,7 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
@@ -79,6 +84,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.CoreOptions.ChangelogProducer.FULL_COMPACTION;
@@ -86,6 +92,7 @@ import static org.apache.paimon.CoreOptions.MergeEngine.DEDUPLICATE;
 import static org.apache.paimon.CoreOptions.MergeEngine.FIRST_ROW;
 import static org.apache.paimon.io.DataFileMeta.getMaxSequenceNumber;
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
+import static org.apache.paimon.mergetree.LookupUtils.serializedKeyComparator;
 
 /** {@link FileStoreWrite} for {@link KeyValueFileStore}. */
 public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
@@ -103,6 +110,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final RowType keyType;
     private final RowType valueType;
     @Nullable private final RecordLevelExpire recordLevelExpire;
+    private final FileStorePathFactory pathFactory;
+    private final long schemaId;
+
+    @Nullable private ExecutorService lazyFlushExecutor;
+    @Nullable private ExecutorService lazyRewriteExecutor;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -133,6 +145,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 deletionVectorsMaintainerFactory,
                 tableName);
         this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.schemaId = schema.id();
         this.keyType = keyType;
         this.valueType = valueType;
         this.udsComparatorSupplier = udsComparatorSupplier;
@@ -183,35 +197,59 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 writerFactoryBuilder.build(partition, bucket, options);
         Comparator<InternalRow> keyComparator = keyComparatorSupplier.get();
         Levels levels = new Levels(keyComparator, restoreFiles, options.numLevels());
+        CompactStrategy compactStrategy = createCompactStrategy(keyComparator);
+        CompactManager compactManager =
+                createCompactManager(
+                        partition, bucket, compactStrategy, compactExecutor, levels, dvMaintainer);
+
+        return new MergeTreeWriter(
+                        bufferSpillable(),
+                        options.writeBufferSpillDiskSize(),
+                        options.localSortMaxNumFileHandles(),
+                        options.spillCompression(),
+                        ioManager,
+                        compactManager,
+                        getMaxSequenceNumber(restoreFiles),
+                        keyComparator,
+                        mfFactory.create(),
+                        writerFactory,
+                        options.commitForceCompact(),
+                        options.changelogProducer(),
+                        restoreIncrement,
+                        UserDefinedSeqComparator.create(valueType, options),
+                        options.writeBufferAsyncFlush() ? flushExecutor() : null)
+                .withFlushKeyRangeSplit(levels, options.writeBufferFlushKeyRangeShards());
+    }
+
+    private ExecutorService flushExecutor() {
+        if (lazyFlushExecutor == null) {
+            lazyFlushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-write-buffer-flush"));
+        }
+        return lazyFlushExecutor;
+    }
+
+    private CompactStrategy createCompactStrategy(Comparator<InternalRow> keyComparator) {
+        if (options.compactionStyle() == CompactionStyle.LEVELED) {
+            return new LeveledCompaction(
+                    keyComparator,
+                    // lookup produces changelog when compacting level 0 files, do not delay it
+                    options.needLookup() ? 1 : options.numSortedRunCompactionTrigger(),
+                    options.compactionLeveledBaseLevelSize(),
+                    options.compactionLeveledSizeMultiplier());
+        }
+
         UniversalCompaction universalCompaction =
                 new UniversalCompaction(
                         options.maxSizeAmplificationPercent(),
                         options.sortedRunSizeRatio(),
                         options.numSortedRunCompactionTrigger(),
                         options.optimizedCompactionInterval());
-        CompactStrategy compactStrategy =
-                options.needLookup()
-                        ? new ForceUpLevel0Compaction(universalCompaction)
-                        : universalCompaction;
-        CompactManager compactManager =
-                createCompactManager(
-                        partition, bucket, compactStrategy, compactExecutor, levels, dvMaintainer);
-
-        return new MergeTreeWriter(
-                bufferSpillable(),
-                options.writeBufferSpillDiskSize(),
-                options.localSortMaxNumFileHandles(),
-                options.spillCompression(),
-                ioManager,
-                compactManager,
-                getMaxSequenceNumber(restoreFiles),
-                keyComparator,
-                mfFactory.create(),
-                writerFactory,
-                options.commitForceCompact(),
-                options.changelogProducer(),
-                restoreIncrement,
-                UserDefinedSeqComparator.create(valueType, options));
+        return options.needLookup()
+                ? new ForceUpLevel0Compaction(universalCompaction)
+                : universalCompaction;
     }
 
     @VisibleForTesting
@@ -239,19 +277,38 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             userDefinedSeqComparator,
                             levels,
                             dvMaintainer);
-            return new MergeTreeCompactManager(
-                    compactExecutor,
-                    levels,
-                    compactStrategy,
-                    keyComparator,
-                    options.compactionFileSize(),
-                    options.numSortedRunStopTrigger(),
-                    rewriter,
-                    compactionMetrics == null
-                            ? null
-                            : compactionMetrics.createReporter(partition, bucket),
-                    options.deletionVectorsEnabled());
+            MergeTreeCompactManager compactManager =
+                    new MergeTreeCompactManager(
+                            compactExecutor,
+                            levels,
+                            compactStrategy,
+                            keyComparator,
+                            options.compactionFileSize(),
+                            options.numSortedRunStopTrigger(),
+                            rewriter,
+                            compactionMetrics == null
+                                    ? null
+                                    : compactionMetrics.createReporter(partition, bucket),
+                            options.deletionVectorsEnabled());
+            // changelog rewriters look up and maintain state, they can not rewrite in parallel
+            int parallelism = options.compactionRewriteParallelism();
+            if (parallelism > 1 && !(rewriter instanceof ChangelogMergeTreeRewriter)) {
+                compactManager.withRewriteExecutor(rewriteExecutor(parallelism), parallelism);
+            }
+            return compactManager;
+        }
+    }
+
+    private ExecutorService rewriteExecutor(int parallelism) {
+        if (lazyRewriteExecutor == null) {
+            // the compaction thread rewrites one of the key ranges itself
+            lazyRewriteExecutor =
+                    Executors.newFixedThreadPool(
+                            parallelism - 1,
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-compaction-rewrite"));
         }
+        return lazyRewriteExecutor;
     }
 
     private MergeTreeCompactRewriter createRewriter(
@@ -269,6 +326,12 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         }
         KeyValueFileWriterFactory writerFactory =
                 writerFactoryBuilder.build(partition, bucket, options);
+        if (options.lookupRemoteFileEnabled() && ioManager != null) {
+            writerFactory.withRemoteLookupFile(
+                    createLookupStoreFactory(),
+                    () -> ioManager.createChannel().getPathFile(),
+                    bfGenerator(options.toConfiguration()));
+        }
         MergeSorter mergeSorter = new MergeSorter(options, keyType, valueType, ioManager);
         int maxLevel = options.numLevels() - 1;
         MergeEngine mergeEngine = options.mergeEngine();
@@ -320,7 +383,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
             return new LookupMergeTreeCompactRewriter(
                     maxLevel,
                     mergeEngine,
-                    createLookupLevels(levels, processor, lookupReaderFactory),
+                    createLookupLevels(
+                            partition, bucket, levels, processor, lookupReaderFactory),
                     readerFactory,
                     writerFactory,
                     keyComparator,
@@ -331,6 +395,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     lookupStrategy.produceChangelog,
                     dvMaintainer);
         } else {
+            // key ranges of a compaction may be sorted in parallel
+            mergeSorter.setSortParallelism(options.compactionRewriteParallelism());
             return new MergeTreeCompactRewriter(
                     readerFactory,
                     writerFactory,
@@ -342,6 +408,8 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     }
 
     private <T> LookupLevels<T> createLookupLevels(
+            BinaryRow partition,
+            int bucket,
             Levels levels,
             LookupLevels.ValueProcessor<T> valueProcessor,
             FileReaderFactory<KeyValue> readerFactory) {
@@ -350,20 +418,49 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     "Can not use lookup, there is no temp disk directory to use.");
         }
         Options options = this.options.toConfiguration();
-        return new LookupLevels<>(
-                levels,
-                keyComparatorSupplier.get(),
-                keyType,
-                valueProcessor,
-                readerFactory::createRecordReader,
-                () -> ioManager.createChannel().getPathFile(),
-                new HashLookupStoreFactory(
-                        cacheManager,
-                        this.options.cachePageSize(),
-                        options.get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
-                        options.get(CoreOptions.LOOKUP_CACHE_SPILL_COMPRESSION)),
-                options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
-                options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
-                bfGenerator(options));
+        LookupStoreFactory lookupStoreFactory = createLookupStoreFactory();
+        LookupLevels<T> lookupLevels =
+                new LookupLevels<>(
+                        levels,
+                        keyComparatorSupplier.get(),
+                        keyType,
+                        valueProcessor,
+                        readerFactory::createRecordReader,
+                        () -> ioManager.createChannel().getPathFile(),
+                        lookupStoreFactory,
+                        options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
+                        options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
+                        bfGenerator(options));
+        // remote lookup files do not know deletion vectors and expiration applied when reading
+        if (this.options.lookupRemoteFileEnabled()
+                && !this.options.deletionVectorsEnabled()
+                && recordLevelExpire == null) {
+            lookupLevels.withRemoteFileLoader(
+                    new RemoteLookupFile.Loader(
+                            fileIO,
+                            pathFactory.createDataFilePathFactory(partition, bucket),
+                            lookupStoreFactory,
+                            schemaId));
+        }
+        return lookupLevels;
+    }
+
+    private LookupStoreFactory createLookupStoreFactory() {
+        return LookupStoreFactory.create(
+                options,
+                cacheManager,
+                serializedKeyComparator(keyType, keyComparatorSupplier.get()));
+    }
+
+    @Override
+    public void close() throws Exception {
+        // writers wait for their flushing buffers when closing
+        super.close();
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
+        if (lazyRewriteExecutor != null) {
+            lazyRewriteExecutor.shutdownNow();
+        }
     }
 }
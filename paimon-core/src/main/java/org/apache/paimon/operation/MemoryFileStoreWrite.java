@@ -19,6 +19,7 @@
 package org.apache.paimon.operation;
 
 import org.apache.paimon.CoreOptions;
+import org.apache.paimon.compact.CompactScheduler;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
@@ -72,7 +73,13 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
                 tableName,
                 options.writeMaxWritersToSpill());
         this.options = options;
-        this.cacheManager = new CacheManager(options.lookupCacheMaxMemory());
+        this.cacheManager = CacheManager.create(options);
+
+        Integer sharedThreadNum = options.compactionSharedThreadNum();
+        if (sharedThreadNum != null) {
+            // the scheduler is shared by the process, writers do not shut it down
+            withCompactExecutor(CompactScheduler.processScheduler(sharedThreadNum));
+        }
     }
 
     @Override
@@ -20,6 +20,7 @@ package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
 
@@ -27,6 +28,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
 import java.util.stream.DoubleStream;
 import java.util.stream.LongStream;
 
@@ -38,11 +40,15 @@ public class CompactionMetrics {
     public static final String MAX_LEVEL0_FILE_COUNT = "maxLevel0FileCount";
     public static final String AVG_LEVEL0_FILE_COUNT = "avgLevel0FileCount";
     public static final String COMPACTION_THREAD_BUSY = "compactionThreadBusy";
+    public static final String COMPACTION_QUEUE_SIZE = "compactionQueueSize";
+    public static final String COMPACTION_WAIT_TIME = "compactionWaitTime";
     private static final long BUSY_MEASURE_MILLIS = 60_000;
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
 
     private final MetricGroup metricGroup;
     private final Map<PartitionAndBucket, ReporterImpl> reporters;
     private final Map<Long, CompactTimer> compactTimers;
+    private final Histogram waitTimeHistogram;
 
     public CompactionMetrics(MetricRegistry registry, String tableName) {
         this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
@@ -50,6 +56,7 @@ public class CompactionMetrics {
         this.compactTimers = new ConcurrentHashMap<>();
 
         registerGenericCompactionMetrics();
+        this.waitTimeHistogram = metricGroup.histogram(COMPACTION_WAIT_TIME, HISTOGRAM_WINDOW_SIZE);
     }
 
     @VisibleForTesting
@@ -74,6 +81,11 @@ public class CompactionMetrics {
                 .mapToDouble(t -> 100.0 * t.calculateLength() / BUSY_MEASURE_MILLIS);
     }
 
+    /** Register the number of compaction tasks waiting for a compaction thread. */
+    public void registerQueueSize(IntSupplier queueSize) {
+        metricGroup.gauge(COMPACTION_QUEUE_SIZE, queueSize::getAsInt);
+    }
+
     public void close() {
         metricGroup.close();
     }
@@ -85,6 +97,9 @@ public class CompactionMetrics {
 
         void reportLevel0FileCount(long count);
 
+        /** Report the time in milliseconds a compaction task waited for a compaction thread. */
+        void reportWaitTime(long millis);
+
         void unregister();
     }
 
@@ -110,6 +125,11 @@ public class CompactionMetrics {
             this.level0FileCount = count;
         }
 
+        @Override
+        public void reportWaitTime(long millis) {
+            waitTimeHistogram.update(millis);
+        }
+
         @Override
         public void unregister() {
             reporters.remove(key);
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/** Metrics to measure lookup operation. */
+public class LookupMetrics {
+
+    private static final int HISTOGRAM_WINDOW_SIZE = 100;
+    @VisibleForTesting protected static final String GROUP_NAME = "lookup";
+
+    @VisibleForTesting static final String LOOKUP_FILE_BUILD_DURATION = "lookupFileBuildDuration";
+
+    @VisibleForTesting
+    static final String LOOKUP_FILE_BUILD_QUEUE_SIZE = "lookupFileBuildQueueSize";
+
+    @VisibleForTesting static final String LOOKUP_FILE_COLD_MISSES = "lookupFileColdMisses";
+
+    @VisibleForTesting static final String LOOKUP_CACHE_HIT_RATIO = "lookupCacheHitRatio";
+
+    @VisibleForTesting static final String LOOKUP_CACHE_EVICTIONS = "lookupCacheEvictions";
+
+    @VisibleForTesting static final String LOOKUP_CACHE_USED_BYTES = "lookupCacheUsedBytes";
+
+    @VisibleForTesting
+    static final String LOOKUP_CACHE_PAGE_LOAD_DURATION = "lookupCachePageLoadDuration";
+
+    private final MetricGroup metricGroup;
+    // lookups run concurrently, use atomics instead of the non thread-safe SimpleCounter
+    private final AtomicInteger pendingBuilds = new AtomicInteger();
+    private final AtomicLong coldMisses = new AtomicLong();
+
+    private Histogram buildDurationHistogram;
+
+    public LookupMetrics(MetricRegistry registry, String tableName) {
+        this.metricGroup = registry.tableMetricGroup(GROUP_NAME, tableName);
+        registerGenericLookupMetrics();
+    }
+
+    @VisibleForTesting
+    public MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+
+    private void registerGenericLookupMetrics() {
+        buildDurationHistogram =
+                metricGroup.histogram(LOOKUP_FILE_BUILD_DURATION, HISTOGRAM_WINDOW_SIZE);
+        metricGroup.gauge(LOOKUP_FILE_BUILD_QUEUE_SIZE, pendingBuilds::get);
+        metricGroup.gauge(LOOKUP_FILE_COLD_MISSES, coldMisses::get);
+    }
+
+    /** Register metrics of the pages cached for this table. */
+    public void registerCacheMetrics(CacheManager cacheManager) {
+        metricGroup.gauge(
+                LOOKUP_CACHE_HIT_RATIO,
+                () -> {
+                    long hits = cacheManager.hitCount();
+                    long total = hits + cacheManager.missCount();
+                    return total == 0 ? 0d : (double) hits / total;
+                });
+        metricGroup.gauge(LOOKUP_CACHE_EVICTIONS, cacheManager::evictionCount);
+        metricGroup.gauge(LOOKUP_CACHE_USED_BYTES, cacheManager::usedBytes);
+        Histogram pageLoadDurationHistogram =
+                metricGroup.histogram(LOOKUP_CACHE_PAGE_LOAD_DURATION, HISTOGRAM_WINDOW_SIZE);
+        cacheManager.withLoadDurationReporter(pageLoadDurationHistogram::update);
+    }
+
+    /** Report the time in milliseconds to build a lookup file. */
+    public void reportBuildDuration(long duration) {
+        buildDurationHistogram.update(duration);
+    }
+
+    /** A lookup file build has been submitted to the background builder. */
+    public void increasePendingBuilds() {
+        pendingBuilds.incrementAndGet();
+    }
+
+    /** A background lookup file build has finished. */
+    public void decreasePendingBuilds() {
+        pendingBuilds.decrementAndGet();
+    }
+
+    /** A lookup hit a data file whose lookup file was not built yet. */
+    public void increaseColdMisses() {
+        coldMisses.incrementAndGet();
+    }
+}
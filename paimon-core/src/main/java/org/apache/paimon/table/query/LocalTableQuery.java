@@ -28,30 +28,49 @@ import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.RemoteLookupFile;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.LookupMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.table.FileStoreTable;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
 
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static org.apache.paimon.CoreOptions.MergeEngine.DEDUPLICATE;
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
+import static org.apache.paimon.mergetree.LookupUtils.serializedKeyComparator;
 
-/** Implementation for {@link TableQuery} for caching data and file in local. */
+/**
+ * Implementation for {@link TableQuery} for caching data and file in local. Lookups can be invoked
+ * by multiple threads concurrently with {@link #refreshFiles}.
+ *
+ * <p>If {@link CoreOptions#LOOKUP_CACHE_FILE_PREBUILD_THREADS} is positive, lookup files of newly
+ * refreshed data files are built in background.
+ */
 public class LocalTableQuery implements TableQuery {
 
     private final Map<BinaryRow, Map<Integer, LookupLevels<KeyValue>>> tableView;
@@ -62,15 +81,31 @@ public class LocalTableQuery implements TableQuery {
 
     private final KeyValueFileReaderFactory.Builder readerFactoryBuilder;
 
-    private final HashLookupStoreFactory hashLookupStoreFactory;
+    private final CacheManager cacheManager;
+    private final LookupStoreFactory lookupStoreFactory;
 
     private final int startLevel;
 
-    private IOManager ioManager;
+    private final String tableName;
+
+    private final FileIO fileIO;
+
+    private final FileStorePathFactory pathFactory;
+
+    private final long schemaId;
+
+    private final RowType valueType;
+
+    private volatile IOManager ioManager;
+
+    @Nullable private LookupMetrics lookupMetrics;
+
+    @Nullable private ExecutorService lazyPrebuildExecutor;
 
     public LocalTableQuery(FileStoreTable table) {
         this.options = table.coreOptions();
-        this.tableView = new HashMap<>();
+        this.tableName = table.name();
+        this.tableView = new ConcurrentHashMap<>();
         FileStore<?> tableStore = table.store();
         if (!(tableStore instanceof KeyValueFileStore)) {
             throw new UnsupportedOperationException(
@@ -78,14 +113,19 @@ public class LocalTableQuery implements TableQuery {
         }
         KeyValueFileStore store = (KeyValueFileStore) tableStore;
 
+        this.fileIO = table.fileIO();
+        this.pathFactory = store.pathFactory();
+        this.schemaId = table.schema().id();
         this.readerFactoryBuilder = store.newReaderFactoryBuilder();
+        this.valueType = readerFactoryBuilder.projectedValueType();
         this.keyComparatorSupplier = new KeyComparatorSupplier(readerFactoryBuilder.keyType());
-        this.hashLookupStoreFactory =
-                new HashLookupStoreFactory(
-                        new CacheManager(options.lookupCacheMaxMemory()),
-                        options.cachePageSize(),
-                        options.toConfiguration().get(CoreOptions.LOOKUP_HASH_LOAD_FACTOR),
-                        options.toConfiguration().get(CoreOptions.LOOKUP_CACHE_SPILL_COMPRESSION));
+        this.cacheManager = CacheManager.create(options);
+        this.lookupStoreFactory =
+                LookupStoreFactory.create(
+                        options,
+                        cacheManager,
+                        serializedKeyComparator(
+                                readerFactoryBuilder.keyType(), keyComparatorSupplier.get()));
 
         if (options.needLookup()) {
             startLevel = 1;
@@ -111,18 +151,24 @@ public class LocalTableQuery implements TableQuery {
             List<DataFileMeta> beforeFiles,
             List<DataFileMeta> dataFiles) {
         LookupLevels<KeyValue> lookupLevels =
-                tableView.computeIfAbsent(partition, k -> new HashMap<>()).get(bucket);
+                tableView.computeIfAbsent(partition, k -> new ConcurrentHashMap<>()).get(bucket);
         if (lookupLevels == null) {
             Preconditions.checkArgument(
                     beforeFiles.isEmpty(),
                     "The before file should be empty for the initial phase.");
-            newLookupLevels(partition, bucket, dataFiles);
+            lookupLevels = newLookupLevels(partition, bucket, dataFiles);
         } else {
-            lookupLevels.getLevels().update(beforeFiles, dataFiles);
+            lookupLevels.refreshFiles(beforeFiles, dataFiles);
         }
+
+        lookupLevels.prebuild(
+                dataFiles.stream()
+                        .filter(file -> file.level() >= startLevel)
+                        .collect(Collectors.toList()));
     }
 
-    private void newLookupLevels(BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
+    private LookupLevels<KeyValue> newLookupLevels(
+            BinaryRow partition, int bucket, List<DataFileMeta> dataFiles) {
         Levels levels = new Levels(keyComparatorSupplier.get(), dataFiles, options.numLevels());
         // TODO pass DeletionVector factory
         KeyValueFileReaderFactory factory =
@@ -145,18 +191,48 @@ public class LocalTableQuery implements TableQuery {
                                 Preconditions.checkNotNull(ioManager, "IOManager is required.")
                                         .createChannel()
                                         .getPathFile(),
-                        hashLookupStoreFactory,
+                        lookupStoreFactory,
                         options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
                         options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE),
                         bfGenerator(options));
+        lookupLevels.withMetrics(lookupMetrics);
+        // remote lookup files persist full values of the writing schema
+        if (this.options.lookupRemoteFileEnabled()
+                && readerFactoryBuilder.projectedValueType().equals(valueType)) {
+            lookupLevels.withRemoteFileLoader(
+                    new RemoteLookupFile.Loader(
+                            fileIO,
+                            pathFactory.createDataFilePathFactory(partition, bucket),
+                            lookupStoreFactory,
+                            schemaId));
+        }
+        int prebuildThreads = options.get(CoreOptions.LOOKUP_CACHE_FILE_PREBUILD_THREADS);
+        if (prebuildThreads > 0) {
+            lookupLevels.withPrebuild(
+                    prebuildExecutor(prebuildThreads),
+                    options.get(CoreOptions.LOOKUP_CACHE_FILE_PREBUILD_TIMEOUT));
+        }
+
+        tableView
+                .computeIfAbsent(partition, k -> new ConcurrentHashMap<>())
+                .put(bucket, lookupLevels);
+        return lookupLevels;
+    }
 
-        tableView.computeIfAbsent(partition, k -> new HashMap<>()).put(bucket, lookupLevels);
+    private synchronized ExecutorService prebuildExecutor(int threads) {
+        if (lazyPrebuildExecutor == null) {
+            lazyPrebuildExecutor =
+                    Executors.newFixedThreadPool(
+                            threads,
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-lookup-prebuild"));
+        }
+        return lazyPrebuildExecutor;
     }
 
-    /** TODO remove synchronized and supports multiple thread to lookup. */
     @Nullable
     @Override
-    public synchronized InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
+    public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
             throws IOException {
         Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
         if (buckets == null || buckets.isEmpty()) {
@@ -175,6 +251,29 @@ public class LocalTableQuery implements TableQuery {
         }
     }
 
+    @Override
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        List<InternalRow> values = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
+        if (buckets == null || buckets.isEmpty()) {
+            return values;
+        }
+        LookupLevels<KeyValue> lookupLevels = buckets.get(bucket);
+        if (lookupLevels == null) {
+            return values;
+        }
+
+        List<KeyValue> kvs = lookupLevels.lookupBatch(keys, startLevel);
+        for (int i = 0; i < kvs.size(); i++) {
+            KeyValue kv = kvs.get(i);
+            if (kv != null && !kv.valueKind().isRetract()) {
+                values.set(i, kv.value());
+            }
+        }
+        return values;
+    }
+
     @Override
     public LocalTableQuery withValueProjection(int[][] projection) {
         this.readerFactoryBuilder.withValueProjection(projection);
@@ -186,6 +285,12 @@ public class LocalTableQuery implements TableQuery {
         return this;
     }
 
+    public LocalTableQuery withMetricRegistry(MetricRegistry metricRegistry) {
+        this.lookupMetrics = new LookupMetrics(metricRegistry, tableName);
+        lookupMetrics.registerCacheMetrics(cacheManager);
+        return this;
+    }
+
     @Override
     public InternalRowSerializer createValueSerializer() {
         return InternalSerializers.create(readerFactoryBuilder.projectedValueType());
@@ -201,5 +306,12 @@ public class LocalTableQuery implements TableQuery {
             }
         }
         tableView.clear();
+
+        synchronized (this) {
+            if (lazyPrebuildExecutor != null) {
+                lazyPrebuildExecutor.shutdownNow();
+                lazyPrebuildExecutor = null;
+            }
+        }
     }
 }
@@ -24,6 +24,7 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.consumer.Consumer;
 import org.apache.paimon.consumer.ConsumerManager;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.table.source.snapshot.CompactedStartingScanner;
@@ -84,6 +85,20 @@ public abstract class AbstractInnerTableScan implements InnerTableScan {
         return this;
     }
 
+    public AbstractInnerTableScan withPartitionFilter(List<BinaryRow> partitions) {
+        snapshotReader.withPartitionFilter(partitions);
+        return this;
+    }
+
+    public AbstractInnerTableScan withSnapshot(long snapshotId) {
+        snapshotReader.withSnapshot(snapshotId);
+        return this;
+    }
+
+    public List<PartitionEntry> listPartitionEntries() {
+        return snapshotReader.partitionEntries();
+    }
+
     @Override
     public AbstractInnerTableScan withLevelFilter(Filter<Integer> levelFilter) {
         snapshotReader.withLevelFilter(levelFilter);
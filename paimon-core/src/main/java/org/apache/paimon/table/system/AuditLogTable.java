@@ -251,6 +251,12 @@ public class AuditLogTable implements DataTable, ReadonlyTable {
             return this;
         }
 
+        @Override
+        public SnapshotReader withPartitionFilter(List<BinaryRow> partitions) {
+            snapshotReader.withPartitionFilter(partitions);
+            return this;
+        }
+
         @Override
         public SnapshotReader withMode(ScanMode scanMode) {
             snapshotReader.withMode(scanMode);
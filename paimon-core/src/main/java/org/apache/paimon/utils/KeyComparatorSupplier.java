@@ -45,6 +45,7 @@ public class KeyComparatorSupplier implements SerializableSupplier<Comparator<In
 
     @Override
     public RecordComparator get() {
-        return newRecordComparator(inputTypes, sortFields);
+        RecordComparator comparator = PrimitiveKeyComparator.create(inputTypes);
+        return comparator != null ? comparator : newRecordComparator(inputTypes, sortFields);
     }
 }
@@ -18,9 +18,13 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.compression.BlockCompressor;
+import org.apache.paimon.compression.BlockDecompressor;
+import org.apache.paimon.data.AbstractPagedInputView;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.data.RandomAccessInputView;
 import org.apache.paimon.data.Segments;
 import org.apache.paimon.data.SimpleCollectingOutputView;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
@@ -32,25 +36,45 @@ import javax.annotation.Nullable;
 import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 
-/** Cache records to {@link SegmentsCache} by compacted serializer. */
+/**
+ * Cache records to {@link SegmentsCache} by compacted serializer.
+ *
+ * <p>Pages are compressed if the {@link SegmentsCache} has a compression. If index fields are
+ * given, the offsets of records are grouped by the values of these fields. A read whose filter is
+ * declared to only access index fields then only needs to decompress and deserialize the records of
+ * groups accepted by the filter, other reads test the filter on every record.
+ */
 public class ObjectsCache<K, V> {
 
     private final SegmentsCache<K> cache;
     private final ObjectSerializer<V> serializer;
     private final InternalRowSerializer rowSerializer;
     private final BiFunction<K, Long, CloseableIterator<InternalRow>> reader;
+    @Nullable private final int[] indexFields;
 
     public ObjectsCache(
             SegmentsCache<K> cache,
             ObjectSerializer<V> serializer,
             BiFunction<K, Long, CloseableIterator<InternalRow>> reader) {
+        this(cache, serializer, reader, null);
+    }
+
+    public ObjectsCache(
+            SegmentsCache<K> cache,
+            ObjectSerializer<V> serializer,
+            BiFunction<K, Long, CloseableIterator<InternalRow>> reader,
+            @Nullable int[] indexFields) {
         this.cache = cache;
         this.serializer = serializer;
         this.rowSerializer = new InternalRowSerializer(serializer.fieldTypes());
         this.reader = reader;
+        this.indexFields = indexFields;
     }
 
     public List<V> read(
@@ -59,12 +83,47 @@ public class ObjectsCache<K, V> {
             Filter<InternalRow> loadFilter,
             Filter<InternalRow> readFilter)
             throws IOException {
+        return read(key, fileSize, loadFilter, readFilter, null);
+    }
+
+    /**
+     * Read records of the key.
+     *
+     * @param readFilterFields fields accessed by the read filter, null if unknown
+     */
+    public List<V> read(
+            K key,
+            @Nullable Long fileSize,
+            Filter<InternalRow> loadFilter,
+            Filter<InternalRow> readFilter,
+            @Nullable int[] readFilterFields)
+            throws IOException {
         Segments segments = cache.getSegments(key, k -> readSegments(k, fileSize, loadFilter));
         List<V> entries = new ArrayList<>();
-        RandomAccessInputView view =
-                new RandomAccessInputView(
-                        segments.segments(), cache.pageSize(), segments.limitInLastSegment());
+        if (segments.segments().isEmpty()) {
+            return entries;
+        }
+
+        BlockCompressionFactory compressionFactory = cache.compressionFactory();
+        CompressedPagesInputView view =
+                new CompressedPagesInputView(
+                        segments,
+                        cache.pageSize(),
+                        compressionFactory == null ? null : compressionFactory.getDecompressor());
         BinaryRow binaryRow = new BinaryRow(rowSerializer.getArity());
+        if (readFilter != Filter.ALWAYS_TRUE
+                && coveredByIndex(readFilterFields)
+                && segments instanceof IndexedSegments
+                && ((IndexedSegments) segments).index != null) {
+            for (long offset : ((IndexedSegments) segments).offsets(readFilter)) {
+                view.setReadPosition(offset);
+                rowSerializer.mapFromPages(binaryRow, view);
+                entries.add(serializer.fromRow(binaryRow));
+            }
+            return entries;
+        }
+
+        view.setReadPosition(0);
         while (true) {
             try {
                 rowSerializer.mapFromPages(binaryRow, view);
@@ -77,22 +136,213 @@ public class ObjectsCache<K, V> {
         }
     }
 
+    private boolean coveredByIndex(@Nullable int[] fields) {
+        if (indexFields == null || fields == null) {
+            return false;
+        }
+
+        for (int field : fields) {
+            if (Arrays.stream(indexFields).noneMatch(f -> f == field)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Segments readSegments(K key, @Nullable Long fileSize, Filter<InternalRow> loadFilter) {
+        // serializers are not thread safe, different keys may be loaded concurrently
+        InternalRowSerializer rowSerializer = this.rowSerializer.duplicate();
+        InternalRow.FieldGetter[] indexGetters = null;
+        Map<BinaryRow, LongArrayBuilder> index = null;
+        if (indexFields != null) {
+            indexGetters = new InternalRow.FieldGetter[indexFields.length];
+            for (int i = 0; i < indexFields.length; i++) {
+                indexGetters[i] =
+                        InternalRow.createFieldGetter(
+                                rowSerializer.fieldTypes()[indexFields[i]], indexFields[i]);
+            }
+            index = new LinkedHashMap<>();
+        }
+
         try (CloseableIterator<InternalRow> iterator = reader.apply(key, fileSize)) {
             ArrayList<MemorySegment> segments = new ArrayList<>();
             MemorySegmentSource segmentSource =
                     () -> MemorySegment.allocateHeapMemory(cache.pageSize());
             SimpleCollectingOutputView output =
                     new SimpleCollectingOutputView(segments, segmentSource, cache.pageSize());
+            boolean empty = true;
             while (iterator.hasNext()) {
                 InternalRow row = iterator.next();
                 if (loadFilter.test(row)) {
+                    if (index != null) {
+                        GenericRow indexKey = new GenericRow(rowSerializer.getArity());
+                        for (int i = 0; i < indexFields.length; i++) {
+                            indexKey.setField(
+                                    indexFields[i], indexGetters[i].getFieldOrNull(row));
+                        }
+                        index.computeIfAbsent(
+                                        rowSerializer.toBinaryRow(indexKey).copy(),
+                                        k -> new LongArrayBuilder())
+                                .add(output.getCurrentOffset());
+                    }
                     rowSerializer.serializeToPages(row, output);
+                    empty = false;
+                }
+            }
+
+            if (empty) {
+                return new IndexedSegments(new ArrayList<>(), 0, null);
+            }
+            int limitInLastSegment = output.getCurrentPositionInSegment();
+            compress(segments, limitInLastSegment);
+            Map<BinaryRow, long[]> offsets = null;
+            if (index != null) {
+                offsets = new LinkedHashMap<>();
+                for (Map.Entry<BinaryRow, LongArrayBuilder> entry : index.entrySet()) {
+                    offsets.put(entry.getKey(), entry.getValue().build());
                 }
             }
-            return new Segments(segments, output.getCurrentPositionInSegment());
+            return new IndexedSegments(segments, limitInLastSegment, offsets);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
+
+    private void compress(ArrayList<MemorySegment> segments, int limitInLastSegment) {
+        BlockCompressionFactory compressionFactory = cache.compressionFactory();
+        if (compressionFactory == null) {
+            return;
+        }
+
+        BlockCompressor compressor = compressionFactory.getCompressor();
+        byte[] buffer = new byte[compressor.getMaxCompressedSize(cache.pageSize())];
+        for (int i = 0; i < segments.size(); i++) {
+            int length = i == segments.size() - 1 ? limitInLastSegment : cache.pageSize();
+            int compressedLength =
+                    compressor.compress(segments.get(i).getArray(), 0, length, buffer, 0);
+            segments.set(i, MemorySegment.wrap(Arrays.copyOf(buffer, compressedLength)));
+        }
+    }
+
+    /** {@link Segments} with offsets of records grouped by the values of index fields. */
+    private static class IndexedSegments extends Segments {
+
+        @Nullable private final Map<BinaryRow, long[]> index;
+
+        private IndexedSegments(
+                ArrayList<MemorySegment> segments,
+                int limitInLastSegment,
+                @Nullable Map<BinaryRow, long[]> index) {
+            super(segments, limitInLastSegment);
+            this.index = index;
+        }
+
+        /** Returns offsets of records in groups accepted by the filter, in the original order. */
+        private long[] offsets(Filter<InternalRow> filter) {
+            LongArrayBuilder builder = new LongArrayBuilder();
+            for (Map.Entry<BinaryRow, long[]> entry : index.entrySet()) {
+                if (filter.test(entry.getKey())) {
+                    builder.addAll(entry.getValue());
+                }
+            }
+            long[] offsets = builder.build();
+            Arrays.sort(offsets);
+            return offsets;
+        }
+
+        @Override
+        public long totalMemorySize() {
+            long size = super.totalMemorySize();
+            if (index != null) {
+                for (Map.Entry<BinaryRow, long[]> entry : index.entrySet()) {
+                    size += entry.getKey().getSizeInBytes() + entry.getValue().length * 8L;
+                }
+            }
+            return size;
+        }
+    }
+
+    /** A growable array of longs. */
+    private static class LongArrayBuilder {
+
+        private long[] values = new long[4];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private void addAll(long[] other) {
+            if (size + other.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(size * 2, size + other.length));
+            }
+            System.arraycopy(other, 0, values, size, other.length);
+            size += other.length;
+        }
+
+        private long[] build() {
+            return size == values.length ? values : Arrays.copyOf(values, size);
+        }
+    }
+
+    /** An {@link AbstractPagedInputView} which decompresses cached pages on demand. */
+    private static class CompressedPagesInputView extends AbstractPagedInputView {
+
+        private final List<MemorySegment> pages;
+        private final int pageSize;
+        private final int pageSizeBits;
+        private final int pageSizeMask;
+        private final int limitInLastPage;
+        @Nullable private final BlockDecompressor decompressor;
+
+        private int currentPageIndex = -1;
+
+        private CompressedPagesInputView(
+                Segments segments, int pageSize, @Nullable BlockDecompressor decompressor) {
+            this.pages = segments.segments();
+            this.pageSize = pageSize;
+            this.pageSizeBits = MathUtils.log2strict(pageSize);
+            this.pageSizeMask = pageSize - 1;
+            this.limitInLastPage = segments.limitInLastSegment();
+            this.decompressor = decompressor;
+        }
+
+        private void setReadPosition(long position) {
+            int pageIndex = (int) (position >>> pageSizeBits);
+            int offset = (int) (position & pageSizeMask);
+            MemorySegment page =
+                    pageIndex == currentPageIndex ? getCurrentSegment() : page(pageIndex);
+            currentPageIndex = pageIndex;
+            seekInput(page, offset, getLimitForSegment(page));
+        }
+
+        @Override
+        protected MemorySegment nextSegment(MemorySegment current) throws EOFException {
+            if (currentPageIndex + 1 < pages.size()) {
+                return page(++currentPageIndex);
+            } else {
+                throw new EOFException();
+            }
+        }
+
+        @Override
+        protected int getLimitForSegment(MemorySegment segment) {
+            return currentPageIndex == pages.size() - 1 ? limitInLastPage : pageSize;
+        }
+
+        private MemorySegment page(int pageIndex) {
+            MemorySegment page = pages.get(pageIndex);
+            if (decompressor == null) {
+                return page;
+            }
+
+            // decompress into a new page every time, deserialized records may point to it
+            byte[] decompressed = new byte[pageSize];
+            decompressor.decompress(page.getArray(), 0, page.size(), decompressed, 0);
+            return MemorySegment.wrap(decompressed);
+        }
+    }
 }
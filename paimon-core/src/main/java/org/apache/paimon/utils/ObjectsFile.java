@@ -57,13 +57,27 @@ public class ObjectsFile<T> {
             FormatWriterFactory writerFactory,
             PathFactory pathFactory,
             @Nullable SegmentsCache<String> cache) {
+        this(fileIO, serializer, readerFactory, writerFactory, pathFactory, cache, null);
+    }
+
+    public ObjectsFile(
+            FileIO fileIO,
+            ObjectSerializer<T> serializer,
+            FormatReaderFactory readerFactory,
+            FormatWriterFactory writerFactory,
+            PathFactory pathFactory,
+            @Nullable SegmentsCache<String> cache,
+            @Nullable int[] cacheIndexFields) {
         this.fileIO = fileIO;
         this.serializer = serializer;
         this.readerFactory = readerFactory;
         this.writerFactory = writerFactory;
         this.pathFactory = pathFactory;
         this.cache =
-                cache == null ? null : new ObjectsCache<>(cache, serializer, this::createIterator);
+                cache == null
+                        ? null
+                        : new ObjectsCache<>(
+                                cache, serializer, this::createIterator, cacheIndexFields);
     }
 
     public long fileSize(String fileName) {
@@ -88,7 +102,8 @@ public class ObjectsFile<T> {
 
     public List<T> readWithIOException(String fileName, @Nullable Long fileSize)
             throws IOException {
-        return readWithIOException(fileName, fileSize, Filter.alwaysTrue(), Filter.alwaysTrue());
+        return readWithIOException(
+                fileName, fileSize, Filter.alwaysTrue(), Filter.alwaysTrue(), null);
     }
 
     public boolean exists(String fileName) {
@@ -104,8 +119,22 @@ public class ObjectsFile<T> {
             @Nullable Long fileSize,
             Filter<InternalRow> loadFilter,
             Filter<InternalRow> readFilter) {
+        return read(fileName, fileSize, loadFilter, readFilter, null);
+    }
+
+    /**
+     * Read records of the file, {@code readFilterFields} are the fields accessed by the read
+     * filter, they allow the cache to skip records by its index. Null if unknown.
+     */
+    public List<T> read(
+            String fileName,
+            @Nullable Long fileSize,
+            Filter<InternalRow> loadFilter,
+            Filter<InternalRow> readFilter,
+            @Nullable int[] readFilterFields) {
         try {
-            return readWithIOException(fileName, fileSize, loadFilter, readFilter);
+            return readWithIOException(
+                    fileName, fileSize, loadFilter, readFilter, readFilterFields);
         } catch (IOException e) {
             throw new RuntimeException("Failed to read manifest list " + fileName, e);
         }
@@ -115,10 +144,11 @@ public class ObjectsFile<T> {
             String fileName,
             @Nullable Long fileSize,
             Filter<InternalRow> loadFilter,
-            Filter<InternalRow> readFilter)
+            Filter<InternalRow> readFilter,
+            @Nullable int[] readFilterFields)
             throws IOException {
         if (cache != null) {
-            return cache.read(fileName, fileSize, loadFilter, readFilter);
+            return cache.read(fileName, fileSize, loadFilter, readFilter, readFilterFields);
         }
 
         RecordReader<InternalRow> reader =
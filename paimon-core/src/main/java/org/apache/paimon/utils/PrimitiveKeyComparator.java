@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.types.DataType;
+
+import javax.annotation.Nullable;
+
+import java.util.List;
+
+/**
+ * {@link RecordComparator}s for keys of a single non-null integral field. They read and compare
+ * the primitive value directly, which is cheaper than the generated comparator in the hot loops
+ * of sort merging.
+ */
+public class PrimitiveKeyComparator {
+
+    /** Returns a specialized comparator for the key type, or null if it is not supported. */
+    @Nullable
+    public static RecordComparator create(List<DataType> keyTypes) {
+        if (keyTypes.size() != 1) {
+            return null;
+        }
+
+        DataType type = keyTypes.get(0);
+        if (type.isNullable()) {
+            return null;
+        }
+
+        switch (type.getTypeRoot()) {
+            case TINYINT:
+                return new ByteKeyComparator();
+            case SMALLINT:
+                return new ShortKeyComparator();
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                return new IntKeyComparator();
+            case BIGINT:
+                return new LongKeyComparator();
+            default:
+                return null;
+        }
+    }
+
+    private static final class ByteKeyComparator implements RecordComparator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(InternalRow o1, InternalRow o2) {
+            return Byte.compare(o1.getByte(0), o2.getByte(0));
+        }
+    }
+
+    private static final class ShortKeyComparator implements RecordComparator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(InternalRow o1, InternalRow o2) {
+            return Short.compare(o1.getShort(0), o2.getShort(0));
+        }
+    }
+
+    private static final class IntKeyComparator implements RecordComparator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(InternalRow o1, InternalRow o2) {
+            return Integer.compare(o1.getInt(0), o2.getInt(0));
+        }
+    }
+
+    private static final class LongKeyComparator implements RecordComparator {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public int compare(InternalRow o1, InternalRow o2) {
+            return Long.compare(o1.getLong(0), o2.getLong(0));
+        }
+    }
+}
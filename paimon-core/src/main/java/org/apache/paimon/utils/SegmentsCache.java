@@ -18,6 +18,7 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.Segments;
 import org.apache.paimon.options.MemorySize;
 
@@ -25,6 +26,8 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cach
 import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.paimon.shade.guava30.com.google.common.util.concurrent.MoreExecutors;
 
+import javax.annotation.Nullable;
+
 import java.util.function.Function;
 
 /** Cache {@link Segments}. */
@@ -34,9 +37,18 @@ public class SegmentsCache<T> {
 
     private final int pageSize;
     private final Cache<T, Segments> cache;
+    @Nullable private final BlockCompressionFactory compressionFactory;
 
     public SegmentsCache(int pageSize, MemorySize maxMemorySize) {
+        this(pageSize, maxMemorySize, null);
+    }
+
+    public SegmentsCache(
+            int pageSize,
+            MemorySize maxMemorySize,
+            @Nullable BlockCompressionFactory compressionFactory) {
         this.pageSize = pageSize;
+        this.compressionFactory = compressionFactory;
         this.cache =
                 Caffeine.newBuilder()
                         .weigher(this::weigh)
@@ -49,11 +61,17 @@ public class SegmentsCache<T> {
         return pageSize;
     }
 
+    /** Compression of cached pages, null if pages are not compressed. */
+    @Nullable
+    public BlockCompressionFactory compressionFactory() {
+        return compressionFactory;
+    }
+
     public Segments getSegments(T key, Function<T, Segments> viewFunction) {
         return cache.get(key, viewFunction);
     }
 
     private int weigh(T cacheKey, Segments segments) {
-        return OBJECT_MEMORY_SIZE + segments.segments().size() * pageSize;
+        return (int) Math.min(OBJECT_MEMORY_SIZE + segments.totalMemorySize(), Integer.MAX_VALUE);
     }
 }
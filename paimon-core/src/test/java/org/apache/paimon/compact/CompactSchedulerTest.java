@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link CompactScheduler}. */
+public class CompactSchedulerTest {
+
+    @Test
+    public void testRunByPriority() throws Exception {
+        CompactScheduler scheduler = new CompactScheduler(1, "test-compaction");
+        try {
+            // occupy the only thread so that the following tasks wait in the queue
+            CountDownLatch latch = new CountDownLatch(1);
+            scheduler.execute(
+                    () -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            List<Future<CompactResult>> futures = new ArrayList<>();
+            for (int priority : new int[] {1, 5, 3, 5, 0}) {
+                CompactTask task = new TestTask(order, priority).withPriority(priority);
+                futures.add(scheduler.submit(task));
+            }
+            assertThat(scheduler.getQueue()).hasSize(5);
+
+            latch.countDown();
+            for (Future<CompactResult> future : futures) {
+                future.get();
+            }
+            assertThat(order).containsExactly(5, 5, 3, 1, 0);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testProcessScheduler() {
+        CompactScheduler scheduler = CompactScheduler.processScheduler(2);
+        assertThat(CompactScheduler.processScheduler(1)).isSameAs(scheduler);
+        assertThat(scheduler.getMaximumPoolSize()).isGreaterThanOrEqualTo(2);
+
+        // enlarged if more threads are required
+        assertThat(CompactScheduler.processScheduler(4)).isSameAs(scheduler);
+        assertThat(scheduler.getMaximumPoolSize()).isGreaterThanOrEqualTo(4);
+        assertThat(scheduler.getCorePoolSize()).isGreaterThanOrEqualTo(4);
+    }
+
+    private static class TestTask extends CompactTask {
+
+        private final List<Integer> order;
+        private final int id;
+
+        private TestTask(List<Integer> order, int id) {
+            super(null);
+            this.order = order;
+            this.id = id;
+        }
+
+        @Override
+        protected CompactResult doCompact() {
+            order.add(id);
+            return new CompactResult();
+        }
+    }
+}
@@ -23,17 +23,23 @@ import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.manifest.PartitionEntry;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
+import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.TableTestBase;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.utils.CommonTestUtils;
 import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.TraceableFileIO;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -41,6 +47,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static org.apache.paimon.crosspartition.IndexBootstrap.filterSplit;
 import static org.apache.paimon.data.BinaryRow.EMPTY_ROW;
@@ -98,10 +105,74 @@ public class IndexBootstrapTest extends TableTestBase {
                         GenericRow.of(2, 1, 3), GenericRow.of(4, 2, 5), GenericRow.of(6, 3, 7));
         result.clear();
 
-        // In ParallelExecution, latch.countDown first, then close the reader, it may not be closed
-        // here, (this is good, beneficial for query speed) but TableTestBase.after will check leak
-        // streams. So sleep here to avoid unstable.
-        Thread.sleep(1000);
+        waitForReadersClosed();
+    }
+
+    @Test
+    public void testBootstrapPruneExpiredPartitions() throws Exception {
+        Identifier identifier = identifier("T");
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, -1);
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_INDEX_TTL, Duration.ofHours(1));
+        Schema schema =
+                Schema.newBuilder()
+                        .column("pt", DataTypes.INT())
+                        .column("col", DataTypes.INT())
+                        .column("pk", DataTypes.INT())
+                        .primaryKey("pk")
+                        .partitionKeys("pt")
+                        .options(options.toMap())
+                        .build();
+        catalog.createTable(identifier, schema, true);
+        Table table = catalog.getTable(identifier);
+
+        write(table, row(1, 1, 1, 0), row(1, 2, 2, 1));
+        long creationTime = lastFileCreationTime(table);
+        // the files of the second partition must be created at a later millisecond
+        while (System.currentTimeMillis() <= creationTime) {
+            Thread.yield();
+        }
+        write(table, row(2, 3, 3, 0), row(2, 4, 4, 1));
+        assertThat(lastFileCreationTime(table)).isGreaterThan(creationTime);
+
+        // the first partition has just expired, the second one has not
+        long currentTime = creationTime + Duration.ofHours(1).toMillis() + 1;
+        IndexBootstrap indexBootstrap = new IndexBootstrap(table);
+        List<GenericRow> result = new ArrayList<>();
+        indexBootstrap
+                .bootstrap(1, 0, currentTime)
+                .forEachRemaining(
+                        row ->
+                                result.add(
+                                        GenericRow.of(
+                                                row.getInt(0), row.getInt(1), row.getInt(2))));
+        assertThat(result)
+                .containsExactlyInAnyOrder(GenericRow.of(3, 2, 0), GenericRow.of(4, 2, 1));
+
+        waitForReadersClosed();
+    }
+
+    private long lastFileCreationTime(Table table) {
+        return ((FileStoreTable) table)
+                .newSnapshotReader()
+                .partitionEntries()
+                .stream()
+                .mapToLong(PartitionEntry::lastFileCreationTime)
+                .max()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    /**
+     * In ParallelExecution, latch.countDown first, then close the reader, it may not be closed when
+     * the bootstrap returns (this is good, beneficial for query speed), but TableTestBase.after
+     * will check leak streams.
+     */
+    private void waitForReadersClosed() throws Exception {
+        Predicate<Path> pathPredicate = path -> path.toString().contains(tempPath.toString());
+        CommonTestUtils.waitUtil(
+                () -> TraceableFileIO.openInputStreams(pathPredicate).isEmpty(),
+                Duration.ofMinutes(1),
+                Duration.ofMillis(10));
     }
 
     @Test
@@ -30,6 +30,8 @@ import org.apache.paimon.table.sink.StreamTableCommit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -56,6 +58,11 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
     }
 
     private HashBucketAssigner createAssigner(int numChannels, int numAssigners, int assignId) {
+        return createAssigner(numChannels, numAssigners, assignId, false);
+    }
+
+    private HashBucketAssigner createAssigner(
+            int numChannels, int numAssigners, int assignId, boolean offHeapIndex) {
         return new HashBucketAssigner(
                 table.snapshotManager(),
                 commitUser,
@@ -63,7 +70,8 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
                 numChannels,
                 numAssigners,
                 assignId,
-                5);
+                5,
+                offHeapIndex);
     }
 
     @Test
@@ -118,8 +126,9 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
                 new IndexIncrement(Collections.singletonList(file)));
     }
 
-    @Test
-    public void testAssignRestore() {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void testAssignRestore(boolean offHeapIndex) {
         IndexFileMeta bucket0 = fileHandler.writeHashIndex(new int[] {2, 5});
         IndexFileMeta bucket2 = fileHandler.writeHashIndex(new int[] {4, 7});
         commit.commit(
@@ -128,8 +137,8 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
                         createCommitMessage(row(1), 0, bucket0),
                         createCommitMessage(row(1), 2, bucket2)));
 
-        HashBucketAssigner assigner0 = createAssigner(3, 3, 0);
-        HashBucketAssigner assigner2 = createAssigner(3, 3, 2);
+        HashBucketAssigner assigner0 = createAssigner(3, 3, 0, offHeapIndex);
+        HashBucketAssigner assigner2 = createAssigner(3, 3, 2, offHeapIndex);
 
         // read assigned
         assertThat(assigner0.assign(row(1), 2)).isEqualTo(0);
@@ -203,4 +212,33 @@ public class HashBucketAssignerTest extends PrimaryKeyTableTestBase {
         assigner.prepareCommit(3);
         assertThat(assigner.currentPartitions()).isEmpty();
     }
+
+    @Test
+    public void testIndexEvictedByMaxEntries() {
+        HashBucketAssigner assigner = createAssigner(1, 1, 0).withMaxIndexEntries(1L);
+
+        // checkpoint 0, indexes accessed in this checkpoint are never evicted
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(2), 0)).isEqualTo(0);
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(1), row(2));
+        assigner.prepareCommit(0);
+
+        // checkpoint 1, checkpoint 0 is not committed yet
+        assertThat(assigner.assign(row(3), 0)).isEqualTo(0);
+        assertThat(assigner.currentPartitions())
+                .containsExactlyInAnyOrder(row(1), row(2), row(3));
+        commit.commit(
+                0,
+                Arrays.asList(
+                        createCommitMessage(row(1), 0, fileHandler.writeHashIndex(new int[] {0})),
+                        createCommitMessage(row(2), 0, fileHandler.writeHashIndex(new int[] {0}))));
+
+        // the least recently used committed indexes are evicted
+        assertThat(assigner.assign(row(4), 0)).isEqualTo(0);
+        assertThat(assigner.currentPartitions()).containsExactlyInAnyOrder(row(3), row(4));
+
+        // evicted index is reloaded from the index file
+        assertThat(assigner.assign(row(1), 0)).isEqualTo(0);
+        assertThat(assigner.assign(row(1), 1)).isEqualTo(0);
+    }
 }
@@ -72,7 +72,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         // no trigger Full Compaction
         List<ManifestFileMeta> actual =
                 ManifestFileMeta.merge(
-                        input, manifestFile, 500, 3, Long.MAX_VALUE, getPartitionType());
+                        input, manifestFile, 500, 3, Long.MAX_VALUE, getPartitionType(), null);
         assertThat(actual).hasSameSizeAs(expected);
 
         // these two manifest files are merged from the input
@@ -110,7 +110,8 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
                     500,
                     3,
                     fullCompactionThreshold,
-                    getPartitionType());
+                    getPartitionType(),
+                    null);
         } catch (Throwable e) {
             assertThat(e).hasRootCauseExactlyInstanceOf(FailingFileIO.ArtificialException.class);
             // old files should be kept untouched, while new files should be cleaned up
@@ -142,7 +143,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         addDeltaManifests(input, true);
         // trigger full compaction
         List<ManifestFileMeta> merged =
-                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType());
+                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType(), null);
 
         // 1st Manifest don't need to Merge
         assertSameContent(input.get(0), merged.get(0), manifestFile);
@@ -158,7 +159,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         List<ManifestFileMeta> input = createBaseManifestFileMetas(true);
 
         List<ManifestFileMeta> merged =
-                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType());
+                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType(), null);
 
         assertEquivalentEntries(input, merged);
         assertThat(merged).hasSameElementsAs(input);
@@ -170,7 +171,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         input1.add(delta);
 
         List<ManifestFileMeta> merged1 =
-                ManifestFileMeta.merge(input1, manifestFile, 500, 3, 200, getPartitionType());
+                ManifestFileMeta.merge(input1, manifestFile, 500, 3, 200, getPartitionType(), null);
 
         assertThat(base).hasSameElementsAs(merged1);
         assertEquivalentEntries(input1, merged1);
@@ -181,7 +182,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         List<ManifestFileMeta> input = new ArrayList<>();
         addDeltaManifests(input, true);
         List<ManifestFileMeta> merged =
-                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType());
+                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType(), null);
         assertEquivalentEntries(input, merged);
     }
 
@@ -207,7 +208,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         input.add(makeManifest(makeEntry(true, "G")));
 
         List<ManifestFileMeta> merged =
-                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType());
+                ManifestFileMeta.merge(input, manifestFile, 500, 3, 200, getPartitionType(), null);
         assertEquivalentEntries(input, merged);
     }
 
@@ -239,7 +240,13 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         List<ManifestFileMeta> newMetas2 = new ArrayList<>();
         Optional<List<ManifestFileMeta>> fullCompacted =
                 ManifestFileMeta.tryFullCompaction(
-                        input, newMetas2, manifestFile, 500, Long.MAX_VALUE, getPartitionType());
+                        input,
+                        newMetas2,
+                        manifestFile,
+                        500,
+                        Long.MAX_VALUE,
+                        getPartitionType(),
+                        null);
         assertThat(fullCompacted).isEmpty();
         assertThat(newMetas2).isEmpty();
 
@@ -247,7 +254,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         List<ManifestFileMeta> newMetas3 = new ArrayList<>();
         List<ManifestFileMeta> merged =
                 ManifestFileMeta.tryFullCompaction(
-                                input, newMetas3, manifestFile, 500, 100, getPartitionType())
+                                input, newMetas3, manifestFile, 500, 100, getPartitionType(), null)
                         .get();
 
         List<String> entryFileNameExptected = new ArrayList<>();
@@ -272,7 +279,7 @@ public class ManifestFileMetaTest extends ManifestFileMetaTestBase {
         List<ManifestFileMeta> newMetas = new ArrayList<>();
         List<ManifestFileMeta> mergedManifest =
                 ManifestFileMeta.tryFullCompaction(
-                                input, newMetas, manifestFile, 500, 100, getPartitionType())
+                                input, newMetas, manifestFile, 500, 100, getPartitionType(), null)
                         .get();
 
         List<String> expected = Lists.newArrayList("ADD-C2", "ADD-D2", "ADD-G");
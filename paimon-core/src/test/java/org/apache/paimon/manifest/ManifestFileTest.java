@@ -30,6 +30,7 @@ import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.stats.StatsTestUtils;
 import org.apache.paimon.utils.FailingFileIO;
 import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.ObjectsFile;
 
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.io.TempDir;
@@ -68,6 +69,25 @@ public class ManifestFileTest {
         assertThat(actualEntries).isEqualTo(entries);
     }
 
+    @RepeatedTest(10)
+    public void testReadSimpleFileEntries() {
+        List<ManifestEntry> entries = generateData();
+        ManifestFile.Factory factory = createManifestFileFactory(tempDir.toString());
+        ManifestFile manifestFile = factory.create();
+        ObjectsFile<SimpleFileEntry> simpleFileEntryReader =
+                factory.createSimpleFileEntryReader();
+
+        List<SimpleFileEntry> actualEntries =
+                manifestFile.write(entries).stream()
+                        .flatMap(
+                                m ->
+                                        simpleFileEntryReader
+                                                .read(m.fileName(), m.fileSize())
+                                                .stream())
+                        .collect(Collectors.toList());
+        assertThat(actualEntries).isEqualTo(SimpleFileEntry.from(entries));
+    }
+
     @RepeatedTest(10)
     public void testCleanUpForException() throws IOException {
         String failingName = UUID.randomUUID().toString();
@@ -94,6 +114,10 @@ public class ManifestFileTest {
     }
 
     private ManifestFile createManifestFile(String pathStr) {
+        return createManifestFileFactory(pathStr).create();
+    }
+
+    private ManifestFile.Factory createManifestFileFactory(String pathStr) {
         Path path = new Path(pathStr);
         FileStorePathFactory pathFactory =
                 new FileStorePathFactory(
@@ -104,14 +128,13 @@ public class ManifestFileTest {
         int suggestedFileSize = ThreadLocalRandom.current().nextInt(8192) + 1024;
         FileIO fileIO = FileIOFinder.find(path);
         return new ManifestFile.Factory(
-                        fileIO,
-                        new SchemaManager(fileIO, path),
-                        DEFAULT_PART_TYPE,
-                        avro,
-                        pathFactory,
-                        suggestedFileSize,
-                        null)
-                .create();
+                fileIO,
+                new SchemaManager(fileIO, path),
+                DEFAULT_PART_TYPE,
+                avro,
+                pathFactory,
+                suggestedFileSize,
+                null);
     }
 
     private void checkRollingFiles(
@@ -129,6 +152,15 @@ public class ManifestFileTest {
         assertThat(actual.stream().mapToLong(ManifestFileMeta::numDeletedFiles).sum())
                 .isEqualTo(expected.numDeletedFiles());
 
+        // check bucket ranges
+        for (ManifestFileMeta meta : actual) {
+            assertThat(meta.minBucket()).isGreaterThanOrEqualTo(expected.minBucket());
+            assertThat(meta.maxBucket()).isLessThanOrEqualTo(expected.maxBucket());
+            if (expected.totalBuckets() != null) {
+                assertThat(meta.totalBuckets()).isEqualTo(expected.totalBuckets());
+            }
+        }
+
         // check stats
         FieldStats[] fieldStats =
                 convertWithoutSchemaEvolution(expected.partitionStats(), DEFAULT_PART_TYPE);
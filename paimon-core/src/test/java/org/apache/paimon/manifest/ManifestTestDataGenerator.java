@@ -30,9 +30,11 @@ import org.apache.paimon.utils.Preconditions;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
@@ -99,8 +101,14 @@ public class ManifestTestDataGenerator {
 
         long numAddedFiles = 0;
         long numDeletedFiles = 0;
+        int minBucket = Integer.MAX_VALUE;
+        int maxBucket = Integer.MIN_VALUE;
+        Set<Integer> totalBuckets = new HashSet<>();
         for (ManifestEntry entry : entries) {
             collector.collect(entry.partition());
+            minBucket = Math.min(minBucket, entry.bucket());
+            maxBucket = Math.max(maxBucket, entry.bucket());
+            totalBuckets.add(entry.totalBuckets());
             if (entry.kind() == FileKind.ADD) {
                 numAddedFiles++;
             } else {
@@ -114,7 +122,10 @@ public class ManifestTestDataGenerator {
                 numAddedFiles,
                 numDeletedFiles,
                 serializer.toBinary(collector.extract()),
-                0);
+                0,
+                minBucket,
+                maxBucket,
+                totalBuckets.size() == 1 ? totalBuckets.iterator().next() : null);
     }
 
     private void mergeLevelsIfNeeded(BinaryRow partition, int bucket) {
@@ -26,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 import static org.apache.paimon.mergetree.compact.MergeTreeCompactManagerTest.row;
@@ -67,6 +68,32 @@ public class LevelsTest {
         assertThat(levels.allFiles()).hasSize(2);
     }
 
+    @Test
+    public void testLevel0KeyRangeRuns() {
+        List<DataFileMeta> files =
+                Arrays.asList(
+                        // two shards of the newest flush
+                        newFile(0, 0, 9, 5),
+                        newFile(0, 10, 19, 6),
+                        // overlaps with both flushes
+                        newFile(0, 0, 24, 4),
+                        // two shards of the oldest flush
+                        newFile(0, 0, 4, 1),
+                        newFile(0, 20, 29, 2),
+                        newFile(1, 0, 29, 0));
+        Levels levels = new Levels(comparator, files, 3);
+        assertThat(levels.numberOfSortedRuns()).isEqualTo(6);
+
+        levels.enableLevel0KeyRangeRuns();
+        assertThat(levels.numberOfSortedRuns()).isEqualTo(4);
+        List<LevelSortedRun> runs = levels.levelSortedRuns();
+        assertThat(runs).hasSize(4);
+        assertThat(runs.get(0).run().files()).containsExactly(files.get(0), files.get(1));
+        assertThat(runs.get(1).run().files()).containsExactly(files.get(2));
+        assertThat(runs.get(2).run().files()).containsExactly(files.get(3), files.get(4));
+        assertThat(runs.get(3).level()).isEqualTo(1);
+    }
+
     public static DataFileMeta newFile(int level) {
         return new DataFileMeta(
                 UUID.randomUUID().toString(),
@@ -83,4 +110,21 @@ public class LevelsTest {
                 0L,
                 null);
     }
+
+    private static DataFileMeta newFile(int level, int minKey, int maxKey, long maxSequence) {
+        return new DataFileMeta(
+                UUID.randomUUID().toString(),
+                0,
+                1,
+                row(minKey),
+                row(maxKey),
+                null,
+                null,
+                maxSequence,
+                maxSequence,
+                0,
+                level,
+                0L,
+                null);
+    }
 }
@@ -25,9 +25,11 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.format.FlushingFileFormat;
+import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
@@ -60,6 +62,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.apache.paimon.CoreOptions.TARGET_FILE_SIZE;
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -123,6 +129,45 @@ public class LookupLevelsTest {
         assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
     }
 
+    @Test
+    public void testLookupBatch() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 0, 7)),
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2), kv(5, 5, 3)),
+                                newFile(1, kv(7, 77, 4), kv(8, 88, 5)),
+                                newFile(2, kv(2, 22, 6), kv(5, 55, 7))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        List<InternalRow> keys = Arrays.asList(row(8), row(5), row(4), row(1), row(2), row(8));
+        List<KeyValue> kvs = lookupLevels.lookupBatch(keys, 0);
+        assertThat(kvs).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            KeyValue expected = lookupLevels.lookup(keys.get(i), 0);
+            KeyValue kv = kvs.get(i);
+            if (expected == null) {
+                assertThat(kv).isNull();
+            } else {
+                assertThat(kv).isNotNull();
+                assertThat(kv.level()).isEqualTo(expected.level());
+                assertThat(kv.sequenceNumber()).isEqualTo(expected.sequenceNumber());
+                assertThat(kv.value().getInt(1)).isEqualTo(expected.value().getInt(1));
+            }
+        }
+        assertThat(kvs.get(3).level()).isEqualTo(0);
+        assertThat(kvs.get(1).value().getInt(1)).isEqualTo(5);
+
+        // skip level 0
+        kvs = lookupLevels.lookupBatch(Collections.singletonList(row(1)), 1);
+        assertThat(kvs.get(0).value().getInt(1)).isEqualTo(11);
+
+        lookupLevels.close();
+    }
+
     @Test
     public void testMultiFiles() throws IOException {
         Levels levels =
@@ -257,6 +302,252 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testConcurrentLookupAndRefresh() throws Exception {
+        List<DataFileMeta> files = new ArrayList<>();
+        int fileNum = 10;
+        int recordInFile = 100;
+        for (int i = 0; i < fileNum; i++) {
+            List<KeyValue> kvs = new ArrayList<>();
+            for (int j = 0; j < recordInFile; j++) {
+                int key = i * recordInFile + j;
+                kvs.add(kv(key, key));
+            }
+            files.add(newFile(1, kvs.toArray(new KeyValue[0])));
+        }
+        Levels levels = new Levels(comparator, files, 3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofKibiBytes(20));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < fileNum * recordInFile; i++) {
+                                        KeyValue kv = lookupLevels.lookup(row(i), 1);
+                                        assertThat(kv).isNotNull();
+                                        assertThat(kv.value().getInt(1)).isEqualTo(i);
+                                    }
+                                    return null;
+                                }));
+            }
+
+            // move files to level 2 while looking up, keys must always be visible
+            for (DataFileMeta file : files) {
+                lookupLevels.refreshFiles(
+                        Collections.singletonList(file),
+                        Collections.singletonList(file.upgrade(2)));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(lookupLevels.getLevels().runOfLevel(2).files()).hasSize(fileNum);
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testPrebuild() throws Exception {
+        List<DataFileMeta> files = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            files.add(newFile(1, kv(i * 2, i * 2), kv(i * 2 + 1, i * 2 + 1)));
+        }
+        Levels levels = new Levels(comparator, files, 3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            lookupLevels.withPrebuild(executor, Duration.ofMinutes(1));
+            lookupLevels.prebuild(files);
+            // submit again, in-flight and finished files should be skipped
+            lookupLevels.prebuild(files);
+
+            for (int i = 0; i < 10; i++) {
+                KeyValue kv = lookupLevels.lookup(row(i), 1);
+                assertThat(kv).isNotNull();
+                assertThat(kv.value().getInt(1)).isEqualTo(i);
+            }
+            assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testLookupWhilePrebuilding() throws Exception {
+        DataFileMeta file = newFile(1, kv(1, 11), kv(2, 22), kv(3, 33));
+        Levels levels = new Levels(comparator, Collections.singletonList(file), 3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // block the builder, lookups should scan the data file after the timeout
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(
+                    () -> {
+                        try {
+                            latch.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    });
+            lookupLevels.withPrebuild(executor, Duration.ZERO);
+            lookupLevels.prebuild(Collections.singletonList(file));
+            assertThat(lookupLevels.buildingFiles()).containsKey(file.fileName());
+
+            KeyValue kv = lookupLevels.lookup(row(2), 1);
+            assertThat(kv).isNotNull();
+            assertThat(kv.value().getInt(1)).isEqualTo(22);
+            assertThat(kv.level()).isEqualTo(1);
+            assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+
+            List<KeyValue> kvs = lookupLevels.lookupBatch(Arrays.asList(row(3), row(1)), 1);
+            assertThat(kvs.get(0).value().getInt(1)).isEqualTo(33);
+            assertThat(kvs.get(1).value().getInt(1)).isEqualTo(11);
+            assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+
+            latch.countDown();
+            while (!lookupLevels.buildingFiles().isEmpty()) {
+                Thread.sleep(10);
+            }
+            assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        lookupLevels.close();
+    }
+
+    @Test
+    public void testRemoteLookupFile() throws IOException {
+        HashLookupStoreFactory storeFactory =
+                new HashLookupStoreFactory(
+                        new CacheManager(MemorySize.ofMebiBytes(1)), 2048, 0.75, "none");
+        KeyValueFileWriterFactory writerFactory =
+                createWriterFactory()
+                        .withRemoteLookupFile(
+                                storeFactory,
+                                () -> new File(tempDir.toFile(), "remote-" + UUID.randomUUID()),
+                                rowCount -> BloomFilter.builder(rowCount, 0.05));
+        RollingFileWriter<KeyValue, DataFileMeta> writer =
+                writerFactory.createRollingMergeTreeFileWriter(1, 2);
+        writer.write(kv(1, 11));
+        writer.write(kv(2, 22));
+        writer.close();
+        DataFileMeta file = writer.result().get(0);
+        assertThat(file.extraFiles())
+                .containsExactly(file.fileName() + DataFilePathFactory.LOOKUP_PATH_SUFFIX);
+
+        // the data file should not be read when the remote lookup file exists
+        LookupLevels<KeyValue> lookupLevels =
+                new LookupLevels<>(
+                                new Levels(comparator, Collections.singletonList(file), 3),
+                                comparator,
+                                keyType,
+                                new LookupLevels.KeyValueProcessor(rowType),
+                                ignore -> {
+                                    throw new IOException("Data file should not be read.");
+                                },
+                                () ->
+                                        new File(
+                                                tempDir.toFile(),
+                                                LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                                storeFactory,
+                                Duration.ofHours(1),
+                                MemorySize.ofMebiBytes(10),
+                                rowCount -> BloomFilter.builder(rowCount, 0.05))
+                        .withRemoteFileLoader(
+                                new RemoteLookupFile.Loader(
+                                        FileIOFinder.find(new Path(tempDir.toUri().toString())),
+                                        writerFactory.pathFactory(1),
+                                        storeFactory,
+                                        0));
+
+        KeyValue kv = lookupLevels.lookup(row(2), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(22);
+        assertThat(lookupLevels.lookup(row(3), 1)).isNull();
+        lookupLevels.close();
+
+        FileIO fileIO = FileIOFinder.find(new Path(tempDir.toUri().toString()));
+        Path lookupFile = writerFactory.pathFactory(1).toPath(file.extraFiles().get(0));
+        assertThat(fileIO.exists(lookupFile)).isTrue();
+        writerFactory.deleteFile(file);
+        assertThat(fileIO.exists(lookupFile)).isFalse();
+
+        // aborting a closed writer deletes the remote lookup files too
+        writer = writerFactory.createRollingMergeTreeFileWriter(1, 1);
+        writer.write(kv(1, 11));
+        writer.close();
+        file = writer.result().get(0);
+        lookupFile = writerFactory.pathFactory(1).toPath(file.extraFiles().get(0));
+        assertThat(fileIO.exists(lookupFile)).isTrue();
+        writer.abort();
+        assertThat(fileIO.exists(writerFactory.pathFactory(1).toPath(file.fileName()))).isFalse();
+        assertThat(fileIO.exists(lookupFile)).isFalse();
+    }
+
+    @Test
+    public void testRemoteLookupFileBloomFilterSizePerFile() throws IOException {
+        List<DataFileMeta> inputs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            KeyValue[] records = new KeyValue[3000];
+            for (int j = 0; j < records.length; j++) {
+                int key = i * records.length + j;
+                records[j] = kv(key, key);
+            }
+            inputs.add(newFile(1, records));
+        }
+        long inputRowCount = inputs.stream().mapToLong(DataFileMeta::rowCount).sum();
+        long inputFileSize = inputs.stream().mapToLong(DataFileMeta::fileSize).sum();
+
+        List<Long> bloomFilterRowCounts = new ArrayList<>();
+        KeyValueFileWriterFactory writerFactory =
+                createWriterFactory(inputFileSize / 4)
+                        .withRemoteLookupFile(
+                                new HashLookupStoreFactory(
+                                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                                        2048,
+                                        0.75,
+                                        "none"),
+                                () -> new File(tempDir.toFile(), "remote-" + UUID.randomUUID()),
+                                rowCount -> {
+                                    bloomFilterRowCounts.add(rowCount);
+                                    return BloomFilter.builder(rowCount, 0.05);
+                                });
+        long maxRowCountPerFile = writerFactory.maxRowCountPerFile(inputs);
+        assertThat(maxRowCountPerFile).isLessThan(inputRowCount);
+
+        RollingFileWriter<KeyValue, DataFileMeta> writer =
+                writerFactory.createRollingMergeTreeFileWriter(2, maxRowCountPerFile);
+        for (int key = 0; key < inputRowCount; key++) {
+            writer.write(kv(key, key));
+        }
+        writer.close();
+
+        // each rolled file gets a bloom filter sized for itself, not for the whole input
+        List<DataFileMeta> outputs = writer.result();
+        assertThat(outputs.size()).isGreaterThan(1);
+        assertThat(bloomFilterRowCounts)
+                .hasSize(outputs.size())
+                .allMatch(rowCount -> rowCount == maxRowCountPerFile);
+        writer.abort();
+    }
+
     private LookupLevels<KeyValue> createLookupLevels(Levels levels, MemorySize maxDiskSize) {
         return new LookupLevels<>(
                 levels,
@@ -295,6 +586,10 @@ public class LookupLevelsTest {
     }
 
     private KeyValueFileWriterFactory createWriterFactory() {
+        return createWriterFactory(TARGET_FILE_SIZE.defaultValue().getBytes());
+    }
+
+    private KeyValueFileWriterFactory createWriterFactory(long targetFileSize) {
         Path path = new Path(tempDir.toUri().toString());
         String identifier = "avro";
         Map<String, FileStorePathFactory> pathFactoryMap = new HashMap<>();
@@ -306,7 +601,7 @@ public class LookupLevelsTest {
                         rowType,
                         new FlushingFileFormat(identifier),
                         pathFactoryMap,
-                        TARGET_FILE_SIZE.defaultValue().getBytes())
+                        targetFileSize)
                 .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(new Options()));
     }
 
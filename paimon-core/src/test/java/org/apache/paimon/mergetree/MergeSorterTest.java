@@ -54,6 +54,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -129,6 +130,32 @@ public class MergeSorterTest {
                 });
     }
 
+    @TestTemplate
+    public void testConcurrentSortsSplitMemory() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.SORT_SPILL_BUFFER_SIZE, new MemorySize(MEMORY_SIZE));
+        options.set(CoreOptions.SORT_ENGINE, sortEngine);
+        // always sort with the external sort buffer
+        options.set(CoreOptions.SORT_SPILL_THRESHOLD, 2);
+        sorter = new MergeSorter(new CoreOptions(options), keyType, valueType, ioManager);
+        sorter.setSortParallelism(2);
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread thread =
+                new Thread(
+                        () -> {
+                            try {
+                                innerTest(null);
+                            } catch (Throwable t) {
+                                error.set(t);
+                            }
+                        });
+        thread.start();
+        innerTest(null);
+        thread.join();
+        assertThat(error.get()).isNull();
+    }
+
     private void innerTest(FieldsComparator userDefinedSeqComparator) throws Exception {
         Comparator<KeyValue> comparator =
                 Comparator.comparingInt((KeyValue o) -> o.key().getInt(0));
@@ -69,6 +69,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -366,6 +368,58 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor);
+            doTestWriteRead(3, 20_000);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFlushSplitByKeyRange() throws Exception {
+        // roll compaction output often to get several files in the highest level
+        recreateMergeTree(1);
+        Levels levels = ((MergeTreeCompactManager) writer.compactManager()).levels();
+        writer.withFlushKeyRangeSplit(levels, 4);
+
+        List<TestRecord> expected = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            expected.add(new TestRecord(RowKind.INSERT, i, i));
+        }
+        writeAll(expected);
+        writer.compact(true);
+        writer.sync();
+        writer.prepareCommit(true);
+
+        List<DataFileMeta> highestLevel =
+                levels.runOfLevel(levels.nonEmptyHighestLevel()).files();
+        assertThat(highestLevel.size()).isGreaterThan(1);
+
+        // one record per file of the highest level, they fit in a single flush
+        List<TestRecord> updates = new ArrayList<>();
+        for (DataFileMeta file : highestLevel) {
+            int key = file.minKey().getInt(0);
+            updates.add(new TestRecord(RowKind.INSERT, key, -key));
+        }
+        writeAll(updates);
+        expected.addAll(updates);
+        List<DataFileMeta> newFiles = writer.prepareCommit(true).newFilesIncrement().newFiles();
+
+        assertThat(newFiles.size()).isBetween(2, 4);
+        // files of one flush never overlap
+        assertThat(new IntervalPartition(newFiles, comparator).partition())
+                .hasSize(newFiles.size());
+        assertRecords(expected);
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -418,6 +472,13 @@ public abstract class MergeTreeTestBase {
 
     private MergeTreeWriter createMergeTreeWriter(
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
+        return createMergeTreeWriter(files, compactManager, null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            @Nullable ExecutorService flushExecutor) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -435,9 +496,11 @@ public abstract class MergeTreeTestBase {
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
                         null,
-                        null);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+                        null,
+                        flushExecutor);
+        // async flushing splits the memory into two buffers
+        long bufferSize = options.writeBufferSize() * (flushExecutor == null ? 1 : 2);
+        writer.setMemoryPool(new HeapMemorySegmentPool(bufferSize, options.pageSize()));
         return writer;
     }
 
@@ -625,6 +688,11 @@ public abstract class MergeTreeTestBase {
             writer.close();
             return new CompactResult(extractFilesFromSections(sections), writer.result());
         }
+
+        @Override
+        public void delete(CompactResult result) {
+            result.after().forEach(writerFactory::deleteFile);
+        }
     }
 
     private static class TestRecord {
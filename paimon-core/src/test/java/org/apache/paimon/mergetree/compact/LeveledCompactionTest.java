@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.LevelSortedRun;
+import org.apache.paimon.mergetree.Levels;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.io.DataFileTestUtils.newFile;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link LeveledCompaction}. */
+public class LeveledCompactionTest {
+
+    private final Comparator<InternalRow> comparator = Comparator.comparingInt(o -> o.getInt(0));
+
+    @Test
+    public void testTargetSize() {
+        LeveledCompaction compaction = new LeveledCompaction(comparator, 2, 100, 10);
+        assertThat(compaction.targetSize(1)).isEqualTo(100);
+        assertThat(compaction.targetSize(2)).isEqualTo(1000);
+        assertThat(compaction.targetSize(3)).isEqualTo(10000);
+        assertThat(compaction.targetSize(100)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void testPickLevel0() {
+        LeveledCompaction compaction = new LeveledCompaction(comparator, 2, 100, 10);
+
+        // not enough level 0 files
+        List<LevelSortedRun> runs =
+                runs(newFile(0, 1, 10, 5), newFile(1, 0, 3, 1), newFile(1, 15, 30, 2));
+        assertThat(compaction.pick(4, runs)).isEmpty();
+
+        // all level 0 files with the overlapping files of level 1
+        runs =
+                runs(
+                        newFile(0, 1, 10, 5),
+                        newFile(0, 5, 20, 6),
+                        newFile(1, 0, 3, 1),
+                        newFile(1, 15, 30, 2),
+                        newFile(1, 40, 50, 3));
+        Optional<CompactUnit> unit = compaction.pick(4, runs);
+        assertThat(unit).isPresent();
+        assertThat(unit.get().outputLevel()).isEqualTo(1);
+        assertThat(keyRanges(unit.get()))
+                .containsExactlyInAnyOrder("0:1-10", "0:5-20", "1:0-3", "1:15-30");
+    }
+
+    @Test
+    public void testPickFileRoundRobin() {
+        LeveledCompaction compaction = new LeveledCompaction(comparator, 2, 100, 10);
+        // level 1 exceeds its target size, level 2 does not
+        List<LevelSortedRun> runs =
+                runs(
+                        newFile(1, 1, 50, 4),
+                        newFile(1, 51, 100, 5),
+                        newFile(1, 101, 150, 6),
+                        newFile(2, 1, 60, 1),
+                        newFile(2, 61, 90, 2),
+                        newFile(2, 200, 300, 3));
+
+        CompactUnit unit = compaction.pick(4, runs).get();
+        assertThat(unit.outputLevel()).isEqualTo(2);
+        assertThat(keyRanges(unit)).containsExactly("1:1-50", "2:1-60");
+
+        unit = compaction.pick(4, runs).get();
+        assertThat(keyRanges(unit)).containsExactly("1:51-100", "2:1-60", "2:61-90");
+
+        unit = compaction.pick(4, runs).get();
+        assertThat(keyRanges(unit)).containsExactly("1:101-150");
+
+        // start over from the smallest key
+        unit = compaction.pick(4, runs).get();
+        assertThat(keyRanges(unit)).containsExactly("1:1-50", "2:1-60");
+    }
+
+    @Test
+    public void testMaxLevelUnlimited() {
+        LeveledCompaction compaction = new LeveledCompaction(comparator, 2, 100, 10);
+        List<LevelSortedRun> runs = runs(newFile(0, 1, 10, 3), newFile(3, 1, 100_000, 1));
+        assertThat(compaction.pick(4, runs)).isEmpty();
+    }
+
+    private List<LevelSortedRun> runs(DataFileMeta... files) {
+        return new Levels(comparator, Arrays.asList(files), 4).levelSortedRuns();
+    }
+
+    private static List<String> keyRanges(CompactUnit unit) {
+        return unit.files().stream()
+                .map(
+                        f ->
+                                f.level()
+                                        + ":"
+                                        + f.minKey().getInt(0)
+                                        + "-"
+                                        + f.maxKey().getInt(0))
+                .collect(Collectors.toList());
+    }
+}
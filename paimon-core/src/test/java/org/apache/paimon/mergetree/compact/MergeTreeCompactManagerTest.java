@@ -31,6 +31,9 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import javax.annotation.Nullable;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -45,6 +48,7 @@ import java.util.stream.Collectors;
 
 import static org.apache.paimon.io.DataFileTestUtils.newFile;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link MergeTreeCompactManager}. */
 public class MergeTreeCompactManagerTest {
@@ -179,6 +183,70 @@ public class MergeTreeCompactManagerTest {
                 Collections.singletonList(new LevelMinMax(2, 1, 10)));
     }
 
+    @Test
+    public void testRewriteInParallel() throws ExecutionException, InterruptedException {
+        List<LevelMinMax> inputs =
+                Arrays.asList(
+                        new LevelMinMax(0, 1, 3),
+                        new LevelMinMax(0, 10, 12),
+                        new LevelMinMax(0, 20, 22),
+                        new LevelMinMax(1, 1, 4),
+                        new LevelMinMax(1, 10, 11),
+                        new LevelMinMax(1, 20, 23));
+        // sections are rewritten as one range without a rewrite executor
+        innerTest(inputs, Collections.singletonList(new LevelMinMax(2, 1, 23)));
+
+        ExecutorService rewriteExecutor = Executors.newFixedThreadPool(2);
+        try {
+            // ranges are split by size, the last range takes the remaining sections
+            innerTest(
+                    inputs,
+                    Arrays.asList(new LevelMinMax(2, 1, 4), new LevelMinMax(2, 10, 23)),
+                    testStrategy(),
+                    false,
+                    rewriteExecutor);
+        } finally {
+            rewriteExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRewriteInParallelFailed() {
+        List<DataFileMeta> files = new ArrayList<>();
+        files.add(new LevelMinMax(0, 1, 3).toFile(0));
+        files.add(new LevelMinMax(0, 20, 22).toFile(1));
+        files.add(new LevelMinMax(1, 1, 4).toFile(2));
+        files.add(new LevelMinMax(1, 20, 23).toFile(3));
+        Levels levels = new Levels(comparator, files, 3);
+        TestRewriter rewriter = new TestRewriter(false, 21);
+        MergeTreeCompactManager manager =
+                new MergeTreeCompactManager(
+                        service,
+                        levels,
+                        testStrategy(),
+                        comparator,
+                        2,
+                        Integer.MAX_VALUE,
+                        rewriter,
+                        null,
+                        false);
+
+        ExecutorService rewriteExecutor = Executors.newFixedThreadPool(2);
+        try {
+            manager.withRewriteExecutor(rewriteExecutor, 2);
+            manager.triggerCompaction(false);
+            assertThatThrownBy(() -> manager.getCompactionResult(true))
+                    .hasRootCauseInstanceOf(IOException.class);
+        } finally {
+            rewriteExecutor.shutdownNow();
+        }
+
+        // the output of the succeeded range is deleted
+        assertThat(rewriter.deleted.stream().map(LevelMinMax::new))
+                .containsExactly(new LevelMinMax(2, 1, 4));
+        assertThat(levels.allFiles()).containsExactlyInAnyOrderElementsOf(files);
+    }
+
     private void innerTest(List<LevelMinMax> inputs, List<LevelMinMax> expected)
             throws ExecutionException, InterruptedException {
         innerTest(inputs, expected, testStrategy(), true);
@@ -190,6 +258,16 @@ public class MergeTreeCompactManagerTest {
             CompactStrategy strategy,
             boolean expectedDropDelete)
             throws ExecutionException, InterruptedException {
+        innerTest(inputs, expected, strategy, expectedDropDelete, null);
+    }
+
+    private void innerTest(
+            List<LevelMinMax> inputs,
+            List<LevelMinMax> expected,
+            CompactStrategy strategy,
+            boolean expectedDropDelete,
+            @Nullable ExecutorService rewriteExecutor)
+            throws ExecutionException, InterruptedException {
         List<DataFileMeta> files = new ArrayList<>();
         for (int i = 0; i < inputs.size(); i++) {
             LevelMinMax minMax = inputs.get(i);
@@ -207,6 +285,9 @@ public class MergeTreeCompactManagerTest {
                         new TestRewriter(expectedDropDelete),
                         null,
                         false);
+        if (rewriteExecutor != null) {
+            manager.withRewriteExecutor(rewriteExecutor, 3);
+        }
         manager.triggerCompaction(false);
         manager.getCompactionResult(true);
         List<LevelMinMax> outputs =
@@ -225,9 +306,18 @@ public class MergeTreeCompactManagerTest {
     private static class TestRewriter extends AbstractCompactRewriter {
 
         private final boolean expectedDropDelete;
+        // rewriting sections containing this key fails
+        @Nullable private final Integer failingKey;
+        private final List<DataFileMeta> deleted;
 
         private TestRewriter(boolean expectedDropDelete) {
+            this(expectedDropDelete, null);
+        }
+
+        private TestRewriter(boolean expectedDropDelete, @Nullable Integer failingKey) {
             this.expectedDropDelete = expectedDropDelete;
+            this.failingKey = failingKey;
+            this.deleted = Collections.synchronizedList(new ArrayList<>());
         }
 
         @Override
@@ -255,10 +345,18 @@ public class MergeTreeCompactManagerTest {
                     }
                 }
             }
+            if (failingKey != null && minKey <= failingKey && failingKey <= maxKey) {
+                throw new IOException("Failed to rewrite key " + failingKey + ".");
+            }
             return new CompactResult(
                     extractFilesFromSections(sections),
                     Collections.singletonList(newFile(outputLevel, minKey, maxKey, maxSequence)));
         }
+
+        @Override
+        public void delete(CompactResult result) {
+            deleted.addAll(result.after());
+        }
     }
 
     private static class LevelMinMax {
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.TestFileStore;
+import org.apache.paimon.TestKeyValueGenerator;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.SimpleFileEntry;
+import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
+import org.apache.paimon.schema.Schema;
+import org.apache.paimon.schema.SchemaManager;
+import org.apache.paimon.schema.SchemaUtils;
+import org.apache.paimon.schema.TableSchema;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.utils.BranchManager.DEFAULT_MAIN_BRANCH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link FileEntriesCache}. */
+public class FileEntriesCacheTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    private TestKeyValueGenerator gen;
+    private TestFileStore store;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        gen = new TestKeyValueGenerator();
+        Path path = new Path(tempDir.toUri());
+        TableSchema tableSchema =
+                SchemaUtils.forceCommit(
+                        new SchemaManager(new LocalFileIO(), path),
+                        new Schema(
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE.getFields(),
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE.getFieldNames(),
+                                TestKeyValueGenerator.getPrimaryKeys(
+                                        TestKeyValueGenerator.GeneratorMode.MULTI_PARTITIONED),
+                                Collections.emptyMap(),
+                                null));
+        store =
+                new TestFileStore.Builder(
+                                "avro",
+                                tempDir.toString(),
+                                2,
+                                TestKeyValueGenerator.DEFAULT_PART_TYPE,
+                                TestKeyValueGenerator.KEY_TYPE,
+                                TestKeyValueGenerator.DEFAULT_ROW_TYPE,
+                                TestKeyValueGenerator.TestKeyValueFieldsExtractor.EXTRACTOR,
+                                DeduplicateMergeFunction.factory(),
+                                tableSchema)
+                        .build();
+    }
+
+    @Test
+    public void testReadIncrementally() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        FileEntriesCache cache =
+                new FileEntriesCache(store.snapshotManager(), DEFAULT_MAIN_BRANCH, store.newScan());
+
+        for (int i = 0; i < 20; i++) {
+            List<KeyValue> data = new ArrayList<>();
+            for (int j = random.nextInt(100) + 1; j > 0; j--) {
+                data.add(gen.next());
+            }
+            Function<KeyValue, Integer> bucket = kv -> kv.key().hashCode() & 1;
+            if (random.nextInt(5) == 0) {
+                store.overwriteData(data, gen::getPartition, bucket, Collections.emptyMap());
+            } else {
+                store.commitData(data, gen::getPartition, bucket);
+            }
+
+            // skip reading some snapshots to advance over several deltas at once
+            if (random.nextBoolean()) {
+                continue;
+            }
+            Snapshot snapshot = store.snapshotManager().latestSnapshot();
+            List<BinaryRow> partitions =
+                    data.stream()
+                            .map(gen::getPartition)
+                            .distinct()
+                            .filter(p -> random.nextBoolean())
+                            .collect(Collectors.toList());
+            if (partitions.isEmpty()) {
+                continue;
+            }
+
+            List<SimpleFileEntry> expected =
+                    store.newScan()
+                            .withSnapshot(snapshot)
+                            .withPartitionFilter(partitions)
+                            .readSimpleEntries();
+            assertThat(identifiers(cache.read(snapshot, partitions)))
+                    .isEqualTo(identifiers(expected));
+        }
+    }
+
+    @Test
+    public void testReadAfterExpire() throws Exception {
+        FileEntriesCache cache =
+                new FileEntriesCache(store.snapshotManager(), DEFAULT_MAIN_BRANCH, store.newScan());
+
+        List<KeyValue> data = Collections.singletonList(gen.next());
+        List<BinaryRow> partitions = Collections.singletonList(gen.getPartition(data.get(0)));
+        store.commitData(data, gen::getPartition, kv -> 0);
+        cache.read(store.snapshotManager().latestSnapshot(), partitions);
+
+        for (int i = 0; i < 3; i++) {
+            KeyValue kv = gen.next();
+            store.commitData(Collections.singletonList(kv), k -> partitions.get(0), k -> 0);
+        }
+        store.newExpire(1, 1, 1).expire();
+
+        Snapshot snapshot = store.snapshotManager().latestSnapshot();
+        List<SimpleFileEntry> expected =
+                store.newScan()
+                        .withSnapshot(snapshot)
+                        .withPartitionFilter(partitions)
+                        .readSimpleEntries();
+        assertThat(identifiers(cache.read(snapshot, partitions))).isEqualTo(identifiers(expected));
+    }
+
+    @Test
+    public void testReadAfterRollback() throws Exception {
+        FileEntriesCache cache =
+                new FileEntriesCache(store.snapshotManager(), DEFAULT_MAIN_BRANCH, store.newScan());
+
+        KeyValue first = gen.next();
+        List<BinaryRow> partitions = Collections.singletonList(gen.getPartition(first));
+        store.commitData(Collections.singletonList(first), gen::getPartition, kv -> 0);
+        for (int i = 0; i < 2; i++) {
+            KeyValue kv = gen.next();
+            store.commitData(Collections.singletonList(kv), k -> partitions.get(0), k -> 0);
+        }
+        cache.read(store.snapshotManager().latestSnapshot(), partitions);
+
+        // roll back to snapshot 1, later commits reuse the ids of the abandoned snapshots
+        SnapshotManager snapshotManager = store.snapshotManager();
+        for (long id = 2; id <= 3; id++) {
+            snapshotManager.fileIO().delete(snapshotManager.snapshotPath(id), false);
+        }
+        snapshotManager.commitLatestHint(1);
+        for (int i = 0; i < 3; i++) {
+            KeyValue kv = gen.next();
+            store.commitData(Collections.singletonList(kv), k -> partitions.get(0), k -> 0);
+        }
+
+        Snapshot snapshot = snapshotManager.latestSnapshot();
+        assertThat(snapshot.id()).isEqualTo(4);
+        List<SimpleFileEntry> expected =
+                store.newScan()
+                        .withSnapshot(snapshot)
+                        .withPartitionFilter(partitions)
+                        .readSimpleEntries();
+        assertThat(identifiers(cache.read(snapshot, partitions))).isEqualTo(identifiers(expected));
+    }
+
+    private static Set<FileEntry.Identifier> identifiers(List<SimpleFileEntry> entries) {
+        return entries.stream().map(FileEntry::identifier).collect(Collectors.toSet());
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.fs.local.LocalFileIO;
 import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.mergetree.compact.DeduplicateMergeFunction;
@@ -225,6 +226,35 @@ public class KeyValueFileStoreScanTest {
         runTestExactMatch(scan, snapshot.id(), expected);
     }
 
+    @Test
+    public void testWithBucketSkipManifests() throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<List<KeyValue>> allData = new ArrayList<>();
+        Snapshot snapshot = null;
+        for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+            List<KeyValue> data = generateData(random.nextInt(100) + 1);
+            snapshot = writeData(data, bucket);
+            allData.add(data);
+        }
+
+        int wantedBucket = random.nextInt(NUM_BUCKETS);
+
+        // manifests without the wanted bucket must not be read, so delete them
+        ManifestList manifestList = store.manifestListFactory().create();
+        ManifestFile manifestFile = store.manifestFileFactory().create();
+        for (ManifestFileMeta manifest : snapshot.dataManifests(manifestList)) {
+            assertThat(manifest.totalBuckets()).isEqualTo(NUM_BUCKETS);
+            if (manifest.minBucket() > wantedBucket || manifest.maxBucket() < wantedBucket) {
+                manifestFile.delete(manifest.fileName());
+            }
+        }
+
+        FileStoreScan scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withBucket(wantedBucket);
+        runTestExactMatch(scan, snapshot.id(), store.toKvMap(allData.get(wantedBucket)));
+    }
+
     @Test
     public void testWithSnapshot() throws Exception {
         ThreadLocalRandom random = ThreadLocalRandom.current();
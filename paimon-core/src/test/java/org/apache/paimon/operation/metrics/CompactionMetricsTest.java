@@ -20,10 +20,13 @@ package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
 import org.apache.paimon.metrics.MetricRegistryImpl;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /** Tests for {@link CompactionMetrics}. */
@@ -56,6 +59,27 @@ public class CompactionMetricsTest {
         assertThat(getMetric(metrics, CompactionMetrics.AVG_LEVEL0_FILE_COUNT)).isEqualTo(5.0);
     }
 
+    @Test
+    public void testQueueMetrics() {
+        CompactionMetrics metrics = new CompactionMetrics(new MetricRegistryImpl(), "myTable");
+        AtomicInteger queueSize = new AtomicInteger(3);
+        metrics.registerQueueSize(queueSize::get);
+        assertThat(getMetric(metrics, CompactionMetrics.COMPACTION_QUEUE_SIZE)).isEqualTo(3);
+        queueSize.set(1);
+        assertThat(getMetric(metrics, CompactionMetrics.COMPACTION_QUEUE_SIZE)).isEqualTo(1);
+
+        CompactionMetrics.Reporter reporter = metrics.createReporter(BinaryRow.EMPTY_ROW, 0);
+        reporter.reportWaitTime(10);
+        reporter.reportWaitTime(30);
+        Histogram waitTime =
+                (Histogram)
+                        metrics.getMetricGroup()
+                                .getMetrics()
+                                .get(CompactionMetrics.COMPACTION_WAIT_TIME);
+        assertThat(waitTime.getCount()).isEqualTo(2);
+        assertThat(waitTime.getStatistics().getMean()).isEqualTo(20.0);
+    }
+
     private Object getMetric(CompactionMetrics metrics, String metricName) {
         return ((Gauge<?>) metrics.getMetricGroup().getMetrics().get(metricName)).getValue();
     }
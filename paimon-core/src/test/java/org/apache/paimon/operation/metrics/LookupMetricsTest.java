@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.io.cache.CacheKey;
+import org.apache.paimon.io.cache.CacheManager;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Histogram;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistryImpl;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link LookupMetrics}. */
+public class LookupMetricsTest {
+    private static final String TABLE_NAME = "myTable";
+
+    /** Tests the registration of the lookup metrics. */
+    @Test
+    public void testGenericMetricsRegistration() {
+        LookupMetrics lookupMetrics = getLookupMetrics();
+        MetricGroup metricGroup = lookupMetrics.getMetricGroup();
+        assertThat(metricGroup.getGroupName()).isEqualTo(LookupMetrics.GROUP_NAME);
+        Map<String, Metric> registeredMetrics = metricGroup.getMetrics();
+        assertThat(registeredMetrics.keySet())
+                .containsExactlyInAnyOrder(
+                        LookupMetrics.LOOKUP_FILE_BUILD_DURATION,
+                        LookupMetrics.LOOKUP_FILE_BUILD_QUEUE_SIZE,
+                        LookupMetrics.LOOKUP_FILE_COLD_MISSES);
+    }
+
+    /** Tests that the metrics are updated properly. */
+    @Test
+    public void testMetricsAreUpdated() {
+        LookupMetrics lookupMetrics = getLookupMetrics();
+        Map<String, Metric> registeredGenericMetrics = lookupMetrics.getMetricGroup().getMetrics();
+
+        Histogram buildDuration =
+                (Histogram)
+                        registeredGenericMetrics.get(LookupMetrics.LOOKUP_FILE_BUILD_DURATION);
+        Gauge<Integer> queueSize =
+                (Gauge<Integer>)
+                        registeredGenericMetrics.get(LookupMetrics.LOOKUP_FILE_BUILD_QUEUE_SIZE);
+        Gauge<Long> coldMisses =
+                (Gauge<Long>) registeredGenericMetrics.get(LookupMetrics.LOOKUP_FILE_COLD_MISSES);
+
+        assertThat(buildDuration.getCount()).isEqualTo(0);
+        assertThat(queueSize.getValue()).isEqualTo(0);
+        assertThat(coldMisses.getValue()).isEqualTo(0);
+
+        lookupMetrics.increasePendingBuilds();
+        lookupMetrics.increasePendingBuilds();
+        lookupMetrics.reportBuildDuration(200);
+        lookupMetrics.decreasePendingBuilds();
+        lookupMetrics.increaseColdMisses();
+
+        assertThat(buildDuration.getCount()).isEqualTo(1);
+        assertThat(buildDuration.getStatistics().getMax()).isEqualTo(200);
+        assertThat(queueSize.getValue()).isEqualTo(1);
+        assertThat(coldMisses.getValue()).isEqualTo(1);
+    }
+
+    /** Tests the metrics of the lookup cache. */
+    @Test
+    public void testCacheMetrics() {
+        LookupMetrics lookupMetrics = getLookupMetrics();
+        CacheManager cacheManager = new CacheManager(MemorySize.ofKibiBytes(10));
+        lookupMetrics.registerCacheMetrics(cacheManager);
+        Map<String, Metric> registeredMetrics = lookupMetrics.getMetricGroup().getMetrics();
+
+        Gauge<Double> hitRatio =
+                (Gauge<Double>) registeredMetrics.get(LookupMetrics.LOOKUP_CACHE_HIT_RATIO);
+        Gauge<Long> usedBytes =
+                (Gauge<Long>) registeredMetrics.get(LookupMetrics.LOOKUP_CACHE_USED_BYTES);
+        Gauge<Long> evictions =
+                (Gauge<Long>) registeredMetrics.get(LookupMetrics.LOOKUP_CACHE_EVICTIONS);
+        Histogram loadDuration =
+                (Histogram) registeredMetrics.get(LookupMetrics.LOOKUP_CACHE_PAGE_LOAD_DURATION);
+        assertThat(hitRatio.getValue()).isEqualTo(0d);
+
+        CacheKey key = CacheKey.forPosition(null, 0, 100);
+        for (int i = 0; i < 4; i++) {
+            cacheManager.getPage(key, k -> new byte[100], k -> {});
+        }
+
+        assertThat(hitRatio.getValue()).isEqualTo(0.75d);
+        assertThat(usedBytes.getValue()).isEqualTo(100);
+        assertThat(evictions.getValue()).isEqualTo(0);
+        assertThat(loadDuration.getCount()).isEqualTo(1);
+    }
+
+    private LookupMetrics getLookupMetrics() {
+        return new LookupMetrics(new MetricRegistryImpl(), TABLE_NAME);
+    }
+}
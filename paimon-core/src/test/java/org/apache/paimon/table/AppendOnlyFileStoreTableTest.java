@@ -26,6 +26,7 @@ import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.serializer.InternalRowSerializer;
 import org.apache.paimon.fileindex.FileIndexOptions;
+import org.apache.paimon.fileindex.bitmap.BitmapFileIndex;
 import org.apache.paimon.fileindex.bloomfilter.BloomFilterFileIndex;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
@@ -486,6 +487,43 @@ public class AppendOnlyFileStoreTableTest extends FileStoreTableTestBase {
         reader.forEachRemaining(row -> assertThat(row.getString(1).toString()).isEqualTo("b"));
     }
 
+    @Test
+    public void testBitmapIndexSelectsRows() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("index_column", DataTypes.STRING())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options ->
+                                options.set(
+                                        FileIndexOptions.FILE_INDEX
+                                                + "."
+                                                + BitmapFileIndex.BITMAP
+                                                + "."
+                                                + CoreOptions.COLUMNS,
+                                        "index_column"));
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        String[] values = {"a", "b", "a", "c", "b"};
+        for (int i = 0; i < values.length; i++) {
+            write.write(GenericRow.of(i, BinaryString.fromString(values[i])));
+        }
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        Predicate predicate = new PredicateBuilder(rowType).equal(1, BinaryString.fromString("b"));
+        TableScan.Plan plan = table.newScan().withFilter(predicate).plan();
+        List<Integer> ids = new ArrayList<>();
+        table.newRead()
+                .withFilter(predicate)
+                .createReader(plan.splits())
+                .forEachRemaining(row -> ids.add(row.getInt(0)));
+        assertThat(ids).containsExactly(1, 4);
+    }
+
     @Test
     public void testBloomFilterForMapField() throws Exception {
         RowType rowType =
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.utils;
 
+import org.apache.paimon.compression.BlockCompressionFactory;
 import org.apache.paimon.data.BinaryString;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
@@ -28,11 +29,13 @@ import org.apache.paimon.types.RowType;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -101,6 +104,74 @@ public class ObjectsCacheTest {
         assertThat(values).isEmpty();
     }
 
+    @Test
+    public void testCompressionAndIndex() throws IOException {
+        Map<String, List<String>> map = new HashMap<>();
+        ObjectsCache<String, String> cache =
+                new ObjectsCache<>(
+                        new SegmentsCache<>(
+                                1024,
+                                MemorySize.ofKibiBytes(50),
+                                BlockCompressionFactory.create("lz4")),
+                        new StringSerializer(),
+                        (k, size) ->
+                                CloseableIterator.adapterForIterator(
+                                        map.get(k).stream()
+                                                .map(BinaryString::fromString)
+                                                .map(GenericRow::of)
+                                                .map(r -> (InternalRow) r)
+                                                .iterator()),
+                        new int[] {0});
+
+        // test empty
+        map.put("k1", Collections.emptyList());
+        assertThat(cache.read("k1", null, Filter.alwaysTrue(), r -> true)).isEmpty();
+
+        // values span multiple pages and groups are interleaved
+        List<String> expect = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expect.add("v" + (i % 7) + "-" + i);
+        }
+        map.put("k2", expect);
+        assertThat(cache.read("k2", null, Filter.alwaysTrue(), Filter.alwaysTrue()))
+                .containsExactlyElementsOf(expect);
+
+        // test cache with index, records are returned in the original order
+        List<String> filtered =
+                expect.stream().filter(v -> v.startsWith("v2")).collect(Collectors.toList());
+        List<String> values =
+                cache.read(
+                        "k2",
+                        null,
+                        Filter.alwaysTrue(),
+                        r -> r.getString(0).toString().startsWith("v2"),
+                        new int[] {0});
+        assertThat(values).containsExactlyElementsOf(filtered);
+
+        // test filter without declared fields is tested on every record
+        values =
+                cache.read(
+                        "k2",
+                        null,
+                        Filter.alwaysTrue(),
+                        r -> r.getString(0).toString().startsWith("v2"));
+        assertThat(values).containsExactlyElementsOf(filtered);
+
+        // test index filter accepts nothing
+        assertThat(cache.read("k2", null, Filter.alwaysTrue(), r -> false, new int[] {0}))
+                .isEmpty();
+
+        // test load filter
+        map.put("k3", Arrays.asList("v1", "v2", "v3"));
+        values =
+                cache.read(
+                        "k3",
+                        null,
+                        r -> !r.getString(0).toString().endsWith("2"),
+                        r -> !r.getString(0).toString().endsWith("3"));
+        assertThat(values).containsExactly("v1");
+    }
+
     private static class StringSerializer extends ObjectSerializer<String> {
 
         public StringSerializer() {
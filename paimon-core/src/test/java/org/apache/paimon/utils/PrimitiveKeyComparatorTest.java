@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.codegen.RecordComparator;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PrimitiveKeyComparator}. */
+public class PrimitiveKeyComparatorTest {
+
+    @Test
+    public void testUnsupportedKeys() {
+        assertThat(PrimitiveKeyComparator.create(Collections.singletonList(DataTypes.INT())))
+                .isNull();
+        assertThat(
+                        PrimitiveKeyComparator.create(
+                                Collections.singletonList(DataTypes.STRING().notNull())))
+                .isNull();
+        assertThat(
+                        PrimitiveKeyComparator.create(
+                                Arrays.asList(
+                                        DataTypes.INT().notNull(), DataTypes.INT().notNull())))
+                .isNull();
+    }
+
+    @Test
+    public void testIntKey() {
+        RecordComparator comparator =
+                PrimitiveKeyComparator.create(Collections.singletonList(DataTypes.INT().notNull()));
+        assertThat(comparator).isNotNull();
+
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            int a = random.nextInt();
+            int b = random.nextInt(3) == 0 ? a : random.nextInt();
+            assertThat(Integer.signum(comparator.compare(GenericRow.of(a), GenericRow.of(b))))
+                    .isEqualTo(Integer.signum(Integer.compare(a, b)));
+        }
+    }
+
+    @Test
+    public void testLongKey() {
+        RecordComparator comparator =
+                PrimitiveKeyComparator.create(
+                        Collections.singletonList(DataTypes.BIGINT().notNull()));
+        assertThat(comparator).isNotNull();
+
+        Random random = new Random();
+        for (int i = 0; i < 1000; i++) {
+            long a = random.nextLong();
+            long b = random.nextInt(3) == 0 ? a : random.nextLong();
+            assertThat(Integer.signum(comparator.compare(GenericRow.of(a), GenericRow.of(b))))
+                    .isEqualTo(Integer.signum(Long.compare(a, b)));
+        }
+        assertThat(comparator.compare(GenericRow.of(Long.MIN_VALUE), GenericRow.of(Long.MAX_VALUE)))
+                .isNegative();
+    }
+}
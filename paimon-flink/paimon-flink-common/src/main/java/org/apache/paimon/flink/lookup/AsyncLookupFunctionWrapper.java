@@ -24,20 +24,28 @@ import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.functions.AsyncLookupFunction;
 import org.apache.flink.table.functions.FunctionContext;
 
-import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
-/** A {@link AsyncLookupFunction} to wrap sync function. */
+/**
+ * A {@link AsyncLookupFunction} to wrap sync function.
+ *
+ * <p>Keys arriving while a lookup is in progress are buffered, and the next lookup task drains them
+ * all into one {@link NewLookupFunction#lookupBatch}, so that concurrent async requests become one
+ * probe of the store.
+ */
 public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
 
     private final NewLookupFunction function;
     private final int threadNumber;
 
     private transient ExecutorService lazyExecutor;
+    private transient List<PendingLookup> pendingLookups;
 
     public AsyncLookupFunctionWrapper(NewLookupFunction function, int threadNumber) {
         this.function = function;
@@ -49,24 +57,58 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
         function.open(context);
     }
 
-    private Collection<RowData> lookup(RowData keyRow) {
+    private void lookupPending() {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         Thread.currentThread()
                 .setContextClassLoader(AsyncLookupFunctionWrapper.class.getClassLoader());
         try {
             synchronized (function) {
-                return function.lookup(keyRow);
+                List<PendingLookup> batch = drainPendingLookups();
+                if (batch.isEmpty()) {
+                    // already drained by the previous task
+                    return;
+                }
+
+                List<RowData> keyRows = new ArrayList<>(batch.size());
+                for (PendingLookup lookup : batch) {
+                    keyRows.add(lookup.keyRow);
+                }
+                try {
+                    List<Collection<RowData>> results = function.lookupBatch(keyRows);
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).future.complete(results.get(i));
+                    }
+                } catch (Throwable t) {
+                    batch.forEach(lookup -> lookup.future.completeExceptionally(t));
+                }
             }
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
         } finally {
             Thread.currentThread().setContextClassLoader(cl);
         }
     }
 
+    private synchronized List<PendingLookup> drainPendingLookups() {
+        if (pendingLookups == null || pendingLookups.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<PendingLookup> batch = pendingLookups;
+        pendingLookups = new ArrayList<>();
+        return batch;
+    }
+
+    private synchronized void addPendingLookup(PendingLookup lookup) {
+        if (pendingLookups == null) {
+            pendingLookups = new ArrayList<>();
+        }
+        pendingLookups.add(lookup);
+    }
+
     @Override
     public CompletableFuture<Collection<RowData>> asyncLookup(RowData keyRow) {
-        return CompletableFuture.supplyAsync(() -> lookup(keyRow), executor());
+        CompletableFuture<Collection<RowData>> future = new CompletableFuture<>();
+        addPendingLookup(new PendingLookup(keyRow, future));
+        executor().execute(this::lookupPending);
+        return future;
     }
 
     @Override
@@ -87,4 +129,15 @@ public class AsyncLookupFunctionWrapper extends AsyncLookupFunction {
         }
         return lazyExecutor;
     }
+
+    private static class PendingLookup {
+
+        private final RowData keyRow;
+        private final CompletableFuture<Collection<RowData>> future;
+
+        private PendingLookup(RowData keyRow, CompletableFuture<Collection<RowData>> future) {
+            this.keyRow = keyRow;
+            this.future = future;
+        }
+    }
 }
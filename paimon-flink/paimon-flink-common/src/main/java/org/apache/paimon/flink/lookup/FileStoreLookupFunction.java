@@ -228,6 +228,44 @@ public class FileStoreLookupFunction implements Serializable, Closeable {
         }
     }
 
+    /** Lookup a batch of keys, the results are in the same order as keys. */
+    public List<Collection<RowData>> lookupBatch(List<RowData> keyRows) {
+        try {
+            checkRefresh();
+
+            InternalRow partition = null;
+            if (partitionLoader != null) {
+                partition = refreshDynamicPartition(true);
+                if (partition == null) {
+                    return new ArrayList<>(
+                            Collections.nCopies(keyRows.size(), Collections.emptyList()));
+                }
+            }
+
+            List<InternalRow> keys = new ArrayList<>(keyRows.size());
+            for (RowData keyRow : keyRows) {
+                InternalRow key = new FlinkRowWrapper(keyRow);
+                keys.add(partition == null ? key : JoinedRow.join(key, partition));
+            }
+
+            List<List<InternalRow>> results = lookupTable.getBatch(keys);
+            List<Collection<RowData>> rows = new ArrayList<>(results.size());
+            for (List<InternalRow> matchedRows : results) {
+                List<RowData> matched = new ArrayList<>(matchedRows.size());
+                for (InternalRow matchedRow : matchedRows) {
+                    matched.add(new FlinkRowData(matchedRow));
+                }
+                rows.add(matched);
+            }
+            return rows;
+        } catch (OutOfRangeException e) {
+            reopen();
+            return lookupBatch(keyRows);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @Nullable
     private BinaryRow refreshDynamicPartition(boolean reopen) throws Exception {
         if (partitionLoader == null) {
@@ -23,6 +23,7 @@ import org.apache.paimon.predicate.Predicate;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /** A lookup table which provides get and refresh. */
@@ -34,5 +35,14 @@ public interface LookupTable extends Closeable {
 
     List<InternalRow> get(InternalRow key) throws IOException;
 
+    /** Lookup a batch of keys, the results are in the same order as keys. */
+    default List<List<InternalRow>> getBatch(List<InternalRow> keys) throws IOException {
+        List<List<InternalRow>> results = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            results.add(get(key));
+        }
+        return results;
+    }
+
     void refresh() throws Exception;
 }
@@ -31,6 +31,7 @@ import org.apache.paimon.table.query.LocalTableQuery;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.table.source.StreamTableScan;
+import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.ProjectedRow;
 import org.apache.paimon.utils.Projection;
 
@@ -39,8 +40,10 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -56,6 +59,7 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
     private final FixedBucketFromPkExtractor extractor;
     @Nullable private final ProjectedRow keyRearrange;
     @Nullable private final ProjectedRow trimmedKeyRearrange;
+    @Nullable private final int[] trimmedKeyMapping;
 
     private Predicate specificPartition;
     private QueryExecutor queryExecutor;
@@ -85,16 +89,17 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         this.keyRearrange = keyRearrange;
 
         List<String> trimmedPrimaryKeys = table.schema().trimmedPrimaryKeys();
-        ProjectedRow trimmedKeyRearrange = null;
+        int[] trimmedKeyMapping = null;
         if (!trimmedPrimaryKeys.equals(joinKey)) {
-            trimmedKeyRearrange =
-                    ProjectedRow.from(
-                            trimmedPrimaryKeys.stream()
-                                    .map(joinKey::indexOf)
-                                    .mapToInt(value -> value)
-                                    .toArray());
+            trimmedKeyMapping =
+                    trimmedPrimaryKeys.stream()
+                            .map(joinKey::indexOf)
+                            .mapToInt(value -> value)
+                            .toArray();
         }
-        this.trimmedKeyRearrange = trimmedKeyRearrange;
+        this.trimmedKeyMapping = trimmedKeyMapping;
+        this.trimmedKeyRearrange =
+                trimmedKeyMapping == null ? null : ProjectedRow.from(trimmedKeyMapping);
     }
 
     @VisibleForTesting
@@ -136,6 +141,48 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
         }
     }
 
+    @Override
+    public List<List<InternalRow>> getBatch(List<InternalRow> keys) throws IOException {
+        // group keys by partition and bucket, each group is looked up with one batch
+        Map<Pair<BinaryRow, Integer>, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            InternalRow adjustedKey = keys.get(i);
+            if (keyRearrange != null) {
+                adjustedKey = keyRearrange.replaceRow(adjustedKey);
+            }
+            extractor.setRecord(adjustedKey);
+            int bucket = extractor.bucket();
+            BinaryRow partition = extractor.partition().copy();
+            groups.computeIfAbsent(Pair.of(partition, bucket), k -> new ArrayList<>()).add(i);
+        }
+
+        List<List<InternalRow>> results =
+                new ArrayList<>(Collections.nCopies(keys.size(), Collections.emptyList()));
+        for (Map.Entry<Pair<BinaryRow, Integer>, List<Integer>> entry : groups.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            List<InternalRow> trimmedKeys = new ArrayList<>(indexes.size());
+            for (int index : indexes) {
+                InternalRow trimmedKey = keys.get(index);
+                if (trimmedKeyMapping != null) {
+                    // keys of a batch are held at the same time, can not reuse the projected row
+                    trimmedKey = ProjectedRow.from(trimmedKeyMapping).replaceRow(trimmedKey);
+                }
+                trimmedKeys.add(trimmedKey);
+            }
+
+            List<InternalRow> kvs =
+                    queryExecutor.lookupBatch(
+                            entry.getKey().getLeft(), entry.getKey().getRight(), trimmedKeys);
+            for (int i = 0; i < indexes.size(); i++) {
+                InternalRow kv = kvs.get(i);
+                if (kv != null) {
+                    results.set(indexes.get(i), Collections.singletonList(kv));
+                }
+            }
+        }
+        return results;
+    }
+
     @Override
     public void refresh() {
         queryExecutor.refresh();
@@ -166,6 +213,9 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
 
         InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException;
 
+        List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+                throws IOException;
+
         void refresh();
     }
 
@@ -194,6 +244,12 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             return tableQuery.lookup(partition, bucket, key);
         }
 
+        @Override
+        public List<InternalRow> lookupBatch(
+                BinaryRow partition, int bucket, List<InternalRow> keys) throws IOException {
+            return tableQuery.lookupBatch(partition, bucket, keys);
+        }
+
         @Override
         public void refresh() {
             while (true) {
@@ -237,6 +293,12 @@ public class PrimaryKeyPartialLookupTable implements LookupTable {
             return tableQuery.lookup(partition, bucket, key);
         }
 
+        @Override
+        public List<InternalRow> lookupBatch(
+                BinaryRow partition, int bucket, List<InternalRow> keys) throws IOException {
+            return tableQuery.lookupBatch(partition, bucket, keys);
+        }
+
         @Override
         public void refresh() {}
 
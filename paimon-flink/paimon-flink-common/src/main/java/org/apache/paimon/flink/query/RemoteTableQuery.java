@@ -35,6 +35,8 @@ import org.apache.paimon.utils.TypeUtils;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
@@ -89,6 +91,35 @@ public class RemoteTableQuery implements TableQuery {
         return ProjectedRow.from(projection).replaceRow(row);
     }
 
+    @Override
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        BinaryRow[] keyRows = new BinaryRow[keys.size()];
+        for (int i = 0; i < keyRows.length; i++) {
+            keyRows[i] = keySerializer.toBinaryRow(keys.get(i)).copy();
+        }
+
+        BinaryRow[] rows;
+        try {
+            // one request for all keys
+            rows = client.getValues(partition, bucket, keyRows).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        List<InternalRow> values = new ArrayList<>(rows.length);
+        for (BinaryRow row : rows) {
+            values.add(
+                    projection == null || row == null
+                            ? row
+                            : ProjectedRow.from(projection).replaceRow(row));
+        }
+        return values;
+    }
+
     @Override
     public RemoteTableQuery withValueProjection(int[] projection) {
         return withValueProjection(Projection.of(projection).toNestedIndexes());
@@ -81,13 +81,16 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
                 overwrite
                         ? new SimpleHashBucketAssigner(numberTasks, taskId, targetRowNum)
                         : new HashBucketAssigner(
-                                table.snapshotManager(),
-                                commitUser,
-                                table.store().newIndexFileHandler(),
-                                numberTasks,
-                                MathUtils.min(numAssigners, numberTasks),
-                                taskId,
-                                targetRowNum);
+                                        table.snapshotManager(),
+                                        commitUser,
+                                        table.store().newIndexFileHandler(),
+                                        numberTasks,
+                                        MathUtils.min(numAssigners, numberTasks),
+                                        taskId,
+                                        targetRowNum,
+                                        table.coreOptions().dynamicBucketIndexOffHeap())
+                                .withMaxIndexEntries(
+                                        table.coreOptions().dynamicBucketIndexMaxEntries());
         this.extractor = extractorFunction.apply(table.schema());
     }
 
@@ -104,4 +107,12 @@ public class HashBucketAssignerOperator<T> extends AbstractStreamOperator<Tuple2
     public void prepareSnapshotPreBarrier(long checkpointId) {
         assigner.prepareCommit(checkpointId);
     }
+
+    @Override
+    public void close() throws Exception {
+        super.close();
+        if (assigner != null) {
+            assigner.close();
+        }
+    }
 }
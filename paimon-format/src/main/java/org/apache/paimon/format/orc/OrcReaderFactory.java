@@ -35,6 +35,7 @@ import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.IOUtils;
 import org.apache.paimon.utils.Pair;
 import org.apache.paimon.utils.Pool;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.ql.io.sarg.SearchArgument;
@@ -106,7 +107,7 @@ public class OrcReaderFactory implements FormatReaderFactory {
                         context.filePath(),
                         0,
                         context.fileSize());
-        return new OrcVectorizedReader(orcReader, poolOfBatches);
+        return new OrcVectorizedReader(orcReader, poolOfBatches, context.selection());
     }
 
     /**
@@ -209,15 +210,24 @@ public class OrcReaderFactory implements FormatReaderFactory {
 
         private final RecordReader orcReader;
         private final Pool<OrcReaderBatch> pool;
+        @Nullable private final RoaringBitmap32 selection;
 
-        private OrcVectorizedReader(final RecordReader orcReader, final Pool<OrcReaderBatch> pool) {
+        private OrcVectorizedReader(
+                final RecordReader orcReader,
+                final Pool<OrcReaderBatch> pool,
+                @Nullable final RoaringBitmap32 selection) {
             this.orcReader = checkNotNull(orcReader, "orcReader");
             this.pool = checkNotNull(pool, "pool");
+            this.selection = selection;
         }
 
         @Nullable
         @Override
         public RecordIterator<InternalRow> readBatch() throws IOException {
+            if (!seekToNextSelectedRow()) {
+                return null;
+            }
+
             final OrcReaderBatch batch = getCachedEntry();
             final VectorizedRowBatch orcVectorBatch = batch.orcVectorizedRowBatch();
 
@@ -230,6 +240,26 @@ public class OrcReaderFactory implements FormatReaderFactory {
             return batch.convertAndGetIterator(orcVectorBatch, rowNumber);
         }
 
+        /**
+         * Seeks to the next row selected by the bitmap index, ORC skips the row groups before it
+         * by the row index. Returns false if there is no more selected row.
+         */
+        private boolean seekToNextSelectedRow() throws IOException {
+            if (selection == null) {
+                return true;
+            }
+
+            long rowNumber = orcReader.getRowNumber();
+            long nextSelected = selection.nextValue((int) rowNumber);
+            if (nextSelected < 0) {
+                return false;
+            }
+            if (nextSelected > rowNumber) {
+                orcReader.seekToRow(nextSelected);
+            }
+            return true;
+        }
+
         @Override
         public void close() throws IOException {
             orcReader.close();
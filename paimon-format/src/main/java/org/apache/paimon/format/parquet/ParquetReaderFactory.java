@@ -35,12 +35,14 @@ import org.apache.paimon.reader.RecordReader.RecordIterator;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Pool;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.ColumnDescriptor;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.Type;
@@ -104,7 +106,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
         Pool<ParquetReaderBatch> poolOfBatches =
                 createPoolOfBatches(context.filePath(), requestedSchema);
 
-        return new ParquetReader(reader, requestedSchema, reader.getRecordCount(), poolOfBatches);
+        return new ParquetReader(
+                reader,
+                requestedSchema,
+                reader.getRecordCount(),
+                poolOfBatches,
+                context.selection());
     }
 
     private void setReadOptions(ParquetReadOptions.Builder builder) {
@@ -249,6 +256,12 @@ public class ParquetReaderFactory implements FormatReaderFactory {
 
         private final Pool<ParquetReaderBatch> pool;
 
+        /** Positions of the rows to read, row groups without selected rows are skipped. */
+        @Nullable private final RoaringBitmap32 selection;
+
+        /** The index of the next row group to read. */
+        private int nextRowGroup;
+
         /** The number of rows that have been returned. */
         private long rowsReturned;
 
@@ -269,11 +282,14 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 ParquetFileReader reader,
                 MessageType requestedSchema,
                 long totalRowCount,
-                Pool<ParquetReaderBatch> pool) {
+                Pool<ParquetReaderBatch> pool,
+                @Nullable RoaringBitmap32 selection) {
             this.reader = reader;
             this.requestedSchema = requestedSchema;
             this.totalRowCount = totalRowCount;
             this.pool = pool;
+            this.selection = selection;
+            this.nextRowGroup = 0;
             this.rowsReturned = 0;
             this.totalCountLoadedSoFar = 0;
             this.currentRowPosition = 0;
@@ -303,6 +319,10 @@ public class ParquetReaderFactory implements FormatReaderFactory {
                 return false;
             }
             if (rowsReturned == totalCountLoadedSoFar) {
+                skipUnselectedRowGroups();
+                if (rowsReturned >= totalRowCount) {
+                    return false;
+                }
                 readNextRowGroup();
             }
 
@@ -321,8 +341,28 @@ public class ParquetReaderFactory implements FormatReaderFactory {
             return true;
         }
 
+        private void skipUnselectedRowGroups() {
+            if (selection == null) {
+                return;
+            }
+
+            List<BlockMetaData> rowGroups = reader.getRowGroups();
+            while (nextRowGroup < rowGroups.size()) {
+                long rowCount = rowGroups.get(nextRowGroup).getRowCount();
+                if (selection.intersects(currentRowPosition, currentRowPosition + rowCount)) {
+                    return;
+                }
+                reader.skipNextRowGroup();
+                nextRowGroup++;
+                rowsReturned += rowCount;
+                totalCountLoadedSoFar += rowCount;
+                currentRowPosition += rowCount;
+            }
+        }
+
         private void readNextRowGroup() throws IOException {
             PageReadStore pages = reader.readNextRowGroup();
+            nextRowGroup++;
             if (pages == null) {
                 throw new IOException(
                         "expecting more rows but reached last block. Read "
@@ -33,6 +33,8 @@ import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
@@ -91,9 +93,12 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
         try {
             BinaryRow[] keys = request.keys();
             BinaryRow[] values = new BinaryRow[keys.length];
+            // probe the store once for all keys of the request
+            List<InternalRow> results =
+                    this.lookup.lookupBatch(
+                            request.partition(), request.bucket(), Arrays.asList(keys));
             for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
+                InternalRow value = results.get(i);
                 if (value != null) {
                     values[i] = valueSerializer.toBinaryRow(value).copy();
                 }
@@ -104,11 +104,19 @@ case class DynamicBucketProcessor(
       numSparkPartitions,
       numAssigners,
       TaskContext.getPartitionId(),
-      targetBucketRowNumber
-    )
+      targetBucketRowNumber,
+      fileStoreTable.coreOptions.dynamicBucketIndexOffHeap
+    ).withMaxIndexEntries(fileStoreTable.coreOptions.dynamicBucketIndexMaxEntries)
 
     new Iterator[Row]() {
-      override def hasNext: Boolean = rowIterator.hasNext
+      override def hasNext: Boolean = {
+        val hasNext = rowIterator.hasNext
+        if (!hasNext) {
+          // release the off-heap index once the partition is processed
+          assigner.close()
+        }
+        hasNext
+      }
 
       override def next(): Row = {
         val row = rowIterator.next